@@ -4,11 +4,14 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
+import com.newssum.crawler.CrawlerProperties;
 import com.newssum.external.gemini.GeminiProperties;
 import com.newssum.security.JwtProperties;
+import com.newssum.service.NewsProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties({JwtProperties.class, GeminiProperties.class})
+@EnableConfigurationProperties({JwtProperties.class, GeminiProperties.class, CrawlerProperties.class,
+    NewsProperties.class})
 public class NewsSumApplication {
 
     public static void main(String[] args) {
@@ -1,26 +1,97 @@
 package com.newssum.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import com.newssum.crawler.BoundedCrawlExecutor;
+import com.newssum.crawler.CrawlerProperties;
+import com.newssum.service.NewsProperties;
+
 /**
- * 설정된 스레드 풀을 사용하여 @Async 작업을 처리한다.
+ * 크롤링, 기사 처리, 비동기 크롤링 작업의 실행기를 구성한다.
+ * 기본값은 가상 스레드이며, 동시 실행 수는 {@link BoundedCrawlExecutor} 가 제한한다.
  */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    private static final String THREAD_NAME_PREFIX = "news-crawler-";
+
     @Bean(name = "crawlerExecutor")
-    public Executor crawlerExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(4);
-        executor.setMaxPoolSize(8);
-        executor.setQueueCapacity(50);
-        executor.setThreadNamePrefix("news-crawler-");
+    public BoundedCrawlExecutor crawlerExecutor(final CrawlerProperties properties) {
+        final CrawlerProperties.CrawlExecutor config = properties.getExecutor();
+        final Executor delegate = config.getMode() == CrawlerProperties.CrawlExecutor.Mode.VIRTUAL
+            ? new VirtualThreadTaskExecutor(THREAD_NAME_PREFIX)
+            : platformExecutor(config.getMaxConcurrency());
+        return new BoundedCrawlExecutor("crawler", delegate, config.getMaxConcurrency(), config.getMaxQueued());
+    }
+
+    /**
+     * 내려받은 기사를 번역·요약하는 단계의 실행기. Gemini 응답은 스레드 없이 기다리지만
+     * 중복 확인과 저장은 MongoDB 응답 동안 스레드가 묶이므로 가상 스레드를 사용한다.
+     */
+    @Bean(name = "articleProcessingExecutor")
+    public BoundedCrawlExecutor articleProcessingExecutor(final NewsProperties properties) {
+        final NewsProperties.Processing config = properties.getProcessing();
+        return new BoundedCrawlExecutor("article-processing", new VirtualThreadTaskExecutor("article-processor-"),
+            config.getMaxConcurrency(), config.getMaxQueued());
+    }
+
+    /**
+     * 비동기 크롤링 작업을 실행한다. 작업 스레드는 크롤링이 끝날 때까지 대기하므로 가상 스레드를 사용한다.
+     */
+    @Bean(name = "crawlJobExecutor")
+    public BoundedCrawlExecutor crawlJobExecutor(final NewsProperties properties) {
+        final NewsProperties.Jobs config = properties.getJobs();
+        return new BoundedCrawlExecutor("crawl-job", new VirtualThreadTaskExecutor("crawl-job-"),
+            config.getMaxConcurrency(), config.getMaxQueued());
+    }
+
+    /**
+     * 새로 저장한 기사를 검색 색인에 더한다. 기사 저장과 응답을 막지 않도록 따로 실행하며,
+     * 대기열이 차면 저장한 스레드가 직접 색인해 MongoDB 가 느릴 때 색인이 끝없이 밀리지 않게 한다.
+     * 종료로 대기열에 남은 작업은 사라지지만, 색인 기록이 없는 기사는 {@code SearchIndexBackfill} 이 다시 색인한다.
+     */
+    @Bean(name = "searchIndexExecutor")
+    public ThreadPoolTaskExecutor searchIndexExecutor() {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1_000);
+        executor.setThreadNamePrefix("search-indexer-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Gemini 결과를 MongoDB 캐시에 쓴다. 결과를 받은 HTTP 클라이언트 스레드가 MongoDB 쓰기를 기다리지 않게 따로 실행한다.
+     * 로컬 캐시에는 이미 들어가 있으므로 대기열이 차면 MongoDB 쓰기는 버린다.
+     */
+    @Bean(name = "geminiCacheWriteExecutor")
+    public ThreadPoolTaskExecutor geminiCacheWriteExecutor() {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1_000);
+        executor.setThreadNamePrefix("gemini-cache-writer-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    private ThreadPoolTaskExecutor platformExecutor(final int poolSize) {
+        // 대기열 한도는 BoundedCrawlExecutor 가 관리하므로 풀은 동시 실행 수만큼만 둔다.
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
         executor.initialize();
         return executor;
     }
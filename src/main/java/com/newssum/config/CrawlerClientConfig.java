@@ -0,0 +1,25 @@
+package com.newssum.config;
+
+import java.net.http.HttpClient;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.newssum.crawler.CrawlerProperties;
+
+/**
+ * 크롤러가 공유하는 HTTP/2 클라이언트를 구성한다.
+ * 연결 풀과 keep-alive 는 JDK HttpClient 가 관리하므로 애플리케이션 전체에서 하나만 사용한다.
+ */
+@Configuration
+public class CrawlerClientConfig {
+
+    @Bean
+    public HttpClient crawlerHttpClient(final CrawlerProperties properties) {
+        return HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(properties.getFetch().getConnectTimeout())
+            .build();
+    }
+}
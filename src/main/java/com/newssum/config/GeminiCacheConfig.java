@@ -0,0 +1,39 @@
+package com.newssum.config;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.newssum.external.gemini.GeminiProperties;
+import com.newssum.external.gemini.GeminiResultCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Spring Cache 를 활성화하고 Gemini 결과용 2단계 캐시를 등록한다.
+ */
+@Configuration
+@EnableCaching
+public class GeminiCacheConfig {
+
+    @Bean
+    public GeminiResultCache geminiResultCache(final MongoTemplate mongoTemplate, final GeminiProperties properties,
+        final MeterRegistry meterRegistry, @Qualifier("geminiCacheWriteExecutor") final Executor writeExecutor) {
+        return new GeminiResultCache(mongoTemplate, properties.getCache().getLocalMaximumSize(), meterRegistry,
+            writeExecutor);
+    }
+
+    @Bean
+    public CacheManager cacheManager(final GeminiResultCache geminiResultCache) {
+        final SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(geminiResultCache));
+        return cacheManager;
+    }
+}
@@ -1,27 +1,28 @@
 package com.newssum.config;
 
-import java.time.Duration;
+import java.net.http.HttpClient;
 
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
 
+import com.newssum.external.gemini.GeminiHttpTransport;
 import com.newssum.external.gemini.GeminiProperties;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
- * Gemini API 호출용 RestTemplate 을 구성한다.
+ * Gemini API 호출용 HTTP 클라이언트를 구성한다.
+ * 응답을 기다리는 동안 스레드를 붙잡지 않도록 JDK HttpClient 의 비동기 전송을 사용하며,
+ * 연결 재사용과 동시 요청 수는 {@link GeminiHttpTransport} 가 관리한다.
  */
 @Configuration
 public class GeminiClientConfig {
 
     @Bean
-    public RestTemplate geminiRestTemplate(final RestTemplateBuilder builder, final GeminiProperties properties) {
-        final Duration timeout = properties.getTimeout();
-        return builder
-            .rootUri(properties.getBaseUrl())
-            .setConnectTimeout(timeout)
-            .setReadTimeout(timeout)
-            .build();
+    public GeminiHttpTransport geminiHttpTransport(final GeminiProperties properties, final MeterRegistry registry) {
+        return new GeminiHttpTransport(properties, () -> HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(properties.getTimeout())
+            .build(), registry);
     }
 }
@@ -0,0 +1,75 @@
+package com.newssum.controller;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newssum.dto.news.CrawlStreamEvent;
+
+/**
+ * 크롤링 스트림 프레임을 SSE 이벤트나 NDJSON 한 줄로 응답에 쓴다.
+ * 여러 처리 스레드가 동시에 호출하므로 쓰기를 직렬화하며, 클라이언트가 연결을 끊으면 이후 프레임은 버린다.
+ */
+final class CrawlStreamEmitter implements Consumer<CrawlStreamEvent> {
+
+    static final String NDJSON_VALUE = "application/x-ndjson";
+
+    private static final Logger log = LoggerFactory.getLogger(CrawlStreamEmitter.class);
+    private static final MediaType NDJSON_UTF8 = new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+
+    private final ResponseBodyEmitter emitter;
+    private final ObjectMapper objectMapper;
+    private volatile boolean closed;
+
+    private CrawlStreamEmitter(final ResponseBodyEmitter emitter, final ObjectMapper objectMapper) {
+        this.emitter = emitter;
+        this.objectMapper = objectMapper;
+        emitter.onCompletion(this::close);
+        emitter.onTimeout(this::close);
+        emitter.onError(error -> close());
+    }
+
+    static CrawlStreamEmitter sse(final SseEmitter emitter) {
+        return new CrawlStreamEmitter(emitter, null);
+    }
+
+    static CrawlStreamEmitter ndjson(final ResponseBodyEmitter emitter, final ObjectMapper objectMapper) {
+        return new CrawlStreamEmitter(emitter, objectMapper);
+    }
+
+    @Override
+    public synchronized void accept(final CrawlStreamEvent event) {
+        if (closed) {
+            return;
+        }
+        try {
+            if (emitter instanceof SseEmitter sseEmitter) {
+                sseEmitter.send(SseEmitter.event().name(event.getType()).data(event, MediaType.APPLICATION_JSON));
+            } else {
+                emitter.send(objectMapper.writeValueAsString(event) + "\n", NDJSON_UTF8);
+            }
+            if (CrawlStreamEvent.COMPLETE.equals(event.getType()) || CrawlStreamEvent.ERROR.equals(event.getType())) {
+                closed = true;
+                emitter.complete();
+            }
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("크롤링 스트림 프레임 직렬화 실패", ex);
+        } catch (IOException | IllegalStateException ex) {
+            // 클라이언트가 연결을 끊어도 크롤링과 저장은 계속 진행한다.
+            log.debug("크롤링 스트림 전송 중단: {}", ex.getMessage());
+            closed = true;
+        }
+    }
+
+    private void close() {
+        closed = true;
+    }
+}
@@ -1,5 +1,9 @@
 package com.newssum.controller;
 
+import java.time.Duration;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -11,15 +15,26 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.newssum.dto.common.ApiResponse;
+import com.newssum.dto.news.CrawlJobResponse;
 import com.newssum.dto.news.CrawlNewsRequest;
 import com.newssum.dto.news.CrawlNewsResponse;
 import com.newssum.dto.news.NewsArticleDetailResponse;
+import com.newssum.dto.news.NewsHistoryCursorResponse;
 import com.newssum.dto.news.NewsHistoryResponse;
+import com.newssum.dto.news.NewsSearchResponse;
+import com.newssum.dto.news.NewsTrendResponse;
 import com.newssum.security.UserPrincipal;
+import com.newssum.service.CrawlJobService;
+import com.newssum.service.CrawlStreamService;
 import com.newssum.service.NewsCrawlingService;
 import com.newssum.service.NewsQueryService;
+import com.newssum.service.NewsTrendService;
+import com.newssum.service.TrendWindow;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -33,8 +48,14 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/news")
 public class NewsController {
 
+    private static final long STREAM_TIMEOUT_MILLIS = Duration.ofMinutes(10).toMillis();
+
     private final NewsCrawlingService newsCrawlingService;
     private final NewsQueryService newsQueryService;
+    private final CrawlJobService crawlJobService;
+    private final CrawlStreamService crawlStreamService;
+    private final NewsTrendService newsTrendService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/crawl")
     @PreAuthorize("hasRole('PREMIUM')")
@@ -46,6 +67,49 @@ public class NewsController {
         return ResponseEntity.ok(ApiResponse.success(response, "뉴스 크롤링을 완료했습니다."));
     }
 
+    @PostMapping(value = "/crawl/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('PREMIUM')")
+    public SseEmitter streamCrawlNews(
+        @Valid @RequestBody final CrawlNewsRequest request,
+        @AuthenticationPrincipal final UserPrincipal principal) {
+
+        final SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        crawlStreamService.stream(request, principal.getUsername(), CrawlStreamEmitter.sse(emitter));
+        return emitter;
+    }
+
+    @PostMapping(value = "/crawl/stream", produces = CrawlStreamEmitter.NDJSON_VALUE)
+    @PreAuthorize("hasRole('PREMIUM')")
+    public ResponseBodyEmitter streamCrawlNewsAsNdjson(
+        @Valid @RequestBody final CrawlNewsRequest request,
+        @AuthenticationPrincipal final UserPrincipal principal) {
+
+        final ResponseBodyEmitter emitter = new ResponseBodyEmitter(STREAM_TIMEOUT_MILLIS);
+        crawlStreamService.stream(request, principal.getUsername(), CrawlStreamEmitter.ndjson(emitter, objectMapper));
+        return emitter;
+    }
+
+    @PostMapping("/crawl/jobs")
+    @PreAuthorize("hasRole('PREMIUM')")
+    public ResponseEntity<ApiResponse<CrawlJobResponse>> submitCrawlJob(
+        @Valid @RequestBody final CrawlNewsRequest request,
+        @AuthenticationPrincipal final UserPrincipal principal) {
+
+        final CrawlJobResponse response = crawlJobService.submit(request, principal.getUsername());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .body(ApiResponse.success(response, "크롤링 작업을 등록했습니다."));
+    }
+
+    @GetMapping("/crawl/jobs/{jobId}")
+    @PreAuthorize("hasRole('PREMIUM')")
+    public ResponseEntity<ApiResponse<CrawlJobResponse>> getCrawlJob(
+        @PathVariable final String jobId,
+        @AuthenticationPrincipal final UserPrincipal principal) {
+
+        final CrawlJobResponse response = crawlJobService.getJob(jobId, principal.getUsername());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/history")
     @PreAuthorize("hasRole('PREMIUM')")
     public ResponseEntity<ApiResponse<NewsHistoryResponse>> getHistory(
@@ -57,6 +121,40 @@ public class NewsController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/history/cursor")
+    @PreAuthorize("hasRole('PREMIUM')")
+    public ResponseEntity<ApiResponse<NewsHistoryCursorResponse>> getHistoryByCursor(
+        @AuthenticationPrincipal final UserPrincipal principal,
+        @RequestParam(required = false) final String cursor,
+        @RequestParam(defaultValue = "10") final int size) {
+
+        final NewsHistoryCursorResponse response = newsQueryService.getHistoryAfter(principal.getUsername(), cursor,
+            size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('PREMIUM')")
+    public ResponseEntity<ApiResponse<NewsSearchResponse>> search(
+        @AuthenticationPrincipal final UserPrincipal principal,
+        @RequestParam("q") final String query,
+        @RequestParam(defaultValue = "10") final int size) {
+
+        final NewsSearchResponse response = newsQueryService.search(principal.getUsername(), query, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/trends")
+    @PreAuthorize("hasRole('PREMIUM')")
+    public ResponseEntity<ApiResponse<NewsTrendResponse>> getTrends(
+        @RequestParam(defaultValue = "day") final String window,
+        @RequestParam(required = false) final String outlet,
+        @RequestParam(defaultValue = "10") final int size) {
+
+        final NewsTrendResponse response = newsTrendService.getTrends(TrendWindow.from(window), outlet, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('PREMIUM')")
     public ResponseEntity<ApiResponse<NewsArticleDetailResponse>> getArticle(
@@ -0,0 +1,189 @@
+package com.newssum.crawler;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import com.newssum.exception.CrawlingException;
+import com.newssum.exception.ErrorCode;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 동시에 실행되는 크롤링 작업 수를 제한하는 실행기.
+ * <p>
+ * 작업은 내부 대기열에 쌓였다가 실행 슬롯이 비는 대로 위임 실행기(가상 스레드 또는 플랫폼 스레드 풀)로 넘어간다.
+ * 실행 자체는 거절하지 않으며, 과부하 판단은 요청 진입 시점의 {@link #checkAdmission(int)} 에서 한다.
+ * 입장한 작업은 하위 실행기나 호스트 대기열에서 기다리는 동안에도 끝날 때까지 한도를 차지한다.
+ * {@link #limit(int)} 로 만든 하위 실행기의 대기열은 이 실행기의 대기 작업 수에 함께 센다.
+ */
+public class BoundedCrawlExecutor implements Executor, MeterBinder, DisposableBean {
+
+    private final String name;
+    private final Executor delegate;
+    private final BoundedCrawlExecutor parent;
+    private final int maxConcurrency;
+    private final int maxQueued;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued;
+    private final AtomicInteger admitted;
+    private final AtomicInteger active = new AtomicInteger();
+
+    public BoundedCrawlExecutor(final String name, final Executor delegate, final int maxConcurrency, final int maxQueued) {
+        this(name, delegate, null, maxConcurrency, maxQueued, new AtomicInteger(), new AtomicInteger());
+    }
+
+    private BoundedCrawlExecutor(final String name, final Executor delegate, final BoundedCrawlExecutor parent,
+        final int maxConcurrency, final int maxQueued, final AtomicInteger queued, final AtomicInteger admitted) {
+        this.name = name;
+        this.delegate = delegate;
+        this.parent = parent;
+        this.maxConcurrency = Math.max(maxConcurrency, 1);
+        this.maxQueued = Math.max(maxQueued, 0);
+        this.queued = queued;
+        this.admitted = admitted;
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        queued.incrementAndGet();
+        enqueue(task);
+    }
+
+    /**
+     * 새 요청의 작업 {@code taskCount} 개를 입장시킨다. 실행 중이거나 기다리는 입장 작업이
+     * 동시 실행 수와 대기열 한도의 합을 넘으면 거절한다. 호출자는 작업이 끝날 때마다
+     * {@link Admission#release()} 를 호출해야 한다.
+     *
+     * @throws CrawlingException 한도를 넘는 경우 {@link ErrorCode#CRAWLER_BUSY}
+     */
+    public Admission checkAdmission(final int taskCount) {
+        final long capacity = (long) maxConcurrency + maxQueued;
+        while (true) {
+            final int current = admitted.get();
+            if (current + (long) taskCount > capacity) {
+                throw new CrawlingException(ErrorCode.CRAWLER_BUSY);
+            }
+            if (admitted.compareAndSet(current, current + taskCount)) {
+                return new Admission(admitted, taskCount);
+            }
+        }
+    }
+
+    /**
+     * 이 실행기를 공유하면서 동시에 최대 {@code concurrency} 개만 실행하는 하위 실행기를 만든다.
+     * 한 요청이 전역 슬롯을 독점하지 않도록 요청 단위로 사용한다.
+     */
+    public Executor limit(final int concurrency) {
+        return new BoundedCrawlExecutor(name, this, this, concurrency, Integer.MAX_VALUE, queued, admitted);
+    }
+
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    public int getAdmittedCount() {
+        return admitted.get();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("crawler.executor.queued", queued, AtomicInteger::get)
+            .description("하위 실행기를 포함해 실행 슬롯을 기다리는 크롤링 작업 수")
+            .tag("name", name)
+            .register(registry);
+        Gauge.builder("crawler.executor.active", active, AtomicInteger::get)
+            .description("실행 중인 크롤링 작업 수")
+            .tag("name", name)
+            .register(registry);
+        Gauge.builder("crawler.executor.admitted", admitted, AtomicInteger::get)
+            .description("입장했지만 아직 끝나지 않은 크롤링 작업 수")
+            .tag("name", name)
+            .register(registry);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (parent == null && delegate instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
+    }
+
+    private void enqueue(final Runnable task) {
+        queue.add(task);
+        drain();
+    }
+
+    private void drain() {
+        while (!queue.isEmpty()) {
+            final int current = active.get();
+            if (current >= maxConcurrency) {
+                return;
+            }
+            if (!active.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            final Runnable next = queue.poll();
+            if (next == null) {
+                active.decrementAndGet();
+                continue;
+            }
+            final Runnable slotted = () -> {
+                try {
+                    next.run();
+                } finally {
+                    active.decrementAndGet();
+                    drain();
+                }
+            };
+            if (parent != null) {
+                // 대기 수는 최상위 실행기가 실제로 실행할 때 줄인다.
+                parent.enqueue(slotted);
+                continue;
+            }
+            queued.decrementAndGet();
+            try {
+                delegate.execute(slotted);
+            } catch (RuntimeException ex) {
+                active.decrementAndGet();
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * {@link #checkAdmission(int)} 로 입장한 작업들의 몫. 작업 하나가 끝날 때마다 하나씩 돌려준다.
+     */
+    public static final class Admission {
+
+        private final AtomicInteger admitted;
+        private final AtomicInteger remaining;
+
+        private Admission(final AtomicInteger admitted, final int taskCount) {
+            this.admitted = admitted;
+            this.remaining = new AtomicInteger(taskCount);
+        }
+
+        public void release() {
+            if (remaining.getAndUpdate(left -> Math.max(left - 1, 0)) > 0) {
+                admitted.decrementAndGet();
+            }
+        }
+
+        /**
+         * 아직 돌려주지 않은 몫을 모두 돌려준다. 작업을 시작하지 못하고 요청이 실패했을 때 사용한다.
+         */
+        public void releaseAll() {
+            admitted.addAndGet(-remaining.getAndSet(0));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.newssum.crawler;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 크롤러 동작에 필요한 설정 값을 보관한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "crawler")
+public class CrawlerProperties {
+
+    private final Robots robots = new Robots();
+    private final Fetch fetch = new Fetch();
+    private final Politeness politeness = new Politeness();
+    private final CrawlExecutor executor = new CrawlExecutor();
+
+    @Getter
+    @Setter
+    public static class Robots {
+
+        /** 호스트별 robots.txt 규칙을 캐시에 유지하는 시간. */
+        private Duration cacheTtl = Duration.ofHours(1);
+
+        /** 캐시에 보관할 최대 호스트 수. */
+        private long cacheMaximumSize = 1_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Fetch {
+
+        /** TCP/TLS 연결 수립 제한 시간. */
+        private Duration connectTimeout = Duration.ofSeconds(5);
+
+        /** 요청 하나가 응답 본문까지 받는 데 허용되는 시간. */
+        private Duration requestTimeout = Duration.ofSeconds(10);
+
+        /** 같은 호스트로 동시에 열어 둘 수 있는 최대 요청 수. */
+        private int maxConnectionsPerHost = 6;
+
+        /** 내려받을 응답 본문의 최대 크기. 초과분은 잘라낸다. */
+        private DataSize maxBodySize = DataSize.ofMegabytes(5);
+    }
+
+    @Getter
+    @Setter
+    public static class Politeness {
+
+        /** 한 호스트에 동시에 보낼 수 있는 기사 요청 수. */
+        private int maxConcurrencyPerHost = 2;
+
+        /** robots.txt 에 Crawl-delay 가 없을 때 사용할 호스트별 초당 요청 수. */
+        private double requestsPerSecond = 2.0;
+
+        /** 토큰 버킷이 한 번에 허용하는 최대 연속 요청 수. */
+        private int burst = 2;
+
+        /** Crawl-delay 가 지나치게 길 때 적용할 상한. */
+        private Duration maxCrawlDelay = Duration.ofSeconds(10);
+
+        /** 대기·실행 중인 작업이 없는 호스트의 스케줄러 상태를 정리하기까지의 시간. */
+        private Duration idleHostExpiry = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class CrawlExecutor {
+
+        /** 작업을 실행할 스레드 종류. */
+        private Mode mode = Mode.VIRTUAL;
+
+        /** 전체 요청을 통틀어 동시에 실행할 수 있는 fetch 작업 수. */
+        private int maxConcurrency = 64;
+
+        /** 요청 하나가 동시에 실행할 수 있는 fetch 작업 수. */
+        private int perRequestConcurrency = 8;
+
+        /** 실행을 기다릴 수 있는 작업 수. 초과하면 새 요청을 503 으로 거절한다. */
+        private int maxQueued = 500;
+
+        public enum Mode {
+            VIRTUAL,
+            PLATFORM
+        }
+    }
+}
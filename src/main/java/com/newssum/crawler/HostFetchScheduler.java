@@ -0,0 +1,224 @@
+package com.newssum.crawler;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 호스트별 동시 요청 수와 요청 속도를 지키면서 기사 fetch 작업을 실행기로 내보낸다.
+ * <p>
+ * 각 호스트는 자신만의 대기열과 토큰 버킷을 가지며, 한 호스트가 속도 제한에 걸려도
+ * 다른 호스트의 작업은 그대로 실행된다. 요청 속도는 robots.txt 의 Crawl-delay 로 초기화되며,
+ * Crawl-delay 가 있는 호스트는 요청 사이 간격을 지키도록 연속 요청을 허용하지 않는다.
+ * 대기 중이거나 실행 중인 작업이 없는 호스트 상태만 {@code idle-host-expiry} 뒤에 정리한다.
+ */
+@Component
+public class HostFetchScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(HostFetchScheduler.class);
+
+    private final Executor crawlerExecutor;
+    private final RobotsTxtInspector robotsTxtInspector;
+    private final CrawlerProperties.Politeness politeness;
+    private final ConcurrentMap<String, HostQueue> hostQueues = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("host-fetch-timer-%d").setDaemon(true).build());
+
+    public HostFetchScheduler(@Qualifier("crawlerExecutor") final Executor crawlerExecutor,
+        final RobotsTxtInspector robotsTxtInspector,
+        final CrawlerProperties properties) {
+        this.crawlerExecutor = crawlerExecutor;
+        this.robotsTxtInspector = robotsTxtInspector;
+        this.politeness = properties.getPoliteness();
+        final long sweepMillis = Math.max(1, politeness.getIdleHostExpiry().toMillis());
+        timer.scheduleWithFixedDelay(this::evictIdleQueues, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 대상 URL 의 호스트 대기열에 작업을 넣는다. 결과는 작업이 실제로 실행된 뒤 완료된다.
+     */
+    public <T> CompletableFuture<T> submit(final String url, final Callable<T> task) {
+        return submit(url, task, crawlerExecutor);
+    }
+
+    /**
+     * 호스트 제한을 통과한 작업을 지정한 실행기에서 실행한다. 요청 단위 동시성 제한에 사용한다.
+     */
+    public <T> CompletableFuture<T> submit(final String url, final Callable<T> task, final Executor executor) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final Runnable runnable = () -> {
+            try {
+                future.complete(task.call());
+            } catch (Exception ex) {
+                future.completeExceptionally(ex);
+            }
+        };
+        while (true) {
+            final HostQueue queue;
+            try {
+                queue = queueFor(url);
+            } catch (RuntimeException ex) {
+                future.completeExceptionally(ex);
+                return future;
+            }
+            // 정리된 직후의 대기열을 받았으면 새 대기열로 다시 넣는다.
+            if (queue.enqueue(runnable, future, executor)) {
+                return future;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    int hostCount() {
+        return hostQueues.size();
+    }
+
+    void evictIdleQueues() {
+        final long idleNanos = politeness.getIdleHostExpiry().toNanos();
+        final long now = System.nanoTime();
+        hostQueues.values().removeIf(queue -> queue.retireIfIdle(now, idleNanos));
+    }
+
+    private HostQueue queueFor(final String url) {
+        final String host = hostOf(url);
+        final HostQueue existing = hostQueues.get(host);
+        if (existing != null) {
+            return existing;
+        }
+        // robots.txt 조회가 맵을 잠그지 않도록 밖에서 만든 뒤 등록한다.
+        final HostQueue created = createQueue(host, url);
+        final HostQueue raced = hostQueues.putIfAbsent(host, created);
+        return raced != null ? raced : created;
+    }
+
+    private HostQueue createQueue(final String host, final String url) {
+        final double defaultRate = politeness.getRequestsPerSecond();
+        final Optional<Duration> crawlDelay = robotsTxtInspector.getCrawlDelay(url)
+            .map(delay -> delay.compareTo(politeness.getMaxCrawlDelay()) > 0 ? politeness.getMaxCrawlDelay() : delay)
+            .filter(delay -> !delay.isZero());
+        final double rate = crawlDelay
+            .map(delay -> Math.min(defaultRate, 1_000.0 / delay.toMillis()))
+            .orElse(defaultRate);
+        return new HostQueue(host, rate, crawlDelay.isPresent() ? 1 : politeness.getBurst());
+    }
+
+    private String hostOf(final String url) {
+        final String host = URI.create(url).getHost();
+        if (host == null) {
+            throw new IllegalArgumentException("호스트가 없는 URL: " + url);
+        }
+        return host.toLowerCase(Locale.ROOT);
+    }
+
+    private final class HostQueue {
+
+        private final String host;
+        private final TokenBucket bucket;
+        private final Deque<PendingTask> pending = new ArrayDeque<>();
+        private int inFlight;
+        private boolean wakeUpScheduled;
+        private boolean retired;
+        private long lastUsedNanos = System.nanoTime();
+
+        private HostQueue(final String host, final double permitsPerSecond, final int burst) {
+            this.host = host;
+            this.bucket = new TokenBucket(permitsPerSecond, burst, System.nanoTime());
+            log.debug("호스트 스케줄러 생성: host={}, rate={}/s, burst={}", host, permitsPerSecond, burst);
+        }
+
+        /**
+         * @return 정리된 대기열이라 넣지 못했으면 {@code false}
+         */
+        private boolean enqueue(final Runnable runnable, final CompletableFuture<?> future, final Executor executor) {
+            synchronized (this) {
+                if (retired) {
+                    return false;
+                }
+                pending.addLast(new PendingTask(runnable, future, executor));
+                lastUsedNanos = System.nanoTime();
+            }
+            dispatch();
+            return true;
+        }
+
+        private synchronized boolean retireIfIdle(final long nowNanos, final long idleNanos) {
+            if (!pending.isEmpty() || inFlight > 0 || nowNanos - lastUsedNanos < idleNanos) {
+                return false;
+            }
+            retired = true;
+            return true;
+        }
+
+        private void dispatch() {
+            synchronized (this) {
+                while (!pending.isEmpty() && inFlight < politeness.getMaxConcurrencyPerHost()) {
+                    final long waitNanos = bucket.tryConsume(System.nanoTime());
+                    if (waitNanos > 0) {
+                        scheduleWakeUp(waitNanos);
+                        return;
+                    }
+                    final PendingTask task = pending.pollFirst();
+                    inFlight++;
+                    try {
+                        task.executor().execute(() -> run(task));
+                    } catch (RuntimeException ex) {
+                        inFlight--;
+                        task.future().completeExceptionally(ex);
+                    }
+                }
+            }
+        }
+
+        private void run(final PendingTask task) {
+            try {
+                task.runnable().run();
+            } finally {
+                synchronized (this) {
+                    inFlight--;
+                    lastUsedNanos = System.nanoTime();
+                }
+                dispatch();
+            }
+        }
+
+        private void scheduleWakeUp(final long waitNanos) {
+            if (wakeUpScheduled) {
+                return;
+            }
+            wakeUpScheduled = true;
+            timer.schedule(() -> {
+                synchronized (this) {
+                    wakeUpScheduled = false;
+                }
+                dispatch();
+            }, waitNanos, TimeUnit.NANOSECONDS);
+            log.trace("호스트 속도 제한 대기: host={}, wait={}", host, Duration.ofNanos(waitNanos));
+        }
+    }
+
+    private record PendingTask(Runnable runnable, CompletableFuture<?> future, Executor executor) { }
+}
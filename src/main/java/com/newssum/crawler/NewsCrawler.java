@@ -12,16 +12,16 @@ import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import org.jsoup.HttpStatusException;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import com.newssum.exception.CrawlingException;
@@ -34,27 +34,35 @@ import com.newssum.exception.ErrorCode;
 public class NewsCrawler {
 
     private static final Logger log = LoggerFactory.getLogger(NewsCrawler.class);
-    private static final int TIMEOUT_MS = 10_000;
-    private static final String USER_AGENT = "NewsSumBot/1.0 (+https://newssum.example)";
 
     private final RobotsTxtInspector robotsTxtInspector;
+    private final PageFetcher pageFetcher;
+    private final HostFetchScheduler hostFetchScheduler;
+    private final BoundedCrawlExecutor crawlerExecutor;
+    private final int perRequestConcurrency;
 
-    public NewsCrawler(final RobotsTxtInspector robotsTxtInspector) {
+    public NewsCrawler(final RobotsTxtInspector robotsTxtInspector, final PageFetcher pageFetcher,
+        final HostFetchScheduler hostFetchScheduler,
+        @Qualifier("crawlerExecutor") final BoundedCrawlExecutor crawlerExecutor,
+        final CrawlerProperties properties) {
         this.robotsTxtInspector = robotsTxtInspector;
+        this.pageFetcher = pageFetcher;
+        this.hostFetchScheduler = hostFetchScheduler;
+        this.crawlerExecutor = crawlerExecutor;
+        this.perRequestConcurrency = properties.getExecutor().getPerRequestConcurrency();
     }
 
     public List<String> extractArticleLinks(final String sourceUrl, final int limit) {
         robotsTxtInspector.ensureAllowed(sourceUrl);
         try {
-            final Document document = Jsoup.connect(sourceUrl)
-                .userAgent(USER_AGENT)
-                .timeout(TIMEOUT_MS)
-                .get();
+            final Document document = pageFetcher.fetchDocument(sourceUrl);
             final Elements anchors = document.select("a[href]");
+            // 링크와 같은 규칙으로 정규화해야 대소문자나 끝의 점이 다른 호스트도 같은 사이트로 본다.
+            final String canonicalSource = UrlCanonicalizer.canonicalize(sourceUrl);
             final Set<String> uniqueLinks = new LinkedHashSet<>();
             for (Element anchor : anchors) {
-                final String articleUrl = anchor.absUrl("href");
-                if (isArticleCandidate(sourceUrl, articleUrl)) {
+                final String articleUrl = UrlCanonicalizer.canonicalize(anchor.absUrl("href"));
+                if (isArticleCandidate(canonicalSource, articleUrl)) {
                     uniqueLinks.add(articleUrl);
                 }
                 if (uniqueLinks.size() >= limit) {
@@ -68,45 +76,70 @@ public class NewsCrawler {
         }
     }
 
-    @Async("crawlerExecutor")
+    /**
+     * 한 요청의 기사들을 요청 단위 동시성 한도 안에서 비동기로 읽어온다. 결과 순서는 입력 순서와 같다.
+     *
+     * @throws CrawlingException 크롤링 대기열이 가득 찬 경우 {@link ErrorCode#CRAWLER_BUSY}
+     */
+    public List<CompletableFuture<Optional<CrawledArticle>>> fetchArticlesAsync(final List<String> articleUrls) {
+        final BoundedCrawlExecutor.Admission admission = crawlerExecutor.checkAdmission(articleUrls.size());
+        final Executor requestExecutor = crawlerExecutor.limit(perRequestConcurrency);
+        return articleUrls.stream()
+            .map(articleUrl -> fetchArticleAsync(articleUrl, requestExecutor)
+                .whenComplete((article, failure) -> admission.release()))
+            .toList();
+    }
+
+    /**
+     * 호스트별 속도 제한을 지키며 기사를 비동기로 읽어온다. 실패한 기사는 빈 결과로 완료된다.
+     */
     public CompletableFuture<Optional<CrawledArticle>> fetchArticleAsync(final String articleUrl) {
+        return fetchArticleAsync(articleUrl, crawlerExecutor);
+    }
+
+    private CompletableFuture<Optional<CrawledArticle>> fetchArticleAsync(final String articleUrl, final Executor executor) {
+        return hostFetchScheduler.submit(articleUrl, () -> fetchArticle(articleUrl), executor)
+            .exceptionally(ex -> {
+                log.warn("기사 크롤링 작업 실패: url={}", articleUrl, ex);
+                return Optional.empty();
+            });
+    }
+
+    private Optional<CrawledArticle> fetchArticle(final String articleUrl) {
         try {
-            final Document document = Jsoup.connect(articleUrl)
-                .userAgent(USER_AGENT)
-                .timeout(TIMEOUT_MS)
-                .get();
+            final Document document = pageFetcher.fetchDocument(articleUrl);
             final String title = extractTitle(document);
             final String content = extractContent(document);
             final LocalDateTime publishedAt = extractPublishedAt(document);
             final String language = LanguageDetector.detectLanguage(content);
             final CrawledArticle article = CrawledArticle.builder()
-                .url(articleUrl)
+                .url(UrlCanonicalizer.resolve(document, document.location()))
                 .sourceOutlet(extractSourceOutlet(articleUrl, document))
                 .title(title)
                 .content(content)
                 .language(language)
                 .publishedAt(publishedAt)
                 .build();
-            return CompletableFuture.completedFuture(Optional.of(article));
+            return Optional.of(article);
         } catch (HttpStatusException ex) {
             log.warn("기사 접근 실패(HTTP {}): url={}", ex.getStatusCode(), articleUrl);
-            return CompletableFuture.completedFuture(Optional.empty());
+            return Optional.empty();
         } catch (IOException ex) {
             log.warn("기사 크롤링 실패: url={}", articleUrl, ex);
-            return CompletableFuture.completedFuture(Optional.empty());
+            return Optional.empty();
         }
     }
 
-    private boolean isArticleCandidate(final String sourceUrl, final String articleUrl) {
+    private boolean isArticleCandidate(final String canonicalSource, final String articleUrl) {
         if (articleUrl == null || articleUrl.isBlank()) {
             return false;
         }
         if (!articleUrl.startsWith("http")) {
             return false;
         }
-        final String sourceHost = extractHost(sourceUrl);
+        final String sourceHost = extractHost(canonicalSource);
         final String articleHost = extractHost(articleUrl);
-        return sourceHost != null && sourceHost.equals(articleHost) && !articleUrl.equals(sourceUrl);
+        return sourceHost != null && sourceHost.equals(articleHost) && !articleUrl.equals(canonicalSource);
     }
 
     private String extractHost(final String url) {
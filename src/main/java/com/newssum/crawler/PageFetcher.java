@@ -0,0 +1,191 @@
+package com.newssum.crawler;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.jsoup.HttpStatusException;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공유 {@link HttpClient} 로 페이지를 내려받는 크롤러 전용 fetch 계층.
+ * <p>
+ * 연결 재사용, 호스트별 동시 연결 제한, 응답 압축 해제를 한곳에서 처리하고
+ * Jsoup 은 이 계층이 돌려준 바이트를 파싱하는 데만 사용한다.
+ * 호스트별 연결 허가는 그 호스트로 보내거나 기다리는 요청이 있는 동안만 두어, 한 번 본 호스트가 계속 쌓이지 않는다.
+ */
+@Component
+public class PageFetcher {
+
+    private static final String USER_AGENT = "NewsSumBot/1.0 (+https://newssum.example)";
+    private static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private final HttpClient crawlerHttpClient;
+    private final Duration requestTimeout;
+    private final int maxConnectionsPerHost;
+    private final int maxBodyBytes;
+    private final ConcurrentMap<String, HostPermits> hostPermits = new ConcurrentHashMap<>();
+
+    public PageFetcher(final HttpClient crawlerHttpClient, final CrawlerProperties properties) {
+        final CrawlerProperties.Fetch fetch = properties.getFetch();
+        this.crawlerHttpClient = crawlerHttpClient;
+        this.requestTimeout = fetch.getRequestTimeout();
+        this.maxConnectionsPerHost = Math.max(fetch.getMaxConnectionsPerHost(), 1);
+        this.maxBodyBytes = (int) Math.min(fetch.getMaxBodySize().toBytes(), Integer.MAX_VALUE);
+    }
+
+    public FetchedPage fetch(final String url) throws IOException {
+        final URI uri = toUri(url);
+        final String host = hostKey(uri);
+        final HostPermits permits = hostPermits.compute(host,
+            (key, current) -> (current == null ? new HostPermits(maxConnectionsPerHost) : current).join());
+        try {
+            acquire(permits.semaphore, url);
+            try {
+                return send(uri, url);
+            } finally {
+                permits.semaphore.release();
+            }
+        } finally {
+            // 이 호스트로 보내거나 기다리는 요청이 더 없으면 항목을 지운다.
+            hostPermits.computeIfPresent(host, (key, current) -> current.leave() ? null : current);
+        }
+    }
+
+    /**
+     * 페이지를 내려받아 HTML 문서로 파싱한다. 4xx/5xx 응답은 {@link HttpStatusException} 으로 알린다.
+     */
+    public Document fetchDocument(final String url) throws IOException {
+        final FetchedPage page = fetch(url);
+        if (!page.isSuccessful()) {
+            throw new HttpStatusException("HTTP error fetching URL", page.statusCode(), url);
+        }
+        final String charsetName = page.charset() == null ? null : page.charset().name();
+        return Jsoup.parse(new ByteArrayInputStream(page.body()), charsetName, page.finalUrl());
+    }
+
+    private FetchedPage send(final URI uri, final String url) throws IOException {
+        final HttpRequest request = HttpRequest.newBuilder(uri)
+            .timeout(requestTimeout)
+            .header("User-Agent", USER_AGENT)
+            .header("Accept-Encoding", ACCEPT_ENCODING)
+            .GET()
+            .build();
+        try {
+            final HttpResponse<InputStream> response = crawlerHttpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            // 압축 해제 스트림 생성이 실패해도 응답 본문은 닫히도록 본문을 먼저 자원으로 연다.
+            try (InputStream raw = response.body(); InputStream body = decode(response.headers(), raw)) {
+                return new FetchedPage(response.statusCode(), response.uri().toString(), charsetOf(response.headers()),
+                    body.readNBytes(maxBodyBytes));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("요청이 중단되었습니다: " + url, ex);
+        }
+    }
+
+    int hostCount() {
+        return hostPermits.size();
+    }
+
+    private void acquire(final Semaphore permits, final String url) throws IOException {
+        try {
+            if (!permits.tryAcquire(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IOException("호스트 연결 한도 대기 시간 초과: " + url);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("요청이 중단되었습니다: " + url, ex);
+        }
+    }
+
+    private InputStream decode(final HttpHeaders headers, final InputStream body) throws IOException {
+        final String encoding = headers.firstValue("Content-Encoding").orElse("").trim().toLowerCase(Locale.ROOT);
+        return switch (encoding) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(body);
+            case "deflate" -> new InflaterInputStream(body);
+            default -> body;
+        };
+    }
+
+    private Charset charsetOf(final HttpHeaders headers) {
+        final String contentType = headers.firstValue("Content-Type").orElse("");
+        for (String parameter : contentType.split(";")) {
+            final String trimmed = parameter.trim();
+            if (trimmed.toLowerCase(Locale.ROOT).startsWith("charset=")) {
+                final String name = trimmed.substring("charset=".length()).replace("\"", "").trim();
+                try {
+                    return Charset.forName(name);
+                } catch (IllegalArgumentException ex) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private URI toUri(final String url) throws IOException {
+        try {
+            return URI.create(url);
+        } catch (IllegalArgumentException ex) {
+            throw new IOException("올바르지 않은 URL: " + url, ex);
+        }
+    }
+
+    private String hostKey(final URI uri) {
+        return uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 호스트 하나의 연결 허가와 이를 쓰거나 기다리는 요청 수. 요청 수는 맵의 {@code compute} 안에서만 바꾼다.
+     */
+    private static final class HostPermits {
+
+        private final Semaphore semaphore;
+        private int users;
+
+        private HostPermits(final int permits) {
+            this.semaphore = new Semaphore(permits);
+        }
+
+        private HostPermits join() {
+            users++;
+            return this;
+        }
+
+        private boolean leave() {
+            return --users == 0;
+        }
+    }
+
+    /**
+     * 내려받은 응답. {@code charset} 은 Content-Type 헤더에 명시된 경우에만 채워진다.
+     */
+    public record FetchedPage(int statusCode, String finalUrl, Charset charset, byte[] body) {
+
+        public boolean isSuccessful() {
+            return statusCode >= 200 && statusCode < 300;
+        }
+
+        public String bodyAsString() {
+            return new String(body, charset == null ? StandardCharsets.UTF_8 : charset);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.newssum.crawler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 특정 user-agent 에 적용되는 robots.txt 규칙 묶음.
+ * <p>
+ * RFC 9309 방식으로 그룹을 선택하고 가장 긴 경로 패턴이 우선하며, 길이가 같으면 Allow 가 이긴다.
+ */
+public final class RobotsRules {
+
+    private static final RobotsRules ALLOW_ALL = new RobotsRules(List.of(), null);
+    private static final String WILDCARD_AGENT = "*";
+
+    private final List<Rule> rules;
+    private final Duration crawlDelay;
+
+    private RobotsRules(final List<Rule> rules, final Duration crawlDelay) {
+        this.rules = rules;
+        this.crawlDelay = crawlDelay;
+    }
+
+    public static RobotsRules allowAll() {
+        return ALLOW_ALL;
+    }
+
+    /**
+     * robots.txt 본문에서 주어진 제품 토큰(예: {@code NewsSumBot})에 해당하는 그룹을 추출한다.
+     * 일치하는 그룹이 없으면 {@code *} 그룹을, 그것도 없으면 전체 허용 규칙을 반환한다.
+     */
+    public static RobotsRules parse(final String body, final String productToken) {
+        if (body == null || body.isBlank()) {
+            return ALLOW_ALL;
+        }
+        final String token = productToken.toLowerCase(Locale.ROOT);
+        final Group specific = new Group();
+        final Group wildcard = new Group();
+
+        final List<String> currentAgents = new ArrayList<>();
+        boolean inRules = false;
+        for (String rawLine : body.split("\\R")) {
+            final String line = stripComment(rawLine);
+            final int colon = line.indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+            final String field = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            final String value = line.substring(colon + 1).trim();
+            switch (field) {
+                case "user-agent" -> {
+                    if (inRules) {
+                        currentAgents.clear();
+                        inRules = false;
+                    }
+                    final String agent = value.toLowerCase(Locale.ROOT);
+                    currentAgents.add(agent);
+                    // 규칙이 없는 전용 그룹도 "모두 허용"으로 취급해야 하므로 여기서 표시한다.
+                    specific.matched |= agent.equals(token);
+                }
+                case "allow", "disallow", "crawl-delay" -> {
+                    inRules = true;
+                    final Group target = selectGroup(currentAgents, token, specific, wildcard);
+                    if (target != null) {
+                        target.accept(field, value);
+                    }
+                }
+                default -> {
+                    // sitemap 등 그룹과 무관한 항목은 무시한다.
+                }
+            }
+        }
+        final Group chosen = specific.matched ? specific : wildcard;
+        if (!chosen.matched) {
+            return ALLOW_ALL;
+        }
+        final List<Rule> sorted = new ArrayList<>(chosen.rules);
+        sorted.sort(Comparator.comparingInt(Rule::specificity).reversed()
+            .thenComparing(Rule::allow, Comparator.reverseOrder()));
+        return new RobotsRules(List.copyOf(sorted), chosen.crawlDelay);
+    }
+
+    public boolean isAllowed(final String path) {
+        final String target = path == null || path.isEmpty() ? "/" : path;
+        for (Rule rule : rules) {
+            if (rule.matches(target)) {
+                return rule.allow();
+            }
+        }
+        return true;
+    }
+
+    public Optional<Duration> getCrawlDelay() {
+        return Optional.ofNullable(crawlDelay);
+    }
+
+    private static Group selectGroup(final List<String> agents, final String token,
+        final Group specific, final Group wildcard) {
+        boolean wildcardMatched = false;
+        for (String agent : agents) {
+            if (agent.equals(token)) {
+                specific.matched = true;
+                return specific;
+            }
+            wildcardMatched |= agent.equals(WILDCARD_AGENT);
+        }
+        if (wildcardMatched) {
+            wildcard.matched = true;
+            return wildcard;
+        }
+        return null;
+    }
+
+    private static String stripComment(final String line) {
+        final int hash = line.indexOf('#');
+        return hash >= 0 ? line.substring(0, hash) : line;
+    }
+
+    private static final class Group {
+
+        private final List<Rule> rules = new ArrayList<>();
+        private Duration crawlDelay;
+        private boolean matched;
+
+        private void accept(final String field, final String value) {
+            switch (field) {
+                case "allow" -> {
+                    if (!value.isEmpty()) {
+                        rules.add(new Rule(value, true));
+                    }
+                }
+                case "disallow" -> {
+                    // 빈 Disallow 는 "모두 허용"을 의미하므로 규칙으로 남기지 않는다.
+                    if (!value.isEmpty()) {
+                        rules.add(new Rule(value, false));
+                    }
+                }
+                default -> crawlDelay = parseDelay(value);
+            }
+        }
+
+        private Duration parseDelay(final String value) {
+            try {
+                final double seconds = Double.parseDouble(value);
+                if (seconds <= 0 || Double.isNaN(seconds) || Double.isInfinite(seconds)) {
+                    return crawlDelay;
+                }
+                return Duration.ofMillis((long) (seconds * 1_000));
+            } catch (NumberFormatException ex) {
+                return crawlDelay;
+            }
+        }
+    }
+
+    private record Rule(String pattern, boolean allow) {
+
+        private int specificity() {
+            return pattern.length();
+        }
+
+        /**
+         * {@code *} 는 임의의 문자열, 끝의 {@code $} 는 경로의 끝과 맞는다. 맞지 않으면 마지막 {@code *} 가 한 글자 더
+         * 삼키도록 되돌아가는 방식이라 {@code *} 가 많아도 경로 길이와 규칙 길이의 곱에 비례하는 시간 안에 끝난다.
+         */
+        private boolean matches(final String path) {
+            final boolean anchored = pattern.endsWith("$");
+            final int length = anchored ? pattern.length() - 1 : pattern.length();
+            int p = 0;
+            int s = 0;
+            int star = -1;
+            int starFrom = 0;
+            while (true) {
+                if (p == length) {
+                    if (!anchored || s == path.length()) {
+                        return true;
+                    }
+                } else if (pattern.charAt(p) == '*') {
+                    star = p++;
+                    starFrom = s;
+                    continue;
+                } else if (s < path.length() && path.charAt(s) == pattern.charAt(p)) {
+                    p++;
+                    s++;
+                    continue;
+                }
+                if (star < 0 || starFrom == path.length()) {
+                    return false;
+                }
+                p = star + 1;
+                s = ++starFrom;
+            }
+        }
+    }
+}
@@ -1,50 +1,103 @@
 package com.newssum.crawler;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
 import java.net.URI;
-import java.net.URL;
+import java.time.Duration;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 
-import org.jsoup.Connection;
-import org.jsoup.Jsoup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.newssum.exception.CrawlingException;
 import com.newssum.exception.ErrorCode;
 
 /**
  * robots.txt 규칙을 확인하여 크롤링 허용 여부를 검증한다.
+ * <p>
+ * 파싱된 규칙은 호스트(origin) 단위로 캐시되므로 같은 언론사에 대한 반복 검사는 네트워크를 타지 않는다.
  */
 @Component
 public class RobotsTxtInspector {
 
     private static final Logger log = LoggerFactory.getLogger(RobotsTxtInspector.class);
-    private static final int TIMEOUT_MS = 10_000;
-    private static final String USER_AGENT = "NewsSumBot/1.0 (+https://newssum.example)";
+    private static final String PRODUCT_TOKEN = "NewsSumBot";
+
+    private final PageFetcher pageFetcher;
+    private final Cache<String, RobotsRules> rulesCache;
+
+    public RobotsTxtInspector(final PageFetcher pageFetcher, final CrawlerProperties properties) {
+        this.pageFetcher = pageFetcher;
+        final CrawlerProperties.Robots robots = properties.getRobots();
+        this.rulesCache = CacheBuilder.newBuilder()
+            .maximumSize(robots.getCacheMaximumSize())
+            .expireAfterWrite(robots.getCacheTtl())
+            .build();
+    }
 
     public void ensureAllowed(final String targetUrl) {
+        final URI uri = parseUri(targetUrl);
+        if (!rulesFor(uri).isAllowed(pathOf(uri))) {
+            throw new CrawlingException(ErrorCode.CRAWLING_DISALLOWED);
+        }
+    }
+
+    public Optional<Duration> getCrawlDelay(final String targetUrl) {
+        return rulesFor(parseUri(targetUrl)).getCrawlDelay();
+    }
+
+    private RobotsRules rulesFor(final URI uri) {
+        final String origin = originOf(uri);
+        try {
+            // 같은 호스트를 동시에 조회하면 한 번만 내려받고 나머지는 결과를 기다린다.
+            return rulesCache.get(origin, () -> download(origin));
+        } catch (ExecutionException | UncheckedExecutionException ex) {
+            log.warn("robots.txt 규칙 로딩 실패: origin={}", origin, ex.getCause());
+            return RobotsRules.allowAll();
+        }
+    }
+
+    private RobotsRules download(final String origin) {
+        final String robotsUrl = origin + "/robots.txt";
+        try {
+            final PageFetcher.FetchedPage page = pageFetcher.fetch(robotsUrl);
+            if (!page.isSuccessful()) {
+                log.debug("robots.txt 없음(HTTP {}): url={}", page.statusCode(), robotsUrl);
+                return RobotsRules.allowAll();
+            }
+            return RobotsRules.parse(page.bodyAsString(), PRODUCT_TOKEN);
+        } catch (IOException ex) {
+            // 확인 실패 시 기존과 같이 허용하되, 매 요청마다 타임아웃을 기다리지 않도록 결과를 캐시한다.
+            log.warn("robots.txt 확인 실패: url={}", robotsUrl, ex);
+            return RobotsRules.allowAll();
+        }
+    }
+
+    private URI parseUri(final String targetUrl) {
         try {
             final URI uri = URI.create(targetUrl);
-            final URL url = uri.toURL();
-            final String robotsUrl = "%s://%s/robots.txt".formatted(url.getProtocol(), url.getHost());
-            final Connection.Response response = Jsoup.connect(robotsUrl)
-                .timeout(TIMEOUT_MS)
-                .ignoreContentType(true)
-                .userAgent(USER_AGENT)
-                .execute();
-            final String body = response.body().toLowerCase(Locale.ROOT);
-            if (body.contains("disallow: /")) {
-                throw new CrawlingException(ErrorCode.CRAWLING_DISALLOWED);
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                throw new CrawlingException(ErrorCode.INVALID_URL);
             }
+            return uri;
         } catch (IllegalArgumentException ex) {
             throw new CrawlingException(ErrorCode.INVALID_URL, ex);
-        } catch (MalformedURLException ex) {
-            throw new CrawlingException(ErrorCode.INVALID_URL, ex);
-        } catch (IOException ex) {
-            log.warn("robots.txt 확인 실패: url={}", targetUrl, ex);
         }
     }
+
+    private String originOf(final URI uri) {
+        final String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        final String host = uri.getHost().toLowerCase(Locale.ROOT);
+        return uri.getPort() < 0 ? "%s://%s".formatted(scheme, host) : "%s://%s:%d".formatted(scheme, host, uri.getPort());
+    }
+
+    private String pathOf(final URI uri) {
+        final String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        return uri.getRawQuery() == null ? path : path + "?" + uri.getRawQuery();
+    }
 }
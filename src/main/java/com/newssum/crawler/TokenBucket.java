@@ -0,0 +1,43 @@
+package com.newssum.crawler;
+
+/**
+ * 단일 호스트의 요청 속도를 제한하는 토큰 버킷. 호출자가 동기화를 책임진다.
+ */
+final class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final double capacity;
+    private final double nanosPerToken;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(final double permitsPerSecond, final int burst, final long nowNanos) {
+        this.capacity = Math.max(burst, 1);
+        this.nanosPerToken = NANOS_PER_SECOND / permitsPerSecond;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * 토큰을 하나 소비한다.
+     *
+     * @return 바로 소비했다면 0, 아니면 다음 토큰이 생길 때까지 기다려야 하는 나노초
+     */
+    long tryConsume(final long nowNanos) {
+        refill(nowNanos);
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) * nanosPerToken);
+    }
+
+    private void refill(final long nowNanos) {
+        final long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed / nanosPerToken);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.newssum.crawler;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import com.newssum.exception.CrawlingException;
+import com.newssum.exception.ErrorCode;
+
+/**
+ * 같은 기사를 가리키는 URL 들이 하나의 표준 URL 과 해시로 모이도록 정규화한다.
+ * <p>
+ * 추적용 쿼리 파라미터와 fragment 를 제거하고 scheme·host·port·path 표기를 통일하며,
+ * 문서에 {@code link rel=canonical} 이나 {@code og:url} 이 있으면 그 값을 우선한다.
+ */
+public final class UrlCanonicalizer {
+
+    private static final Set<String> TRACKING_PARAMETERS = Set.of(
+        "fbclid", "gclid", "dclid", "msclkid", "yclid", "igshid", "mc_cid", "mc_eid",
+        "_ga", "_gl", "ref_src", "cmpid", "ocid", "spm", "fromrss");
+    private static final String TRACKING_PREFIX = "utm_";
+
+    private UrlCanonicalizer() {
+    }
+
+    /**
+     * URL 을 표준 형태로 바꾼다. 해석할 수 없는 URL 은 앞뒤 공백만 제거해 돌려준다.
+     */
+    public static String canonicalize(final String url) {
+        if (url == null) {
+            return null;
+        }
+        final String trimmed = url.trim();
+        try {
+            final URI uri = new URI(trimmed).normalize();
+            if (uri.getHost() == null || uri.getScheme() == null) {
+                return trimmed;
+            }
+            final String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+            if (!scheme.equals("http") && !scheme.equals("https")) {
+                return trimmed;
+            }
+            final StringBuilder builder = new StringBuilder(scheme).append("://").append(normalizeHost(uri.getHost()));
+            if (uri.getPort() > 0 && uri.getPort() != 80 && uri.getPort() != 443) {
+                builder.append(':').append(uri.getPort());
+            }
+            builder.append(normalizePath(uri.getRawPath()));
+            final String query = normalizeQuery(uri.getRawQuery());
+            if (!query.isEmpty()) {
+                builder.append('?').append(query);
+            }
+            return builder.toString();
+        } catch (URISyntaxException ex) {
+            return trimmed;
+        }
+    }
+
+    /**
+     * 문서가 선언한 표준 URL 을 찾는다. 다른 사이트를 가리키는 선언은 신뢰하지 않고 읽어온 URL 을 정규화해 사용한다.
+     */
+    public static String resolve(final Document document, final String fetchedUrl) {
+        final String fallback = canonicalize(fetchedUrl);
+        for (String declared : Arrays.asList(
+            attribute(document.selectFirst("link[rel=canonical][href]"), "abs:href"),
+            attribute(document.selectFirst("meta[property=og:url][content]"), "abs:content"))) {
+            if (declared == null || declared.isBlank()) {
+                continue;
+            }
+            final String candidate = canonicalize(declared);
+            if (sameSite(candidate, fallback)) {
+                return candidate;
+            }
+        }
+        return fallback;
+    }
+
+    /**
+     * 정규화한 URL 의 SHA-256 해시(Base64 URL-safe)를 계산한다. {@code url_hash} 필드에 저장되는 값이다.
+     * http 와 https 는 같은 기사로 본다.
+     */
+    public static String urlHash(final String url) {
+        final String canonical = canonicalize(url);
+        final String key = canonical.startsWith("http://") ? "https://" + canonical.substring("http://".length()) : canonical;
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            final byte[] hash = digest.digest(key.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new CrawlingException(ErrorCode.CRAWLING_FAILED, ex);
+        }
+    }
+
+    private static String normalizeHost(final String host) {
+        final String lower = host.toLowerCase(Locale.ROOT);
+        return lower.endsWith(".") ? lower.substring(0, lower.length() - 1) : lower;
+    }
+
+    private static String normalizePath(final String rawPath) {
+        if (rawPath == null || rawPath.isEmpty() || rawPath.equals("/")) {
+            return "/";
+        }
+        String path = rawPath.replaceAll("/{2,}", "/");
+        while (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return path;
+    }
+
+    private static String normalizeQuery(final String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+        return Arrays.stream(rawQuery.split("&"))
+            .filter(parameter -> !parameter.isEmpty())
+            .filter(parameter -> !isTracking(parameter))
+            .sorted()
+            .collect(Collectors.joining("&"));
+    }
+
+    private static boolean isTracking(final String parameter) {
+        final int equals = parameter.indexOf('=');
+        final String name = (equals < 0 ? parameter : parameter.substring(0, equals)).toLowerCase(Locale.ROOT);
+        return name.startsWith(TRACKING_PREFIX) || TRACKING_PARAMETERS.contains(name);
+    }
+
+    private static boolean sameSite(final String candidate, final String reference) {
+        final String candidateHost = hostOf(candidate);
+        final String referenceHost = hostOf(reference);
+        return candidateHost != null && candidateHost.equals(referenceHost);
+    }
+
+    private static String hostOf(final String url) {
+        try {
+            final String host = new URI(url).getHost();
+            return host == null ? null : host.replaceFirst("^www\\.", "");
+        } catch (URISyntaxException ex) {
+            return null;
+        }
+    }
+
+    private static String attribute(final Element element, final String attributeKey) {
+        return element == null ? null : element.attr(attributeKey);
+    }
+}
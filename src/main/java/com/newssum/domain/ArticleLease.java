@@ -0,0 +1,35 @@
+package com.newssum.domain;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Marks an article (by URL hash) as being processed by one application instance.
+ * Expired leases are removed by a TTL index and may be taken over before that.
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Document(collection = "article_leases")
+public class ArticleLease {
+
+    @Id
+    private String id;
+
+    private String owner;
+
+    @Indexed(expireAfter = "0s")
+    @Field("expires_at")
+    private Instant expiresAt;
+}
@@ -0,0 +1,123 @@
+package com.newssum.domain;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tracks a background crawl request so that any instance can report its progress.
+ * Progress fields are updated atomically while the job runs; documents expire a week after creation.
+ * The owning instance refreshes {@code heartbeat_at} until the job finishes, so unfinished jobs whose heartbeat
+ * has gone stale can be recognised as abandoned by a dead instance.
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Document(collection = "crawl_jobs")
+public class CrawlJob {
+
+    @Id
+    private String id;
+
+    @Indexed
+    @Field("requested_by")
+    private String requestedBy;
+
+    @Field("source_url")
+    private String sourceUrl;
+
+    @Field("requested_count")
+    private int requestedCount;
+
+    @Builder.Default
+    private Status status = Status.QUEUED;
+
+    private String owner;
+
+    @Field("heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Field("total_count")
+    private int totalCount;
+
+    @Field("summarized_count")
+    private int summarizedCount;
+
+    @Field("processed_count")
+    private int processedCount;
+
+    @Field("skipped_count")
+    private int skippedCount;
+
+    @Builder.Default
+    private List<Article> articles = new ArrayList<>();
+
+    @Field("error_code")
+    private String errorCode;
+
+    @Field("error_message")
+    private String errorMessage;
+
+    @CreatedDate
+    @Indexed(expireAfter = "7d")
+    @Field("created_at")
+    private LocalDateTime createdAt;
+
+    @Field("started_at")
+    private LocalDateTime startedAt;
+
+    @Field("finished_at")
+    private LocalDateTime finishedAt;
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED;
+
+        public boolean isFinished() {
+            return this == COMPLETED || this == FAILED;
+        }
+    }
+
+    /**
+     * Snapshot of a finished article kept inside the job so status reads need no extra lookup.
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Article {
+
+        @Field("article_id")
+        private String articleId;
+
+        private String url;
+
+        @Field("source_outlet")
+        private String sourceOutlet;
+
+        @Field("original_title")
+        private String originalTitle;
+
+        private String language;
+
+        @Field("published_at")
+        private LocalDateTime publishedAt;
+
+        private List<String> summary;
+
+        @Field("newly_created")
+        private boolean newlyCreated;
+    }
+}
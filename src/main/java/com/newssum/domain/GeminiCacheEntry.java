@@ -0,0 +1,35 @@
+package com.newssum.domain;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Persistent tier of the Gemini result cache, keyed by a hash of model, prompt kind and input.
+ * Entries expire thirty days after they are written.
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Document(collection = "gemini_cache")
+public class GeminiCacheEntry {
+
+    @Id
+    private String id;
+
+    private Object value;
+
+    @Indexed(expireAfter = "30d")
+    @Field("created_at")
+    private LocalDateTime createdAt;
+}
@@ -6,6 +6,7 @@ import java.util.List;
 
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
@@ -18,12 +19,16 @@ import lombok.NoArgsConstructor;
 
 /**
  * Captures a crawled news article with Gemini translation and summary metadata.
+ * The compound index serves the per-user history listing, newest first with {@code _id} as the tie-breaker;
+ * the {@code crawled_at} index serves time-range scans such as the trend warm-up, and the
+ * {@code search_indexed_at} index lets the search backfill find articles that are not indexed yet.
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Document(collection = "news_articles")
+@CompoundIndex(name = "crawled_by_crawled_at", def = "{'crawled_by': 1, 'crawled_at': -1, '_id': -1}")
 public class NewsArticle {
 
     @Id
@@ -60,12 +65,17 @@ public class NewsArticle {
     private LocalDateTime publishedAt;
 
     @CreatedDate
+    @Indexed
     @Field("crawled_at")
     private LocalDateTime crawledAt;
 
     @Field("crawled_by")
     private String crawledBy;
 
+    @Indexed
+    @Field("search_indexed_at")
+    private LocalDateTime searchIndexedAt;
+
     public void updateTranslation(final String translatedTitle, final String translatedContent) {
         this.translatedTitle = translatedTitle;
         this.translatedContent = translatedContent;
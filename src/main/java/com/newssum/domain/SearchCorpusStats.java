@@ -0,0 +1,32 @@
+package com.newssum.domain;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-user totals of the article search index, keyed by the user's email: indexed article count and
+ * the summed token length used for BM25 length normalization.
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Document(collection = "news_search_stats")
+public class SearchCorpusStats {
+
+    @Id
+    private String id;
+
+    @Field("doc_count")
+    private long docCount;
+
+    @Field("total_length")
+    private long totalLength;
+}
@@ -0,0 +1,44 @@
+package com.newssum.domain;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of the article search inverted index: how often a term occurs in one article.
+ * The compound index reads a term's postings for one user, most frequent first; the article index
+ * finds the postings to drop when an article is re-indexed or deleted.
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Document(collection = "news_search_postings")
+@CompoundIndex(name = "crawled_by_term_tf", def = "{'crawled_by': 1, 'term': 1, 'tf': -1}")
+public class SearchPosting {
+
+    @Id
+    private String id;
+
+    private String term;
+
+    @Indexed
+    @Field("article_id")
+    private String articleId;
+
+    @Field("crawled_by")
+    private String crawledBy;
+
+    private int tf;
+
+    @Field("doc_length")
+    private int docLength;
+}
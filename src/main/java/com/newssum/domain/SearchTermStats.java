@@ -0,0 +1,35 @@
+package com.newssum.domain;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of a user's articles that contain a search term (document frequency), kept up to date by
+ * {@code $inc} so ranking never has to count postings.
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Document(collection = "news_search_terms")
+@CompoundIndex(name = "crawled_by_term", def = "{'crawled_by': 1, 'term': 1}", unique = true)
+public class SearchTermStats {
+
+    @Id
+    private String id;
+
+    @Field("crawled_by")
+    private String crawledBy;
+
+    private String term;
+
+    private long df;
+}
@@ -0,0 +1,32 @@
+package com.newssum.dto.news;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 비동기 크롤링 작업의 상태와 지금까지 확정된 기사 목록.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class CrawlJobResponse {
+
+    private final String jobId;
+    private final String status;
+    private final String sourceUrl;
+    private final int requestedCount;
+    private final int totalCount;
+    private final int summarizedCount;
+    private final int processedCount;
+    private final int skippedCount;
+    private final List<CrawledArticleResponse> articles;
+    private final String errorCode;
+    private final String errorMessage;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+}
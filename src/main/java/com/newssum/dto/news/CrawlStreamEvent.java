@@ -0,0 +1,51 @@
+package com.newssum.dto.news;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스트리밍 크롤링 응답의 한 프레임. 기사마다 {@code article} 프레임을 보내고
+ * 마지막에 건수를 담은 {@code complete} 또는 {@code error} 프레임으로 끝난다.
+ * 요약이 생성되는 동안에는 항목마다 {@code summary} 프레임을 먼저 보낸다. 같은 기사·번호의 항목은 나중 것으로 덮어쓴다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CrawlStreamEvent {
+
+    public static final String SUMMARY = "summary";
+    public static final String ARTICLE = "article";
+    public static final String COMPLETE = "complete";
+    public static final String ERROR = "error";
+
+    private final String type;
+    private final String url;
+    private final Integer index;
+    private final String bullet;
+    private final CrawledArticleResponse article;
+    private final Integer requestedCount;
+    private final Integer processedCount;
+    private final Integer skippedCount;
+    private final String error;
+    private final String message;
+
+    public static CrawlStreamEvent summary(final String url, final int index, final String bullet) {
+        return new CrawlStreamEvent(SUMMARY, url, index, bullet, null, null, null, null, null, null);
+    }
+
+    public static CrawlStreamEvent article(final CrawledArticleResponse article) {
+        return new CrawlStreamEvent(ARTICLE, null, null, null, article, null, null, null, null, null);
+    }
+
+    public static CrawlStreamEvent complete(final CrawlNewsResponse totals) {
+        return new CrawlStreamEvent(COMPLETE, null, null, null, null, totals.getRequestedCount(),
+            totals.getProcessedCount(), totals.getSkippedCount(), null, null);
+    }
+
+    public static CrawlStreamEvent error(final String errorCode, final String message) {
+        return new CrawlStreamEvent(ERROR, null, null, null, null, null, null, null, errorCode, message);
+    }
+}
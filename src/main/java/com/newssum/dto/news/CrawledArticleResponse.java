@@ -1,6 +1,7 @@
 package com.newssum.dto.news;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,7 +11,7 @@ import lombok.Getter;
  * 크롤링된 개별 기사 응답.
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 public class CrawledArticleResponse {
 
@@ -20,5 +21,6 @@ public class CrawledArticleResponse {
     private final String originalTitle;
     private final String language;
     private final LocalDateTime publishedAt;
+    private final List<String> summary;
     private final boolean newlyCreated;
 }
@@ -0,0 +1,21 @@
+package com.newssum.dto.news;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 커서 기반 뉴스 히스토리 응답. 다음 페이지가 없으면 {@code nextCursor} 는 {@code null} 이다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class NewsHistoryCursorResponse {
+
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+    private final List<NewsHistoryItemResponse> items;
+}
@@ -0,0 +1,19 @@
+package com.newssum.dto.news;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 뉴스 검색 응답. 항목은 관련도가 높은 순이다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class NewsSearchResponse {
+
+    private final String query;
+    private final List<NewsHistoryItemResponse> items;
+}
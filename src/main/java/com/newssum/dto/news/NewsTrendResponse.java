@@ -0,0 +1,20 @@
+package com.newssum.dto.news;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 트렌드 키워드 응답. {@code outlet} 이 없으면 전체 기사 기준이며, 키워드는 많이 나온 순이다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class NewsTrendResponse {
+
+    private final String window;
+    private final String outlet;
+    private final List<TrendKeywordResponse> keywords;
+}
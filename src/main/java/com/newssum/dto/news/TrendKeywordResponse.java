@@ -0,0 +1,15 @@
+package com.newssum.dto.news;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 트렌드 키워드와 추정 출현 기사 수. 근사 집계라 실제보다 조금 클 수 있다.
+ */
+@Getter
+@AllArgsConstructor
+public class TrendKeywordResponse {
+
+    private final String keyword;
+    private final long count;
+}
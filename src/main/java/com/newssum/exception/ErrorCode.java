@@ -22,8 +22,14 @@ public enum ErrorCode {
     CRAWLING_DISALLOWED(HttpStatus.FORBIDDEN, "사이트에서 크롤링이 허용되지 않습니다."),
     CRAWLING_FAILED(HttpStatus.BAD_GATEWAY, "뉴스를 가져올 수 없습니다."),
     CRAWLING_NO_ARTICLE(HttpStatus.NOT_FOUND, "수집할 기사를 찾지 못했습니다."),
+    CRAWLER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "크롤링 요청이 많습니다. 잠시 후 다시 시도해주세요."),
     GEMINI_API_FAILURE(HttpStatus.BAD_GATEWAY, "AI 요약 서비스가 응답하지 않습니다."),
+    GEMINI_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "AI 요약 서비스를 일시적으로 사용할 수 없습니다."),
+    GEMINI_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "AI 요약 요청이 많습니다. 잠시 후 다시 시도해주세요."),
     NEWS_NOT_FOUND(HttpStatus.NOT_FOUND, "뉴스 기사를 찾을 수 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
+    CRAWL_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "크롤링 작업을 찾을 수 없습니다."),
+    CRAWL_JOB_ABANDONED(HttpStatus.INTERNAL_SERVER_ERROR, "작업을 실행하던 서버가 중단되어 크롤링 작업을 마치지 못했습니다."),
     INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
     INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "예상치 못한 오류가 발생했습니다.");
 
@@ -1,15 +1,40 @@
 package com.newssum.exception;
 
+import java.time.Duration;
+import java.util.Optional;
+
 /**
  * Gemini API 연동 중 발생하는 예외를 표현한다.
+ * 다시 시도하면 성공할 수 있는 실패(일시적인 서버 오류, 429, 네트워크 오류)인지와 서버가 알려준 대기 시간을 함께 담는다.
  */
 public class GeminiApiException extends BusinessException {
 
+    private final boolean retryable;
+    private final Duration retryAfter;
+
     public GeminiApiException(final ErrorCode errorCode) {
-        super(errorCode);
+        this(errorCode, null, false, null);
     }
 
     public GeminiApiException(final ErrorCode errorCode, final Throwable cause) {
+        this(errorCode, cause, false, null);
+    }
+
+    public GeminiApiException(final ErrorCode errorCode, final Throwable cause, final boolean retryable,
+        final Duration retryAfter) {
         super(errorCode, cause);
+        this.retryable = retryable;
+        this.retryAfter = retryAfter;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+
+    /**
+     * 서버가 {@code Retry-After} 헤더로 알려준 최소 대기 시간.
+     */
+    public Optional<Duration> getRetryAfter() {
+        return Optional.ofNullable(retryAfter);
     }
 }
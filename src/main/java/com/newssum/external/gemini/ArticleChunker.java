@@ -0,0 +1,79 @@
+package com.newssum.external.gemini;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 긴 기사 본문을 토큰 한도에 맞는 조각으로 나눈다. 문단 경계에서 먼저 나누고,
+ * 한 문단이 한도를 넘으면 문장 경계에서, 그래도 넘으면 글자 수로 자른다.
+ */
+final class ArticleChunker {
+
+    private static final Pattern SENTENCE_END = Pattern.compile("(?<=[.!?。！？])\\s+");
+
+    private ArticleChunker() {
+    }
+
+    /**
+     * 본문 전체를 순서대로 {@code maxTokens} 이하의 조각으로 나눈다.
+     */
+    static List<String> split(final String content, final int maxTokens) {
+        final List<String> chunks = new ArrayList<>();
+        final StringBuilder current = new StringBuilder();
+        int currentTokens = 0;
+        for (String piece : pieces(content, maxTokens)) {
+            final int tokens = GeminiTokenEstimator.estimate(piece);
+            if (currentTokens > 0 && currentTokens + tokens > maxTokens) {
+                chunks.add(current.toString().trim());
+                current.setLength(0);
+                currentTokens = 0;
+            }
+            current.append(piece).append('\n');
+            currentTokens += tokens;
+        }
+        if (currentTokens > 0) {
+            chunks.add(current.toString().trim());
+        }
+        return chunks;
+    }
+
+    /**
+     * 본문 앞부분을 {@code maxTokens} 이하로 잘라낸다. 문단이나 문장 중간에서 끊지 않는다.
+     */
+    static String leading(final String content, final int maxTokens) {
+        if (content == null || GeminiTokenEstimator.estimate(content) <= maxTokens) {
+            return content;
+        }
+        return split(content, maxTokens).get(0);
+    }
+
+    private static List<String> pieces(final String content, final int maxTokens) {
+        final List<String> pieces = new ArrayList<>();
+        for (String paragraph : content.split("\n")) {
+            if (paragraph.isBlank()) {
+                continue;
+            }
+            if (GeminiTokenEstimator.estimate(paragraph) <= maxTokens) {
+                pieces.add(paragraph);
+                continue;
+            }
+            for (String sentence : SENTENCE_END.split(paragraph)) {
+                pieces.addAll(hardSplit(sentence, maxTokens));
+            }
+        }
+        return pieces;
+    }
+
+    private static List<String> hardSplit(final String sentence, final int maxTokens) {
+        if (GeminiTokenEstimator.estimate(sentence) <= maxTokens) {
+            return List.of(sentence);
+        }
+        // 한 글자가 토큰 하나를 넘지 않으므로 글자 수로 자르면 한도를 넘지 않는다.
+        final List<String> parts = new ArrayList<>();
+        for (int start = 0; start < sentence.length(); start += maxTokens) {
+            parts.add(sentence.substring(start, Math.min(sentence.length(), start + maxTokens)));
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,75 @@
+package com.newssum.external.gemini;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newssum.external.gemini.GeminiApiClient.ArticleDigest;
+
+/**
+ * 번역·요약 통합 응답(JSON)을 {@link ArticleDigest} 로 해석한다.
+ * <p>
+ * JSON 모드를 지정해도 모델이 코드 블록으로 감싸거나 앞뒤에 설명을 붙이는 경우가 있어 첫 여는 중괄호부터
+ * 마지막 닫는 중괄호까지만 읽는다. 필수 값이 비어 있으면 결과가 없는 것으로 보고 호출자가 기존 방식으로 다시 요청하게 한다.
+ */
+final class ArticleDigestParser {
+
+    private static final int MAX_SUMMARY_ITEMS = 5;
+
+    private ArticleDigestParser() {
+    }
+
+    static Optional<ArticleDigest> parse(final String text, final ObjectMapper objectMapper) {
+        if (text == null) {
+            return Optional.empty();
+        }
+        final int start = text.indexOf('{');
+        final int end = text.lastIndexOf('}');
+        if (start < 0 || end <= start) {
+            return Optional.empty();
+        }
+        final JsonNode root;
+        try {
+            root = objectMapper.readTree(text.substring(start, end + 1));
+        } catch (JsonProcessingException ex) {
+            return Optional.empty();
+        }
+        final String title = text(root.get("title"));
+        final String content = text(root.get("content"));
+        final List<String> summary = summary(root.get("summary"));
+        if (title.isEmpty() || content.isEmpty() || summary.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ArticleDigest(title, content, summary));
+    }
+
+    private static String text(final JsonNode node) {
+        return node == null || !node.isTextual() ? "" : node.asText().trim();
+    }
+
+    /**
+     * 요약 항목을 글머리표를 떼고 최대 5개까지 읽는다. 묶음 요약 응답도 같은 규칙으로 읽는다.
+     */
+    static List<String> summary(final JsonNode node) {
+        final List<String> items = new ArrayList<>();
+        if (node == null) {
+            return items;
+        }
+        if (node.isArray()) {
+            node.forEach(item -> addItem(items, text(item)));
+        } else if (node.isTextual()) {
+            node.asText().lines().forEach(line -> addItem(items, line));
+        }
+        return items.size() > MAX_SUMMARY_ITEMS ? List.copyOf(items.subList(0, MAX_SUMMARY_ITEMS)) : List.copyOf(items);
+    }
+
+    private static void addItem(final List<String> items, final String line) {
+        final String item = line.replaceFirst("^[\\-•\\*]+\\s?", "").trim();
+        if (!item.isEmpty()) {
+            items.add(item);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.newssum.external.gemini;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newssum.external.gemini.GeminiApiClient.SummaryResult;
+
+/**
+ * 여러 기사를 묶어 요약한 응답(JSON)을 기사 번호별 {@link SummaryResult} 로 나눈다.
+ * <p>
+ * {@link ArticleDigestParser} 와 같이 첫 여는 중괄호부터 마지막 닫는 중괄호까지만 읽는다. 번호가 범위를 벗어나거나
+ * 요약이 비어 있는 항목은 버리므로, 호출자는 결과에 없는 기사만 한 건씩 다시 요청하면 된다.
+ */
+final class BatchSummaryParser {
+
+    private BatchSummaryParser() {
+    }
+
+    /**
+     * @param count 묶은 기사 수. 기사 번호는 1부터 시작한다.
+     * @return 기사 번호별 요약. 응답을 해석할 수 없으면 빈 맵
+     */
+    static Map<Integer, SummaryResult> parse(final String text, final ObjectMapper objectMapper, final int count) {
+        if (text == null) {
+            return Map.of();
+        }
+        final int start = text.indexOf('{');
+        final int end = text.lastIndexOf('}');
+        if (start < 0 || end <= start) {
+            return Map.of();
+        }
+        final JsonNode root;
+        try {
+            root = objectMapper.readTree(text.substring(start, end + 1));
+        } catch (JsonProcessingException ex) {
+            return Map.of();
+        }
+        final JsonNode summaries = root.get("summaries");
+        if (summaries == null || !summaries.isArray()) {
+            return Map.of();
+        }
+        final Map<Integer, SummaryResult> results = new HashMap<>();
+        for (JsonNode entry : summaries) {
+            final int id = id(entry.get("id"));
+            final List<String> summary = ArticleDigestParser.summary(entry.get("summary"));
+            if (id >= 1 && id <= count && !summary.isEmpty()) {
+                results.putIfAbsent(id, new SummaryResult(summary));
+            }
+        }
+        return results;
+    }
+
+    private static int id(final JsonNode node) {
+        if (node == null) {
+            return 0;
+        }
+        if (node.canConvertToInt()) {
+            return node.asInt();
+        }
+        return node.isTextual() ? node.asInt(0) : 0;
+    }
+}
@@ -1,62 +1,369 @@
 package com.newssum.external.gemini;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpEntity;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.newssum.exception.GeminiApiException;
 import com.newssum.exception.ErrorCode;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 
 /**
  * Gemini API를 호출하여 번역 및 요약 결과를 제공한다.
+ * 같은 입력에 대한 결과는 {@link GeminiResultCache} 에 보관해 다시 호출하지 않는다.
+ * <p>
+ * 요청은 {@link GeminiHttpTransport} 의 non-blocking HTTP 클라이언트로 보내고,
+ * 재시도는 대기 시간이 지난 뒤 타이머에서 다시 보낸다.
+ * 응답이나 재시도를 기다리는 동안 호출 스레드를 붙잡지 않으므로 {@code *Async} 메서드를 우선 사용한다.
+ * 모든 시도는 {@link GeminiRequestScheduler} 의 호출 한도를 거치며, 동기 메서드는 {@link GeminiPriority#INTERACTIVE} 로 호출한다.
+ * <p>
+ * 429, 5xx, 네트워크 오류만 재시도하며 {@code Retry-After} 를 지킨다. 재시도는 프로세스 전체의 재시도 예산 안에서만 하고,
+ * {@link GeminiCircuitBreaker} 가 열려 있으면 호출하지 않고 바로 실패한다.
+ * <p>
+ * 짧은 기사의 요약은 {@link SummaryBatcher} 로 모아 한 번의 호출로 보내고, 응답을 기사별로 나눈다.
  */
 @Component
-@RequiredArgsConstructor
 public class GeminiApiClient {
 
     private static final Logger log = LoggerFactory.getLogger(GeminiApiClient.class);
+    private static final String JSON_MIME_TYPE = "application/json";
+    private static final int SUMMARY_MAX_OUTPUT_TOKENS = 600;
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(408, 429, 500, 502, 503, 504);
 
     private final GeminiProperties properties;
-    private final RestTemplate geminiRestTemplate;
+    private final GeminiHttpTransport httpTransport;
+    private final ObjectMapper objectMapper;
+    private final GeminiRequestScheduler requestScheduler;
+    private final GeminiCircuitBreaker circuitBreaker;
+    private final RetryBudget retryBudget;
+    private final Counter scheduledRetries;
+    private final Counter rejectedRetries;
+    private final Counter batchFallbacks;
+    private final SummaryBatcher summaryBatcher;
+    private final ScheduledExecutorService retryTimer = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("gemini-retry-timer-%d").setDaemon(true).build());
 
+    public GeminiApiClient(final GeminiProperties properties,
+        final GeminiHttpTransport httpTransport,
+        final ObjectMapper objectMapper,
+        final GeminiRequestScheduler requestScheduler,
+        final GeminiCircuitBreaker circuitBreaker,
+        final MeterRegistry registry) {
+        this.properties = properties;
+        this.httpTransport = httpTransport;
+        this.objectMapper = objectMapper;
+        this.requestScheduler = requestScheduler;
+        this.circuitBreaker = circuitBreaker;
+        this.retryBudget = new RetryBudget(properties.getRetryBudget().getRatio(),
+            properties.getRetryBudget().getMaxTokens());
+        this.scheduledRetries = retryCounter(registry, "scheduled");
+        this.rejectedRetries = retryCounter(registry, "budget_exhausted");
+        this.batchFallbacks = Counter.builder("gemini.batch.fallbacks")
+            .description("묶음 응답에서 요약을 찾지 못해 한 건씩 다시 요청한 기사 수")
+            .register(registry);
+        this.summaryBatcher = new SummaryBatcher(properties.getBatching(), this::summarizeBatch, registry);
+        Gauge.builder("gemini.retry.budget.available", retryBudget, RetryBudget::available)
+            .description("지금 바로 쓸 수 있는 Gemini 재시도 수")
+            .register(registry);
+    }
+
+    @Cacheable(cacheNames = GeminiResultCache.NAME, keyGenerator = GeminiCacheKeyGenerator.BEAN_NAME)
     public TranslationResult translate(final String title, final String content) {
-        final String prompt = GeminiPromptFactory.translationPrompt(title, content);
-        final GeminiRequest request = createRequest(prompt, properties.getMaxOutputTokens());
-        return executeWithRetry(() -> parseTranslation(sendRequest(request)));
+        return await(requestTranslation(title, content, GeminiPriority.INTERACTIVE));
     }
 
+    @Cacheable(cacheNames = GeminiResultCache.NAME, keyGenerator = GeminiCacheKeyGenerator.BEAN_NAME)
+    public CompletableFuture<TranslationResult> translateAsync(final String title, final String content,
+        final GeminiPriority priority) {
+        return requestTranslation(title, content, priority);
+    }
+
+    @Cacheable(cacheNames = GeminiResultCache.NAME, keyGenerator = GeminiCacheKeyGenerator.BEAN_NAME)
     public SummaryResult summarize(final String title, final String content) {
-        final String prompt = GeminiPromptFactory.summaryPrompt(title, content);
-        final GeminiRequest request = createRequest(prompt, Math.min(600, properties.getMaxOutputTokens()));
-        return executeWithRetry(() -> parseSummary(sendRequest(request)));
+        return await(requestSummary(title, content, GeminiPriority.INTERACTIVE));
+    }
+
+    @Cacheable(cacheNames = GeminiResultCache.NAME, keyGenerator = GeminiCacheKeyGenerator.BEAN_NAME)
+    public CompletableFuture<SummaryResult> summarizeAsync(final String title, final String content,
+        final GeminiPriority priority) {
+        return requestSummary(title, content, priority);
+    }
+
+    /**
+     * 요약 항목을 생성되는 대로 {@code listener} 에 넘기며 요약한다. 결과는 {@link #summarizeAsync} 와 같고 캐시도 함께 쓴다.
+     * 조각별로 나눠 요약할 만큼 긴 기사는 합치기 전에는 보여줄 항목이 없으므로 스트리밍하지 않는다.
+     * 캐시에 있던 결과는 항목을 따로 넘기지 않는다.
+     */
+    @Cacheable(cacheNames = GeminiResultCache.NAME, keyGenerator = GeminiCacheKeyGenerator.BEAN_NAME)
+    public CompletableFuture<SummaryResult> summarizeAsync(final String title, final String content,
+        final GeminiPriority priority, final SummaryProgressListener listener) {
+        if (GeminiTokenEstimator.estimate(content) > properties.getChunking().getSummarySingleCallMaxTokens()) {
+            return requestSummary(title, content, priority);
+        }
+        // 항목을 빨리 보여주는 것이 목적이므로 다른 기사와 묶지 않는다.
+        final GeminiRequest request = createRequest(GeminiPromptFactory.summaryPrompt(title, content),
+            summaryMaxOutputTokens());
+        return executeWithRetry(priority, request, () -> streamSummary(request, listener));
+    }
+
+    /**
+     * 번역과 요약을 한 번의 호출로 받는다. 응답을 해석할 수 없으면 빈 값을 반환하므로
+     * 호출자는 {@link #translate} 와 {@link #summarize} 로 나눠 다시 요청하면 된다.
+     */
+    @Cacheable(cacheNames = GeminiResultCache.NAME, keyGenerator = GeminiCacheKeyGenerator.BEAN_NAME)
+    public Optional<ArticleDigest> translateAndSummarize(final String title, final String content) {
+        return Optional.ofNullable(await(requestDigest(title, content, GeminiPriority.INTERACTIVE)));
+    }
+
+    /**
+     * {@link #translateAndSummarize} 의 비동기 버전. 응답을 해석할 수 없으면 {@code null} 로 완료된다.
+     * 캐시가 빈 결과를 저장하지 않도록 {@link Optional} 대신 {@code null} 을 사용한다.
+     */
+    @Cacheable(cacheNames = GeminiResultCache.NAME, keyGenerator = GeminiCacheKeyGenerator.BEAN_NAME)
+    public CompletableFuture<ArticleDigest> translateAndSummarizeAsync(final String title, final String content,
+        final GeminiPriority priority) {
+        return requestDigest(title, content, priority);
+    }
+
+    public boolean isFusedModeEnabled() {
+        return properties.isFusedMode();
+    }
+
+    /**
+     * 본문 전체를 번역할 수 있는지 확인한다. 넘으면 {@link #translateAsync} 는 앞부분만 번역하므로
+     * 요약은 번역문이 아닌 원문 전체로 만들어야 한다.
+     */
+    public boolean fitsTranslation(final String content) {
+        return GeminiTokenEstimator.estimate(content) <= properties.getChunking().getTranslationMaxTokens();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryTimer.shutdownNow();
+        summaryBatcher.shutdown();
+    }
+
+    private CompletableFuture<TranslationResult> requestTranslation(final String title, final String content,
+        final GeminiPriority priority) {
+        // 번역 결과가 maxOutputTokens 에서 잘리지 않도록 상세 화면에 보여줄 앞부분만 번역한다.
+        final String translatable = ArticleChunker.leading(content, properties.getChunking().getTranslationMaxTokens());
+        final String prompt = GeminiPromptFactory.translationPrompt(title, translatable);
+        final GeminiRequest request = createRequest(prompt, properties.getMaxOutputTokens());
+        return executeWithRetry(priority, request, () -> sendRequest(request).thenApply(this::parseTranslation));
+    }
+
+    /**
+     * 짧은 기사는 다른 기사와 묶거나 한 번에 요약하고, 긴 기사는 조각별로 동시에 요약한 뒤 조각 요약을 하나로 합친다.
+     */
+    private CompletableFuture<SummaryResult> requestSummary(final String title, final String content,
+        final GeminiPriority priority) {
+        final GeminiProperties.Chunking chunking = properties.getChunking();
+        final GeminiProperties.Batching batching = properties.getBatching();
+        final long contentTokens = GeminiTokenEstimator.estimate(content);
+        if (contentTokens <= chunking.getSummarySingleCallMaxTokens()) {
+            if (batching.isEnabled() && contentTokens <= batching.getArticleMaxTokens()) {
+                return summaryBatcher.submit(priority, title, content);
+            }
+            return summarizeOnce(GeminiPromptFactory.summaryPrompt(title, content), priority);
+        }
+        final List<String> allChunks = ArticleChunker.split(content, chunking.getChunkMaxTokens());
+        final List<String> chunks = allChunks.size() > chunking.getMaxChunks()
+            ? allChunks.subList(0, chunking.getMaxChunks())
+            : allChunks;
+        if (chunks.size() < allChunks.size()) {
+            log.info("기사가 너무 길어 앞쪽 {}개 조각만 요약합니다: chunks={}", chunks.size(), allChunks.size());
+        }
+        final List<CompletableFuture<SummaryResult>> partials = new ArrayList<>();
+        for (int index = 0; index < chunks.size(); index++) {
+            partials.add(summarizeOnce(
+                GeminiPromptFactory.chunkSummaryPrompt(title, chunks.get(index), index + 1, chunks.size()), priority));
+        }
+        return CompletableFuture.allOf(partials.toArray(CompletableFuture[]::new))
+            .thenCompose(ignored -> summarizeOnce(GeminiPromptFactory.mergeSummaryPrompt(title, partials.stream()
+                .flatMap(partial -> partial.join().summary().stream())
+                .map(bullet -> "- " + bullet)
+                .toList()), priority));
+    }
+
+    private CompletableFuture<SummaryResult> summarizeOnce(final String prompt, final GeminiPriority priority) {
+        final GeminiRequest request = createRequest(prompt, summaryMaxOutputTokens());
+        return executeWithRetry(priority, request, () -> sendRequest(request).thenApply(this::parseSummary));
+    }
+
+    /**
+     * 모아 둔 짧은 기사들을 한 번의 호출로 요약한다. 호출이 실패하면 모든 기사를 실패시키고,
+     * 응답에서 요약을 찾지 못한 기사만 한 건씩 다시 요청한다.
+     */
+    private void summarizeBatch(final GeminiPriority priority, final List<SummaryBatcher.Item> items) {
+        if (items.size() == 1) {
+            summarizeSingle(priority, items.get(0));
+            return;
+        }
+        final String prompt = GeminiPromptFactory.batchSummaryPrompt(
+            items.stream().map(SummaryBatcher.Item::title).toList(),
+            items.stream().map(SummaryBatcher.Item::content).toList());
+        final GeminiRequest request = new GeminiRequest(
+            List.of(new GeminiContent(List.of(new GeminiPart(prompt)))),
+            new GeminiGenerationConfig(properties.getTemperature(), summaryMaxOutputTokens() * items.size(),
+                JSON_MIME_TYPE));
+        executeWithRetry(priority, request, () -> sendRequest(request)).whenComplete((response, failure) -> {
+            if (failure != null) {
+                items.forEach(item -> item.result().completeExceptionally(unwrap(failure)));
+                return;
+            }
+            final Map<Integer, SummaryResult> summaries = BatchSummaryParser.parse(extractFirstText(response),
+                objectMapper, items.size());
+            if (summaries.size() < items.size()) {
+                log.warn("Gemini 묶음 요약 응답에서 일부 기사의 요약을 찾지 못해 한 건씩 다시 요청합니다: missing={}, batch={}",
+                    items.size() - summaries.size(), items.size());
+                batchFallbacks.increment(items.size() - summaries.size());
+            }
+            for (int index = 0; index < items.size(); index++) {
+                final SummaryResult summary = summaries.get(index + 1);
+                if (summary != null) {
+                    items.get(index).result().complete(summary);
+                } else {
+                    summarizeSingle(priority, items.get(index));
+                }
+            }
+        });
+    }
+
+    private void summarizeSingle(final GeminiPriority priority, final SummaryBatcher.Item item) {
+        summarizeOnce(GeminiPromptFactory.summaryPrompt(item.title(), item.content()), priority)
+            .whenComplete((summary, failure) -> {
+                if (failure != null) {
+                    item.result().completeExceptionally(unwrap(failure));
+                } else {
+                    item.result().complete(summary);
+                }
+            });
+    }
+
+    private int summaryMaxOutputTokens() {
+        return Math.min(SUMMARY_MAX_OUTPUT_TOKENS, properties.getMaxOutputTokens());
+    }
+
+    private CompletableFuture<ArticleDigest> requestDigest(final String title, final String content,
+        final GeminiPriority priority) {
+        final String prompt = GeminiPromptFactory.translateAndSummarizePrompt(title, content);
+        final GeminiRequest request = new GeminiRequest(
+            List.of(new GeminiContent(List.of(new GeminiPart(prompt)))),
+            new GeminiGenerationConfig(properties.getTemperature(),
+                properties.getMaxOutputTokens() + SUMMARY_MAX_OUTPUT_TOKENS,
+                JSON_MIME_TYPE));
+        return executeWithRetry(priority, request, () -> sendRequest(request)).thenApply(response -> {
+            final Optional<ArticleDigest> digest = ArticleDigestParser.parse(extractFirstText(response), objectMapper);
+            if (digest.isEmpty()) {
+                log.warn("Gemini 번역·요약 통합 응답을 해석하지 못했습니다. 번역과 요약을 나눠 요청합니다.");
+            }
+            return digest.orElse(null);
+        });
+    }
+
+    private CompletableFuture<GeminiResponse> sendRequest(final GeminiRequest request) {
+        return httpTransport.send(createHttpRequest(request, false))
+            .handle((response, failure) -> {
+                checkResponse(response, failure);
+                return readResponse(response);
+            });
+    }
+
+    /**
+     * 요약을 스트리밍으로 받는다. 항목은 생성되는 대로 {@code listener} 에 넘기고, 결과는 응답이 끝난 뒤 전체 요약으로 완료된다.
+     */
+    private CompletableFuture<SummaryResult> streamSummary(final GeminiRequest request,
+        final SummaryProgressListener listener) {
+        final SummaryStreamParser parser = new SummaryStreamParser(objectMapper, listener);
+        return httpTransport.stream(createHttpRequest(request, true), parser::accept)
+            .handle((response, failure) -> {
+                checkResponse(response, failure);
+                return parser.finish();
+            });
     }
 
-    private GeminiResponse sendRequest(final GeminiRequest request) {
+    private HttpRequest createHttpRequest(final GeminiRequest request, final boolean streaming) {
         final String apiKey = requireApiKey();
-        final String path = UriComponentsBuilder.fromPath("/models/%s:generateContent".formatted(properties.getModel()))
-            .queryParam("key", apiKey)
-            .toUriString();
-        final HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(apiKey);
+        final UriComponentsBuilder path = UriComponentsBuilder
+            .fromPath("/models/%s:%s".formatted(properties.getModel(),
+                streaming ? "streamGenerateContent" : "generateContent"))
+            .queryParam("key", apiKey);
+        if (streaming) {
+            // SSE 로 받아야 응답 조각을 줄 단위로 나눠 읽을 수 있다.
+            path.queryParam("alt", "sse");
+        }
         try {
-            return geminiRestTemplate.postForObject(path, new HttpEntity<>(request, headers), GeminiResponse.class);
-        } catch (RestClientException ex) {
-            log.warn("Gemini API 호출 실패", ex);
+            return HttpRequest.newBuilder(URI.create(properties.getBaseUrl() + path.toUriString()))
+                .timeout(properties.getTimeout())
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(request)))
+                .build();
+        } catch (JsonProcessingException ex) {
+            throw new GeminiApiException(ErrorCode.GEMINI_API_FAILURE, ex);
+        }
+    }
+
+    /**
+     * 전송 실패와 오류 상태를 재시도 여부가 담긴 {@link GeminiApiException} 으로 바꿔 던진다.
+     */
+    private void checkResponse(final GeminiHttpTransport.Response response, final Throwable failure) {
+        if (failure != null) {
+            // 시간 초과와 연결 오류는 일시적인 장애일 수 있으므로 재시도한다.
+            log.warn("Gemini API 호출 실패", failure);
+            throw new GeminiApiException(ErrorCode.GEMINI_API_FAILURE, unwrap(failure), true, null);
+        }
+        final int status = response.statusCode();
+        if (status / 100 != 2) {
+            log.warn("Gemini API 호출 실패: status={}", status);
+            final Duration retryAfter = response.headers().firstValue(HttpHeaders.RETRY_AFTER)
+                .map(GeminiApiClient::parseRetryAfter)
+                .orElse(null);
+            throw new GeminiApiException(ErrorCode.GEMINI_API_FAILURE, null, RETRYABLE_STATUSES.contains(status),
+                retryAfter);
+        }
+    }
+
+    private GeminiResponse readResponse(final GeminiHttpTransport.Response response) {
+        try {
+            return objectMapper.readValue(response.body(), GeminiResponse.class);
+        } catch (IOException ex) {
+            log.warn("Gemini API 응답 해석 실패", ex);
             throw new GeminiApiException(ErrorCode.GEMINI_API_FAILURE, ex);
         }
     }
@@ -89,7 +396,7 @@ public class GeminiApiClient {
         return new SummaryResult(items);
     }
 
-    private String extractFirstText(final GeminiResponse response) {
+    static String extractFirstText(final GeminiResponse response) {
         if (response == null || CollectionUtils.isEmpty(response.candidates())) {
             return null;
         }
@@ -109,36 +416,139 @@ public class GeminiApiClient {
     private GeminiRequest createRequest(final String prompt, final int maxOutputTokens) {
         return new GeminiRequest(
             List.of(new GeminiContent(List.of(new GeminiPart(prompt)))),
-            new GeminiGenerationConfig(properties.getTemperature(), maxOutputTokens)
+            new GeminiGenerationConfig(properties.getTemperature(), maxOutputTokens, null)
         );
     }
 
-    private <T> T executeWithRetry(final Supplier<T> supplier) {
-        final int maxAttempts = Math.max(properties.getMaxRetries(), 1);
-        int attempt = 0;
-        while (true) {
-            try {
-                return supplier.get();
-            } catch (GeminiApiException ex) {
-                attempt++;
-                if (attempt >= maxAttempts) {
-                    throw ex;
-                }
-                final long delayMillis = (long) Math.pow(2, attempt - 1) * 1_000L;
-                sleep(delayMillis + ThreadLocalRandom.current().nextLong(250));
+    /**
+     * 실패한 호출을 지수 백오프로 다시 보낸다. 대기는 타이머가 맡으므로 재시도 사이에 스레드가 잠들지 않는다.
+     * 재시도도 호출 한도를 쓰므로 매 시도가 대기열을 거친다.
+     */
+    private <T> CompletableFuture<T> executeWithRetry(final GeminiPriority priority, final GeminiRequest request,
+        final Supplier<CompletableFuture<T>> call) {
+        if (!circuitBreaker.isCallPermitted()) {
+            return CompletableFuture.failedFuture(new GeminiApiException(ErrorCode.GEMINI_UNAVAILABLE));
+        }
+        retryBudget.recordRequest();
+        final long estimatedTokens = estimateTokens(request);
+        final Supplier<CompletableFuture<T>> scheduled = () -> requestScheduler.submit(priority, estimatedTokens,
+            () -> guarded(call));
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        attempt(scheduled, 1, result);
+        return result;
+    }
+
+    /**
+     * 회로 차단기의 허가를 받아 호출하고 결과를 기록한다. 대기열에서 기다리는 동안 회로가 열렸다면 호출하지 않는다.
+     */
+    private <T> CompletableFuture<T> guarded(final Supplier<CompletableFuture<T>> call) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(new GeminiApiException(ErrorCode.GEMINI_UNAVAILABLE));
+        }
+        final CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException ex) {
+            circuitBreaker.onSuccess();
+            throw ex;
+        }
+        return future.whenComplete((value, failure) -> {
+            // 요청 쪽 문제로 실패한 호출은 Gemini 가 정상적으로 응답한 것으로 본다.
+            if (failure != null && unwrap(failure) instanceof GeminiApiException ex && ex.isRetryable()) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
             }
+        });
+    }
+
+    private <T> void attempt(final Supplier<CompletableFuture<T>> call, final int attempt,
+        final CompletableFuture<T> result) {
+        call.get().whenComplete((value, failure) -> {
+            if (failure == null) {
+                result.complete(value);
+                return;
+            }
+            final Throwable cause = unwrap(failure);
+            final int maxAttempts = Math.max(properties.getMaxRetries(), 1);
+            if (!(cause instanceof GeminiApiException apiException) || !apiException.isRetryable()
+                || attempt >= maxAttempts) {
+                result.completeExceptionally(cause);
+                return;
+            }
+            final long retryAfterMillis = apiException.getRetryAfter().map(Duration::toMillis).orElse(0L);
+            if (retryAfterMillis > properties.getMaxRetryAfter().toMillis()) {
+                log.warn("Gemini 가 요청한 대기 시간이 너무 길어 재시도하지 않습니다: retryAfter={}ms", retryAfterMillis);
+                result.completeExceptionally(cause);
+                return;
+            }
+            if (!retryBudget.tryAcquireRetry()) {
+                rejectedRetries.increment();
+                log.warn("Gemini 재시도 예산을 모두 사용해 재시도하지 않습니다.");
+                result.completeExceptionally(cause);
+                return;
+            }
+            scheduledRetries.increment();
+            final long backoffMillis = (1L << (attempt - 1)) * properties.getRetryBackoff().toMillis();
+            final long delayMillis = Math.max(
+                backoffMillis + ThreadLocalRandom.current().nextLong(jitterBound(backoffMillis)), retryAfterMillis);
+            retryTimer.schedule(() -> attempt(call, attempt + 1, result), delayMillis, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    /**
+     * {@code Retry-After} 헤더를 해석한다. 초 단위 숫자와 HTTP 날짜 형식을 모두 받으며, 해석할 수 없으면 {@code null} 이다.
+     */
+    static Duration parseRetryAfter(final String value) {
+        final String trimmed = value.trim();
+        try {
+            return Duration.ofSeconds(Math.max(Long.parseLong(trimmed), 0));
+        } catch (NumberFormatException ignored) {
+            // HTTP 날짜 형식일 수 있다.
+        }
+        try {
+            final Duration untilDate = Duration.between(ZonedDateTime.now(),
+                ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME));
+            return untilDate.isNegative() ? Duration.ZERO : untilDate;
+        } catch (DateTimeParseException ex) {
+            return null;
         }
     }
 
-    private void sleep(final long millis) {
+    private long estimateTokens(final GeminiRequest request) {
+        final long promptTokens = request.contents().stream()
+            .flatMap(content -> content.parts().stream())
+            .mapToLong(part -> GeminiTokenEstimator.estimate(part.text()))
+            .sum();
+        return promptTokens + request.generationConfig().maxOutputTokens();
+    }
+
+    private long jitterBound(final long delayMillis) {
+        return Math.max(delayMillis / 4, 1);
+    }
+
+    private <T> T await(final CompletableFuture<T> future) {
         try {
-            Thread.sleep(millis);
-        } catch (InterruptedException ex) {
-            Thread.currentThread().interrupt();
-            throw new GeminiApiException(ErrorCode.GEMINI_API_FAILURE, ex);
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new GeminiApiException(ErrorCode.GEMINI_API_FAILURE, ex.getCause());
         }
     }
 
+    private Counter retryCounter(final MeterRegistry registry, final String result) {
+        return Counter.builder("gemini.retries")
+            .description("Gemini 재시도 결정 수")
+            .tag("result", result)
+            .register(registry);
+    }
+
+    private static Throwable unwrap(final Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
     private String normalize(final String value) {
         return Objects.requireNonNullElse(value, "").trim();
     }
@@ -155,15 +565,22 @@ public class GeminiApiClient {
 
     public record SummaryResult(List<String> summary) { }
 
+    public record ArticleDigest(String translatedTitle, String translatedContent, List<String> summary) { }
+
     public record GeminiRequest(List<GeminiContent> contents, GeminiGenerationConfig generationConfig) { }
 
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public record GeminiContent(List<GeminiPart> parts) { }
 
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public record GeminiPart(String text) { }
 
-    public record GeminiGenerationConfig(float temperature, int maxOutputTokens) { }
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record GeminiGenerationConfig(float temperature, int maxOutputTokens, String responseMimeType) { }
 
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public record GeminiResponse(List<GeminiCandidate> candidates) { }
 
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public record GeminiCandidate(GeminiContent content) { }
 }
@@ -0,0 +1,69 @@
+package com.newssum.external.gemini;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gemini 결과 캐시 키를 만든다. 모델·프롬프트 종류(메서드 이름)·프롬프트 버전·입력 문자열과 결과 모양을 바꾸는 설정
+ * (temperature, 출력 토큰 수, 분할·묶음 요약 설정)이 모두 같을 때만 같은 키가 된다.
+ * 입력이 길어도 키 길이가 일정하도록 SHA-256 으로 요약한다.
+ */
+@Component(GeminiCacheKeyGenerator.BEAN_NAME)
+public class GeminiCacheKeyGenerator implements KeyGenerator {
+
+    public static final String BEAN_NAME = "geminiCacheKeyGenerator";
+
+    private static final char SEPARATOR = '\u0000';
+    private static final String ASYNC_SUFFIX = "Async";
+
+    private final GeminiProperties properties;
+
+    public GeminiCacheKeyGenerator(final GeminiProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public Object generate(final Object target, final Method method, final Object... params) {
+        // 동기·비동기 메서드가 같은 결과를 나눠 쓰도록 Async 접미사는 종류에서 뺀다.
+        final String name = method.getName();
+        final String kind = name.endsWith(ASYNC_SUFFIX) ? name.substring(0, name.length() - ASYNC_SUFFIX.length()) : name;
+        return key(kind, params);
+    }
+
+    String key(final String kind, final Object... inputs) {
+        final GeminiProperties.Chunking chunking = properties.getChunking();
+        final GeminiProperties.Batching batching = properties.getBatching();
+        final StringBuilder source = new StringBuilder()
+            .append(properties.getModel()).append(SEPARATOR)
+            .append(kind).append(SEPARATOR)
+            .append(GeminiPromptFactory.VERSION).append(SEPARATOR)
+            .append(properties.getTemperature()).append(SEPARATOR)
+            .append(properties.getMaxOutputTokens()).append(SEPARATOR)
+            .append(chunking.getSummarySingleCallMaxTokens()).append(SEPARATOR)
+            .append(chunking.getChunkMaxTokens()).append(SEPARATOR)
+            .append(chunking.getMaxChunks()).append(SEPARATOR)
+            .append(chunking.getTranslationMaxTokens()).append(SEPARATOR)
+            .append(batching.isEnabled()).append(SEPARATOR)
+            .append(batching.getArticleMaxTokens());
+        for (Object input : inputs) {
+            // 우선순위와 중간 결과를 받는 리스너는 결과에 영향을 주지 않으므로 키에서 뺀다.
+            if (input instanceof GeminiPriority || input instanceof SummaryProgressListener) {
+                continue;
+            }
+            source.append(SEPARATOR).append(input == null ? "" : input);
+        }
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return kind + ":" + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", ex);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.newssum.external.gemini;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Gemini 장애 중에는 호출을 보내지 않고 바로 실패시키는 회로 차단기.
+ * <p>
+ * 최근 호출의 장애 비율이 한도를 넘으면 열리고, 정해진 시간이 지나면 반쯤 열려 몇 개의 시험 호출만 내보낸다.
+ * 시험 호출이 모두 성공하면 닫히고, 하나라도 실패하면 다시 열린다.
+ */
+@Component
+public class GeminiCircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(GeminiCircuitBreaker.class);
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final GeminiProperties.CircuitBreaker config;
+    private final boolean[] window;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failedCalls;
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public GeminiCircuitBreaker(final GeminiProperties properties, final MeterRegistry registry) {
+        this.config = properties.getCircuitBreaker();
+        this.window = new boolean[Math.max(config.getSlidingWindowSize(), 1)];
+        for (State candidate : State.values()) {
+            Gauge.builder("gemini.circuit.state", this, breaker -> breaker.getState() == candidate ? 1 : 0)
+                .description("Gemini 회로 차단기의 현재 상태")
+                .tag("state", candidate.name().toLowerCase(Locale.ROOT))
+                .register(registry);
+        }
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && openElapsed()) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * 회로가 열려 있어 호출을 대기열에 넣을 필요도 없는지 확인한다. 상태를 바꾸지 않는다.
+     */
+    public synchronized boolean isCallPermitted() {
+        return getState() != State.OPEN;
+    }
+
+    /**
+     * 호출을 보내기 직전에 허가를 받는다. 반쯤 열린 상태에서는 시험 호출 수만큼만 허가한다.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (!openElapsed()) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits <= 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    /**
+     * Gemini 가 정상적으로 응답한 호출을 기록한다. 4xx 처럼 요청 쪽 문제로 실패한 호출도 여기에 포함된다.
+     */
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            halfOpenSuccesses++;
+            if (halfOpenSuccesses >= config.getPermittedCallsInHalfOpenState()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    /**
+     * 서버 오류, 시간 초과, 네트워크 오류처럼 Gemini 장애로 볼 수 있는 실패를 기록한다.
+     */
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && recordedCalls >= config.getMinimumCalls()
+            && (double) failedCalls / recordedCalls >= config.getFailureRateThreshold()) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void record(final boolean failed) {
+        if (state != State.CLOSED) {
+            return;
+        }
+        if (recordedCalls == window.length) {
+            if (window[windowIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private boolean openElapsed() {
+        return System.nanoTime() - openedAtNanos >= config.getOpenDuration().toNanos();
+    }
+
+    private void transitionTo(final State next) {
+        log.warn("Gemini 회로 차단기 상태 변경: {} -> {}", state, next);
+        state = next;
+        switch (next) {
+            case OPEN -> openedAtNanos = System.nanoTime();
+            case HALF_OPEN -> {
+                halfOpenPermits = config.getPermittedCallsInHalfOpenState();
+                halfOpenSuccesses = 0;
+            }
+            case CLOSED -> {
+                windowIndex = 0;
+                recordedCalls = 0;
+                failedCalls = 0;
+            }
+        }
+    }
+
+    synchronized Duration remainingOpenDuration() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        final long remaining = config.getOpenDuration().toNanos() - (System.nanoTime() - openedAtNanos);
+        return Duration.ofNanos(Math.max(remaining, 0));
+    }
+}
@@ -0,0 +1,35 @@
+package com.newssum.external.gemini;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gemini 회로 차단기 상태를 {@code /actuator/health/geminiCircuitBreaker} 로 노출한다.
+ * 상태 순서에서 {@code CIRCUIT_OPEN} 을 {@code UP} 뒤에 두어 Gemini 장애가 애플리케이션 전체 상태를 내리지 않게 한다.
+ */
+@Component
+public class GeminiCircuitBreakerHealthIndicator implements HealthIndicator {
+
+    static final Status CIRCUIT_OPEN = new Status("CIRCUIT_OPEN", "Gemini 호출을 차단하고 있습니다.");
+    static final Status CIRCUIT_HALF_OPEN = new Status("CIRCUIT_HALF_OPEN", "Gemini 시험 호출 중입니다.");
+
+    private final GeminiCircuitBreaker circuitBreaker;
+
+    public GeminiCircuitBreakerHealthIndicator(final GeminiCircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public Health health() {
+        final GeminiCircuitBreaker.State state = circuitBreaker.getState();
+        final Health.Builder builder = switch (state) {
+            case CLOSED -> Health.up();
+            case OPEN -> Health.status(CIRCUIT_OPEN)
+                .withDetail("retryIn", circuitBreaker.remainingOpenDuration().toString());
+            case HALF_OPEN -> Health.status(CIRCUIT_HALF_OPEN);
+        };
+        return builder.withDetail("state", state.name()).build();
+    }
+}
@@ -0,0 +1,276 @@
+package com.newssum.external.gemini;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Gemini 호출에 쓰는 HTTP 연결을 관리한다.
+ * <p>
+ * 한 호스트로만 요청하므로 JDK HttpClient 하나의 연결(HTTP/2 에서는 스트림 다중화)을 계속 재사용한다.
+ * 동시에 보내는 요청 수를 제한하고, 넘는 요청은 스레드를 쓰지 않고 자리가 날 때까지 기다린다.
+ * JDK HttpClient 는 클라이언트별로 유휴 시간이나 수명을 정할 수 없으므로, 오래 쉬었거나 수명이 다한 클라이언트는
+ * 새로 만들어 이전 연결을 버린다. 이전 클라이언트는 {@code shutdown()} 으로 새 요청을 막고 진행 중인 요청을 마친 뒤
+ * 연결과 선택자 스레드를 정리한다. {@code close()} 는 진행 중인 요청을 기다리며 호출 스레드를 막으므로 쓰지 않는다.
+ */
+public class GeminiHttpTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(GeminiHttpTransport.class);
+    private static final String GZIP = "gzip";
+
+    private final GeminiProperties.Http config;
+    private final Supplier<HttpClient> clientFactory;
+    private final MeterRegistry registry;
+    private final Deque<PendingRequest> pending = new ArrayDeque<>();
+    private final Counter idleRecycles;
+    private final Counter ttlRecycles;
+    private HttpClient client;
+    private long createdAtNanos;
+    private long lastUsedNanos;
+    private int active;
+
+    public GeminiHttpTransport(final GeminiProperties properties, final Supplier<HttpClient> clientFactory,
+        final MeterRegistry registry) {
+        this.config = properties.getHttp();
+        this.clientFactory = clientFactory;
+        this.registry = registry;
+        this.client = clientFactory.get();
+        this.createdAtNanos = System.nanoTime();
+        this.lastUsedNanos = createdAtNanos;
+        this.idleRecycles = recycleCounter(registry, "idle");
+        this.ttlRecycles = recycleCounter(registry, "ttl");
+        Gauge.builder("gemini.http.pool.active", this, GeminiHttpTransport::active)
+            .description("Gemini 로 보내 응답을 기다리는 요청 수")
+            .register(registry);
+        Gauge.builder("gemini.http.pool.pending", this, GeminiHttpTransport::pending)
+            .description("동시 요청 수 한도 때문에 보내지 못하고 기다리는 요청 수")
+            .register(registry);
+        Gauge.builder("gemini.http.pool.max", config, GeminiProperties.Http::getMaxConcurrentRequests)
+            .description("Gemini 로 동시에 보낼 수 있는 최대 요청 수")
+            .register(registry);
+    }
+
+    /**
+     * 요청을 보내고 압축을 푼 응답으로 완료된다. 연결 오류와 시간 초과는 예외로 완료된다.
+     */
+    public CompletableFuture<Response> send(final HttpRequest request) {
+        final HttpRequest compressed = withCompression(request);
+        return enqueue(client -> client.sendAsync(compressed, HttpResponse.BodyHandlers.ofByteArray())
+            .thenApply(response -> new Response(response.statusCode(), response.headers(),
+                decode(response.headers(), response.body()))));
+    }
+
+    /**
+     * 요청을 보내고 성공 응답의 본문을 도착하는 대로 한 줄씩 {@code lineConsumer} 에 넘긴다.
+     * 응답이 끝나면 본문 없이 완료되며, 실패 응답의 본문은 읽지 않는다.
+     * 조각이 도착하는 대로 읽어야 하므로 압축을 요청하지 않는다.
+     */
+    public CompletableFuture<Response> stream(final HttpRequest request, final Consumer<String> lineConsumer) {
+        final HttpResponse.BodyHandler<Void> handler = info -> info.statusCode() / 100 == 2
+            ? HttpResponse.BodySubscribers.fromLineSubscriber(new LineSubscriber(lineConsumer))
+            : HttpResponse.BodySubscribers.replacing(null);
+        return enqueue(client -> client.sendAsync(request, handler)
+            .thenApply(response -> new Response(response.statusCode(), response.headers(), null)));
+    }
+
+    private CompletableFuture<Response> enqueue(final Function<HttpClient, CompletableFuture<Response>> call) {
+        final PendingRequest pendingRequest = new PendingRequest(call, new CompletableFuture<>());
+        final boolean start;
+        synchronized (this) {
+            start = active < config.getMaxConcurrentRequests();
+            if (start) {
+                active++;
+            } else {
+                pending.addLast(pendingRequest);
+            }
+        }
+        if (start) {
+            execute(pendingRequest);
+        }
+        return pendingRequest.result();
+    }
+
+    synchronized int active() {
+        return active;
+    }
+
+    synchronized int pending() {
+        return pending.size();
+    }
+
+    private void execute(final PendingRequest request) {
+        final long startedAt = System.nanoTime();
+        final CompletableFuture<Response> future;
+        try {
+            future = request.call().apply(currentClient());
+        } catch (RuntimeException ex) {
+            release();
+            request.result().completeExceptionally(ex);
+            return;
+        }
+        future.whenComplete((response, failure) -> {
+            release();
+            final String status = failure == null ? String.valueOf(response.statusCode()) : "IO_ERROR";
+            Timer.builder("gemini.http.client.requests")
+                .description("Gemini HTTP 요청의 응답 시간")
+                .tag("status", status)
+                .register(registry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            if (failure != null) {
+                request.result().completeExceptionally(unwrap(failure));
+            } else {
+                request.result().complete(response);
+            }
+        });
+    }
+
+    private void release() {
+        final PendingRequest next;
+        synchronized (this) {
+            next = pending.pollFirst();
+            if (next == null) {
+                active--;
+            }
+        }
+        if (next != null) {
+            // 끝난 요청의 자리를 그대로 넘겨받는다.
+            execute(next);
+        }
+    }
+
+    private synchronized HttpClient currentClient() {
+        final long now = System.nanoTime();
+        if (now - createdAtNanos >= config.getConnectionTtl().toNanos()) {
+            ttlRecycles.increment();
+            recycle(now, "ttl");
+        } else if (now - lastUsedNanos >= config.getIdleTimeout().toNanos()) {
+            idleRecycles.increment();
+            recycle(now, "idle");
+        }
+        lastUsedNanos = now;
+        return client;
+    }
+
+    private void recycle(final long now, final String reason) {
+        log.debug("Gemini HTTP 클라이언트를 새로 만듭니다: reason={}", reason);
+        final HttpClient previous = client;
+        client = clientFactory.get();
+        createdAtNanos = now;
+        shutdown(previous);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        final HttpClient current;
+        synchronized (this) {
+            current = client;
+        }
+        shutdown(current);
+    }
+
+    static void shutdown(final HttpClient httpClient) {
+        try {
+            httpClient.shutdown();
+        } catch (RuntimeException ex) {
+            log.debug("Gemini HTTP 클라이언트 정리 실패", ex);
+        }
+    }
+
+    private HttpRequest withCompression(final HttpRequest request) {
+        if (!config.isCompression()) {
+            return request;
+        }
+        return HttpRequest.newBuilder(request, (name, value) -> true)
+            .header("Accept-Encoding", GZIP)
+            .build();
+    }
+
+    private static byte[] decode(final HttpHeaders headers, final byte[] body) {
+        final boolean gzipped = headers.firstValue("Content-Encoding")
+            .map(encoding -> encoding.trim().equalsIgnoreCase(GZIP))
+            .orElse(false);
+        if (!gzipped || body == null) {
+            return body;
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static Throwable unwrap(final Throwable failure) {
+        final Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+            ? failure.getCause()
+            : failure;
+        return cause instanceof UncheckedIOException io ? io.getCause() : cause;
+    }
+
+    private static Counter recycleCounter(final MeterRegistry registry, final String reason) {
+        return Counter.builder("gemini.http.client.recycled")
+            .description("연결을 버리기 위해 Gemini HTTP 클라이언트를 새로 만든 횟수")
+            .tag("reason", reason)
+            .register(registry);
+    }
+
+    /**
+     * 압축을 푼 응답.
+     */
+    public record Response(int statusCode, HttpHeaders headers, byte[] body) { }
+
+    private record PendingRequest(Function<HttpClient, CompletableFuture<Response>> call,
+        CompletableFuture<Response> result) { }
+
+    private static final class LineSubscriber implements Flow.Subscriber<String> {
+
+        private final Consumer<String> lineConsumer;
+
+        private LineSubscriber(final Consumer<String> lineConsumer) {
+            this.lineConsumer = lineConsumer;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(final String line) {
+            lineConsumer.accept(line);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            // 실패는 sendAsync 의 결과로 전달된다.
+        }
+
+        @Override
+        public void onComplete() {
+            // 완료는 sendAsync 의 결과로 전달된다.
+        }
+    }
+}
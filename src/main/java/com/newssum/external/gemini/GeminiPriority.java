@@ -0,0 +1,13 @@
+package com.newssum.external.gemini;
+
+/**
+ * Gemini 요청 대기열의 우선순위. 사용자가 응답을 기다리는 크롤링이 백그라운드 작업보다 먼저 호출 기회를 얻는다.
+ */
+public enum GeminiPriority {
+
+    /** 사용자가 응답을 기다리는 동기·스트리밍 크롤링. */
+    INTERACTIVE,
+
+    /** 비동기 크롤링 작업처럼 사용자가 기다리지 않는 작업. */
+    BACKGROUND
+}
@@ -1,10 +1,15 @@
 package com.newssum.external.gemini;
 
+import java.util.List;
+
 /**
  * Gemini 프롬프트 문자열을 생성한다.
  */
 public final class GeminiPromptFactory {
 
+    /** 프롬프트 문구나 응답 형식을 바꾸면 올린다. 캐시 키에 들어가므로 예전 프롬프트로 만든 결과를 다시 쓰지 않는다. */
+    public static final int VERSION = 1;
+
     private GeminiPromptFactory() {
     }
 
@@ -20,7 +25,7 @@ public final class GeminiPromptFactory {
 
     public static String summaryPrompt(final String title, final String content) {
         return """
-            Summarize the following Korean news article in 3-5 bullet points.
+            Summarize the following news article in 3-5 bullet points written in Korean.
             Focus on key facts and main points.
 
             Title: %s
@@ -28,6 +33,69 @@ public final class GeminiPromptFactory {
             """.stripIndent().formatted(nullToEmpty(title), nullToEmpty(content));
     }
 
+    /**
+     * 번역과 요약을 한 번에 요청한다. 응답은 {@code title}, {@code content}, {@code summary} 필드를 가진 JSON 객체다.
+     */
+    public static String translateAndSummarizePrompt(final String title, final String content) {
+        return """
+            Translate the following news article to Korean, maintaining the original meaning and tone,
+            then summarize the Korean translation in 3-5 bullet points focusing on key facts and main points.
+            Respond with a single JSON object and nothing else, using exactly these fields:
+            {"title": "<Korean title>", "content": "<Korean content>", "summary": ["<bullet>", "..."]}
+
+            Title: %s
+            Content: %s
+            """.stripIndent().formatted(nullToEmpty(title), nullToEmpty(content));
+    }
+
+    /**
+     * 짧은 기사 여러 개를 한 번에 요약한다. 기사 번호는 1부터 붙이며, 응답은 번호별 요약을 담은
+     * {@code summaries} 배열을 가진 JSON 객체다.
+     */
+    public static String batchSummaryPrompt(final List<String> titles, final List<String> contents) {
+        final StringBuilder articles = new StringBuilder();
+        for (int index = 0; index < titles.size(); index++) {
+            articles.append("=== ARTICLE ").append(index + 1).append(" ===\n")
+                .append("Title: ").append(nullToEmpty(titles.get(index))).append('\n')
+                .append("Content: ").append(nullToEmpty(contents.get(index))).append('\n')
+                .append("=== END ARTICLE ").append(index + 1).append(" ===\n\n");
+        }
+        return """
+            Summarize each of the following %d news articles separately in 3-5 bullet points written in Korean.
+            Focus on key facts and main points, and never mix facts from different articles.
+            Respond with a single JSON object and nothing else, using exactly these fields:
+            {"summaries": [{"id": <article number>, "summary": ["<bullet>", "..."]}]}
+
+            %s""".stripIndent().formatted(titles.size(), articles);
+    }
+
+    /**
+     * 긴 기사의 한 조각을 요약한다. 조각별 요약은 {@link #mergeSummaryPrompt} 로 합친다.
+     */
+    public static String chunkSummaryPrompt(final String title, final String chunk, final int index, final int total) {
+        return """
+            The following text is part %d of %d of a news article.
+            Summarize the key facts of this part in at most 5 bullet points written in Korean.
+
+            Title: %s
+            Content: %s
+            """.stripIndent().formatted(index, total, nullToEmpty(title), nullToEmpty(chunk));
+    }
+
+    /**
+     * 조각별 요약을 기사 전체 요약 하나로 합친다.
+     */
+    public static String mergeSummaryPrompt(final String title, final List<String> partialSummaries) {
+        return """
+            The following bullet points summarize consecutive parts of one news article.
+            Merge them into 3-5 bullet points written in Korean that cover the whole article, removing duplicates.
+
+            Title: %s
+            Bullet points:
+            %s
+            """.stripIndent().formatted(nullToEmpty(title), String.join("\n", partialSummaries));
+    }
+
     private static String nullToEmpty(final String value) {
         return value == null ? "" : value;
     }
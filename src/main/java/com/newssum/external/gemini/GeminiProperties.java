@@ -17,17 +17,143 @@ import lombok.Setter;
 public class GeminiProperties {
 
     private final Api api = new Api();
+    private final Http http = new Http();
+    private final Cache cache = new Cache();
+    private final RateLimit rateLimit = new RateLimit();
+    private final RetryBudget retryBudget = new RetryBudget();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private final Chunking chunking = new Chunking();
+    private final Batching batching = new Batching();
     private String baseUrl = "https://generativelanguage.googleapis.com/v1beta";
     private String model = "gemini-pro";
     private Duration timeout = Duration.ofSeconds(30);
     private int maxRetries = 3;
+
+    /** 첫 재시도까지의 대기 시간. 이후 재시도마다 두 배로 늘어난다. */
+    private Duration retryBackoff = Duration.ofSeconds(1);
+
+    /** 서버가 Retry-After 로 이보다 오래 기다리라고 하면 재시도하지 않고 실패시킨다. */
+    private Duration maxRetryAfter = Duration.ofSeconds(30);
     private float temperature = 0.3f;
     private int maxOutputTokens = 1000;
 
+    /** 번역이 필요한 기사를 번역·요약 통합 요청 한 번으로 처리할지 여부. */
+    private boolean fusedMode = true;
+
     @Getter
     @Setter
     public static class Api {
 
         private String key;
     }
+
+    @Getter
+    @Setter
+    public static class Http {
+
+        /** 동시에 보낼 수 있는 최대 요청 수. HTTP/2 에서는 연결 하나 위의 동시 스트림 수다. */
+        private int maxConcurrentRequests = 32;
+
+        /** 이 시간 동안 요청이 없으면 클라이언트를 새로 만들어 유휴 연결을 버린다. */
+        private Duration idleTimeout = Duration.ofSeconds(60);
+
+        /** 연결을 재사용하는 최대 시간. 지나면 클라이언트를 새로 만들어 DNS 변경 등을 반영한다. */
+        private Duration connectionTtl = Duration.ofMinutes(10);
+
+        /** gzip 으로 압축된 응답을 요청하고 받은 응답의 압축을 푼다. */
+        private boolean compression = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+
+        /** 프로세스 내 캐시에 보관할 최대 결과 수. 넘치면 가장 오래 쓰지 않은 항목부터 버린다. */
+        private long localMaximumSize = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+
+        /** 분당 호출 수 한도. API 할당량보다 조금 낮게 잡는다. */
+        private long requestsPerMinute = 60;
+
+        /** 분당 입력·출력 토큰 수 한도. 호출마다 예상 토큰 수만큼 차감한다. */
+        private long tokensPerMinute = 120_000;
+
+        /** 한도를 기다리는 호출을 몇 개까지 대기열에 둘지. 넘치면 바로 실패시킨다. */
+        private int maxQueued = 1_000;
+    }
+
+    @Getter
+    @Setter
+    public static class RetryBudget {
+
+        /** 첫 시도 하나당 적립하는 재시도 수. 장애가 길어지면 재시도는 첫 시도의 이 비율을 넘지 못한다. */
+        private double ratio = 0.2;
+
+        /** 적립해 둘 수 있는 최대 재시도 수. 짧은 장애에는 이만큼 바로 재시도할 수 있다. */
+        private int maxTokens = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        /** 최근 호출 중 장애 비율이 이 값 이상이면 회로를 연다. */
+        private double failureRateThreshold = 0.5;
+
+        /** 장애 비율을 계산할 최근 호출 수. */
+        private int slidingWindowSize = 20;
+
+        /** 장애 비율을 계산하기 위해 필요한 최소 호출 수. */
+        private int minimumCalls = 10;
+
+        /** 회로를 연 뒤 시험 호출을 보내기까지 기다리는 시간. */
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        /** 반쯤 열린 상태에서 내보낼 시험 호출 수. 모두 성공하면 회로를 닫는다. */
+        private int permittedCallsInHalfOpenState = 3;
+    }
+
+    @Getter
+    @Setter
+    public static class Chunking {
+
+        /** 본문이 이 토큰 수 이하면 한 번에 요약하고, 넘으면 조각별로 요약한 뒤 합친다. */
+        private int summarySingleCallMaxTokens = 6_000;
+
+        /** 조각 하나의 최대 토큰 수. */
+        private int chunkMaxTokens = 3_000;
+
+        /** 요약할 최대 조각 수. 넘는 뒷부분은 요약하지 않는다. */
+        private int maxChunks = 8;
+
+        /**
+         * 번역할 본문 앞부분의 최대 토큰 수. 번역 결과가 maxOutputTokens 안에 들어가도록 그보다 작게 잡는다.
+         * 요약은 원문 전체로 만들므로 번역은 상세 화면에 보여줄 만큼만 한다.
+         */
+        private int translationMaxTokens = 800;
+    }
+
+    @Getter
+    @Setter
+    public static class Batching {
+
+        /** 짧은 기사 여러 개를 한 번의 호출로 묶어 요약할지 여부. */
+        private boolean enabled = true;
+
+        /** 본문이 이 토큰 수 이하인 기사만 묶는다. */
+        private int articleMaxTokens = 1_000;
+
+        /** 한 번에 묶을 최대 기사 수. */
+        private int maxBatchSize = 8;
+
+        /** 한 번에 묶을 기사들의 최대 토큰 합. 넘기 전에 먼저 모인 기사들을 보낸다. */
+        private int maxBatchTokens = 4_000;
+
+        /** 첫 기사가 들어온 뒤 다른 기사를 기다리는 최대 시간. */
+        private Duration linger = Duration.ofMillis(100);
+    }
 }
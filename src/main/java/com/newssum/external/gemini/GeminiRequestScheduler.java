@@ -0,0 +1,187 @@
+package com.newssum.external.gemini;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.newssum.exception.ErrorCode;
+import com.newssum.exception.GeminiApiException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 모든 Gemini 호출이 거치는 전역 대기열. 분당 요청 수와 분당 토큰 수 한도 안에서만 호출을 내보내고,
+ * 한도를 넘는 호출은 429 를 받는 대신 대기열에서 차례를 기다린다.
+ * <p>
+ * 대기열은 우선순위별로 나뉘며, 앞선 우선순위의 호출이 남아 있으면 뒤 우선순위는 내보내지 않는다.
+ * 한도가 다시 찰 때까지는 타이머가 깨우므로 대기 중인 호출은 스레드를 쓰지 않는다.
+ * 종료할 때 남은 호출은 보내지 않고 {@link ErrorCode#GEMINI_UNAVAILABLE} 로 실패시켜 기다리는 쪽이 멈추지 않게 한다.
+ */
+@Component
+public class GeminiRequestScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(GeminiRequestScheduler.class);
+
+    private final RateBudget requests;
+    private final RateBudget tokens;
+    private final int maxQueued;
+    private final Map<GeminiPriority, Deque<PendingCall<?>>> lanes = new EnumMap<>(GeminiPriority.class);
+    private final Map<GeminiPriority, Timer> waitTimers = new EnumMap<>(GeminiPriority.class);
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("gemini-scheduler-timer-%d").setDaemon(true).build());
+    private int queued;
+    private boolean wakeUpScheduled;
+    private boolean closed;
+
+    public GeminiRequestScheduler(final GeminiProperties properties, final MeterRegistry registry) {
+        final GeminiProperties.RateLimit rateLimit = properties.getRateLimit();
+        final long now = System.nanoTime();
+        this.requests = new RateBudget(rateLimit.getRequestsPerMinute(), now);
+        this.tokens = new RateBudget(rateLimit.getTokensPerMinute(), now);
+        this.maxQueued = rateLimit.getMaxQueued();
+        for (GeminiPriority priority : GeminiPriority.values()) {
+            final Deque<PendingCall<?>> lane = new ArrayDeque<>();
+            lanes.put(priority, lane);
+            Gauge.builder("gemini.scheduler.queue.depth", this, scheduler -> scheduler.depth(priority))
+                .description("Gemini 호출 대기열에서 차례를 기다리는 요청 수")
+                .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                .register(registry);
+            waitTimers.put(priority, Timer.builder("gemini.scheduler.wait")
+                .description("Gemini 호출이 대기열에서 기다린 시간")
+                .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                .register(registry));
+        }
+    }
+
+    /**
+     * 호출을 대기열에 넣는다. 한도가 허락하면 {@code call} 을 실행하고, 결과는 그 호출의 결과로 완료된다.
+     *
+     * @param estimatedTokens 요청과 응답을 합친 예상 토큰 수
+     */
+    public <T> CompletableFuture<T> submit(final GeminiPriority priority, final long estimatedTokens,
+        final Supplier<CompletableFuture<T>> call) {
+        final PendingCall<T> pending = new PendingCall<>(call, estimatedTokens, waitTimers.get(priority),
+            System.nanoTime(), new CompletableFuture<>());
+        synchronized (this) {
+            if (closed) {
+                return CompletableFuture.failedFuture(new GeminiApiException(ErrorCode.GEMINI_UNAVAILABLE));
+            }
+            if (queued >= maxQueued) {
+                log.warn("Gemini 호출 대기열이 가득 찼습니다: queued={}", queued);
+                return CompletableFuture.failedFuture(new GeminiApiException(ErrorCode.GEMINI_BUSY));
+            }
+            lanes.get(priority).addLast(pending);
+            queued++;
+        }
+        dispatch();
+        return pending.result();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        final List<PendingCall<?>> abandoned = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            lanes.values().forEach(lane -> {
+                abandoned.addAll(lane);
+                lane.clear();
+            });
+            queued = 0;
+        }
+        timer.shutdownNow();
+        if (!abandoned.isEmpty()) {
+            log.warn("종료로 보내지 못한 Gemini 호출 {}건을 실패시킵니다.", abandoned.size());
+        }
+        abandoned.forEach(pending -> pending.result()
+            .completeExceptionally(new GeminiApiException(ErrorCode.GEMINI_UNAVAILABLE)));
+    }
+
+    synchronized int depth(final GeminiPriority priority) {
+        return lanes.get(priority).size();
+    }
+
+    private void dispatch() {
+        final List<PendingCall<?>> ready = new ArrayList<>();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            for (GeminiPriority priority : GeminiPriority.values()) {
+                final Deque<PendingCall<?>> lane = lanes.get(priority);
+                while (!lane.isEmpty()) {
+                    final PendingCall<?> head = lane.peekFirst();
+                    final long now = System.nanoTime();
+                    final long waitNanos = Math.max(requests.waitNanos(1, now), tokens.waitNanos(head.tokens(), now));
+                    if (waitNanos > 0) {
+                        scheduleWakeUp(waitNanos);
+                        break;
+                    }
+                    requests.consume(1);
+                    tokens.consume(head.tokens());
+                    lane.pollFirst();
+                    queued--;
+                    ready.add(head);
+                }
+                if (!lane.isEmpty()) {
+                    // 앞선 우선순위가 한도를 기다리는 동안 뒤 우선순위가 한도를 가져가지 않게 한다.
+                    break;
+                }
+            }
+        }
+        ready.forEach(PendingCall::start);
+    }
+
+    private void scheduleWakeUp(final long waitNanos) {
+        if (wakeUpScheduled) {
+            return;
+        }
+        wakeUpScheduled = true;
+        timer.schedule(() -> {
+            synchronized (this) {
+                wakeUpScheduled = false;
+            }
+            dispatch();
+        }, waitNanos, TimeUnit.NANOSECONDS);
+        log.trace("Gemini 호출 한도 대기: wait={}", Duration.ofNanos(waitNanos));
+    }
+
+    private record PendingCall<T>(Supplier<CompletableFuture<T>> call, long tokens, Timer waitTimer,
+        long enqueuedNanos, CompletableFuture<T> result) {
+
+        private void start() {
+            waitTimer.record(System.nanoTime() - enqueuedNanos, TimeUnit.NANOSECONDS);
+            final CompletableFuture<T> future;
+            try {
+                future = call.get();
+            } catch (RuntimeException ex) {
+                result.completeExceptionally(ex);
+                return;
+            }
+            future.whenComplete((value, failure) -> {
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                } else {
+                    result.complete(value);
+                }
+            });
+        }
+    }
+}
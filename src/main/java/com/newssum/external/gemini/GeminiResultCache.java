@@ -0,0 +1,176 @@
+package com.newssum.external.gemini;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.newssum.domain.GeminiCacheEntry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Gemini 번역·요약 결과를 담는 2단계 캐시.
+ * <p>
+ * 1단계는 크기 제한이 있는 프로세스 내 LRU, 2단계는 MongoDB {@code gemini_cache} 컬렉션이다.
+ * 1단계에서 놓친 키는 2단계에서 찾아 1단계로 올린다. MongoDB 장애는 캐시 미스로 취급해 호출을 막지 않는다.
+ * {@link CompletableFuture} 를 반환하는 메서드도 캐싱할 수 있도록 {@code retrieve} 를 지원한다.
+ * 저장할 때는 1단계에만 바로 넣고 2단계 쓰기는 별도 실행기에 맡겨, Gemini 응답을 받은 스레드가 MongoDB 를 기다리지 않는다.
+ */
+public class GeminiResultCache extends AbstractValueAdaptingCache {
+
+    public static final String NAME = "geminiResults";
+
+    private static final Logger log = LoggerFactory.getLogger(GeminiResultCache.class);
+
+    private final Cache<Object, Object> local;
+    private final MongoTemplate mongoTemplate;
+    private final Executor writeExecutor;
+    private final Counter localHits;
+    private final Counter remoteHits;
+    private final Counter misses;
+
+    public GeminiResultCache(final MongoTemplate mongoTemplate, final long localMaximumSize,
+        final MeterRegistry registry, final Executor writeExecutor) {
+        super(false);
+        this.mongoTemplate = mongoTemplate;
+        this.writeExecutor = writeExecutor;
+        this.local = CacheBuilder.newBuilder()
+            .maximumSize(localMaximumSize)
+            .build();
+        this.localHits = requestCounter(registry, "local", "hit");
+        this.remoteHits = requestCounter(registry, "mongo", "hit");
+        this.misses = requestCounter(registry, "all", "miss");
+        Gauge.builder("gemini.cache.local.size", local, Cache::size)
+            .description("프로세스 내 Gemini 캐시 항목 수")
+            .register(registry);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(final Object key) {
+        final Object cached = local.getIfPresent(key);
+        if (cached != null) {
+            localHits.increment();
+            return cached;
+        }
+        final Object stored = findPersistent(key);
+        if (stored != null) {
+            remoteHits.increment();
+            local.put(key, stored);
+            return stored;
+        }
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        final Object cached = lookup(key);
+        if (cached != null) {
+            return (T) fromStoreValue(cached);
+        }
+        try {
+            final T value = valueLoader.call();
+            put(key, value);
+            return value;
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(final Object key) {
+        return CompletableFuture.completedFuture(lookup(key));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> retrieve(final Object key, final Supplier<CompletableFuture<T>> valueLoader) {
+        final T cached = (T) fromStoreValue(lookup(key));
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return valueLoader.get().thenApply(value -> {
+            put(key, value);
+            return value;
+        });
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        if (value == null) {
+            return;
+        }
+        local.put(key, value);
+        writeExecutor.execute(() -> persist(key, value));
+    }
+
+    @Override
+    public void evict(final Object key) {
+        local.invalidate(key);
+        try {
+            mongoTemplate.remove(GeminiCacheEntry.builder().id(key.toString()).build());
+        } catch (DataAccessException ex) {
+            log.warn("Gemini 캐시 삭제 실패: key={}", key, ex);
+        }
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        mongoTemplate.remove(new Query(), GeminiCacheEntry.class);
+    }
+
+    private void persist(final Object key, final Object value) {
+        try {
+            mongoTemplate.save(GeminiCacheEntry.builder()
+                .id(key.toString())
+                .value(value)
+                .createdAt(LocalDateTime.now())
+                .build());
+        } catch (DataAccessException ex) {
+            log.warn("Gemini 캐시 저장 실패: key={}", key, ex);
+        }
+    }
+
+    private Object findPersistent(final Object key) {
+        try {
+            final GeminiCacheEntry entry = mongoTemplate.findById(key.toString(), GeminiCacheEntry.class);
+            return entry == null ? null : entry.getValue();
+        } catch (DataAccessException ex) {
+            log.warn("Gemini 캐시 조회 실패: key={}", key, ex);
+            return null;
+        }
+    }
+
+    private Counter requestCounter(final MeterRegistry registry, final String tier, final String result) {
+        return Counter.builder("gemini.cache.requests")
+            .description("Gemini 결과 캐시 조회 수")
+            .tag("tier", tier)
+            .tag("result", result)
+            .register(registry);
+    }
+}
@@ -0,0 +1,41 @@
+package com.newssum.external.gemini;
+
+/**
+ * 프롬프트와 기사 본문의 Gemini 토큰 수를 어림한다.
+ * <p>
+ * 한글·한자·가나는 글자 하나가 대략 토큰 하나가 되고, 라틴 문자와 숫자·공백은 네 글자가 대략 토큰 하나가 된다.
+ * 한도 계산과 분할 기준으로만 쓰므로 실제 토큰 수보다 조금 크게 잡는다.
+ */
+public final class GeminiTokenEstimator {
+
+    private static final int LATIN_CHARS_PER_TOKEN = 4;
+
+    private GeminiTokenEstimator() {
+    }
+
+    public static int estimate(final String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int wideChars = 0;
+        int otherChars = 0;
+        for (int i = 0; i < text.length(); ) {
+            final int codePoint = text.codePointAt(i);
+            if (isWide(codePoint)) {
+                wideChars++;
+            } else {
+                otherChars++;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return wideChars + (otherChars + LATIN_CHARS_PER_TOKEN - 1) / LATIN_CHARS_PER_TOKEN;
+    }
+
+    private static boolean isWide(final int codePoint) {
+        final Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+            || script == Character.UnicodeScript.HAN
+            || script == Character.UnicodeScript.HIRAGANA
+            || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,44 @@
+package com.newssum.external.gemini;
+
+/**
+ * 분당 한도를 연속적으로 채우는 예산. 요청 수와 토큰 수 한도에 하나씩 사용하며, 호출자가 동기화를 책임진다.
+ */
+final class RateBudget {
+
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+
+    private final double capacity;
+    private final double nanosPerUnit;
+    private double available;
+    private long lastRefillNanos;
+
+    RateBudget(final long perMinute, final long nowNanos) {
+        this.capacity = Math.max(perMinute, 1);
+        this.nanosPerUnit = NANOS_PER_MINUTE / capacity;
+        this.available = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * {@code amount} 만큼 쓸 수 있을 때까지 남은 시간을 계산한다. 한도보다 큰 요청은 한도 전체를 쓰는 것으로 본다.
+     *
+     * @return 바로 쓸 수 있으면 0, 아니면 기다려야 하는 나노초
+     */
+    long waitNanos(final long amount, final long nowNanos) {
+        refill(nowNanos);
+        final double needed = Math.min(amount, capacity);
+        return available >= needed ? 0 : (long) Math.ceil((needed - available) * nanosPerUnit);
+    }
+
+    void consume(final long amount) {
+        available -= Math.min(amount, capacity);
+    }
+
+    private void refill(final long nowNanos) {
+        final long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            available = Math.min(capacity, available + elapsed / nanosPerUnit);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
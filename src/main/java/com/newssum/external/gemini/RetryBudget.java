@@ -0,0 +1,34 @@
+package com.newssum.external.gemini;
+
+/**
+ * 프로세스 전체에서 공유하는 재시도 예산. 첫 시도마다 {@code ratio} 만큼 적립하고 재시도마다 하나씩 쓴다.
+ * 장애가 길어져 적립분을 다 쓰면 재시도는 첫 시도 수의 {@code ratio} 배를 넘지 못한다.
+ */
+final class RetryBudget {
+
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+    RetryBudget(final double ratio, final int maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = Math.max(maxTokens, 1);
+        this.tokens = this.maxTokens;
+    }
+
+    synchronized void recordRequest() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    synchronized boolean tryAcquireRetry() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    synchronized double available() {
+        return tokens;
+    }
+}
@@ -0,0 +1,117 @@
+package com.newssum.external.gemini;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.newssum.external.gemini.GeminiApiClient.SummaryResult;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 짧은 기사의 요약 요청을 우선순위별로 모아 한 번에 내보낸다.
+ * <p>
+ * 묶음은 기사 수나 토큰 합이 한도에 닿으면 바로, 그렇지 않으면 첫 기사가 들어온 뒤 linger 시간이 지나면 내보낸다.
+ * 내보낸 묶음을 실제로 호출하고 각 기사의 결과를 완료하는 일은 {@code flusher} 가 맡는다.
+ */
+final class SummaryBatcher {
+
+    private final GeminiProperties.Batching config;
+    private final BiConsumer<GeminiPriority, List<Item>> flusher;
+    private final DistributionSummary batchSizes;
+    private final Map<GeminiPriority, Batch> open = new EnumMap<>(GeminiPriority.class);
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("gemini-batch-timer-%d").setDaemon(true).build());
+
+    SummaryBatcher(final GeminiProperties.Batching config, final BiConsumer<GeminiPriority, List<Item>> flusher,
+        final MeterRegistry registry) {
+        this.config = config;
+        this.flusher = flusher;
+        this.batchSizes = DistributionSummary.builder("gemini.batch.size")
+            .description("한 번의 Gemini 호출로 묶어 요약한 기사 수")
+            .register(registry);
+    }
+
+    /**
+     * 기사를 열린 묶음에 넣는다. 결과는 묶음이 호출된 뒤 이 기사의 요약으로 완료된다.
+     */
+    CompletableFuture<SummaryResult> submit(final GeminiPriority priority, final String title, final String content) {
+        final Item item = new Item(title, content, new CompletableFuture<>());
+        final long tokens = GeminiTokenEstimator.estimate(title) + GeminiTokenEstimator.estimate(content);
+        final List<List<Item>> ready = new ArrayList<>(2);
+        synchronized (this) {
+            Batch batch = open.get(priority);
+            if (batch != null && batch.tokens + tokens > config.getMaxBatchTokens()) {
+                ready.add(close(priority, batch));
+                batch = null;
+            }
+            if (batch == null) {
+                batch = openBatch(priority);
+            }
+            batch.items.add(item);
+            batch.tokens += tokens;
+            if (batch.items.size() >= config.getMaxBatchSize()) {
+                ready.add(close(priority, batch));
+            }
+        }
+        ready.forEach(items -> flush(priority, items));
+        return item.result();
+    }
+
+    void shutdown() {
+        timer.shutdownNow();
+    }
+
+    private Batch openBatch(final GeminiPriority priority) {
+        final Batch batch = new Batch();
+        batch.lingerTask = timer.schedule(() -> flushExpired(priority, batch),
+            config.getLinger().toNanos(), TimeUnit.NANOSECONDS);
+        open.put(priority, batch);
+        return batch;
+    }
+
+    private List<Item> close(final GeminiPriority priority, final Batch batch) {
+        open.remove(priority);
+        batch.lingerTask.cancel(false);
+        return batch.items;
+    }
+
+    private void flushExpired(final GeminiPriority priority, final Batch batch) {
+        synchronized (this) {
+            if (open.get(priority) != batch) {
+                // 한도에 닿아 이미 내보낸 묶음이다.
+                return;
+            }
+            open.remove(priority);
+        }
+        flush(priority, batch.items);
+    }
+
+    private void flush(final GeminiPriority priority, final List<Item> items) {
+        batchSizes.record(items.size());
+        try {
+            flusher.accept(priority, items);
+        } catch (RuntimeException ex) {
+            // 타이머 스레드에서 던진 예외는 사라지므로 기다리는 기사들을 여기서 실패시킨다.
+            items.forEach(item -> item.result().completeExceptionally(ex));
+        }
+    }
+
+    record Item(String title, String content, CompletableFuture<SummaryResult> result) { }
+
+    private static final class Batch {
+
+        private final List<Item> items = new ArrayList<>();
+        private long tokens;
+        private ScheduledFuture<?> lingerTask;
+    }
+}
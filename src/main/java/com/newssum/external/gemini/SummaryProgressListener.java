@@ -0,0 +1,12 @@
+package com.newssum.external.gemini;
+
+/**
+ * 스트리밍으로 요청한 요약의 항목을 생성되는 대로 전달받는다.
+ * <p>
+ * 호출이 실패해 다시 시도하면 {@code index} 0 부터 다시 전달되므로, 받는 쪽은 같은 번호의 항목을 덮어쓰면 된다.
+ */
+@FunctionalInterface
+public interface SummaryProgressListener {
+
+    void onBullet(int index, String bullet);
+}
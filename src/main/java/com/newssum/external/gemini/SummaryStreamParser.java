@@ -0,0 +1,90 @@
+package com.newssum.external.gemini;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newssum.exception.ErrorCode;
+import com.newssum.exception.GeminiApiException;
+import com.newssum.external.gemini.GeminiApiClient.GeminiResponse;
+import com.newssum.external.gemini.GeminiApiClient.SummaryResult;
+
+/**
+ * {@code streamGenerateContent} 의 SSE 응답을 한 줄씩 읽어 요약 항목을 만든다.
+ * <p>
+ * 조각마다 이어 붙인 텍스트에서 줄바꿈이 나올 때마다 완성된 항목을 {@link SummaryProgressListener} 로 넘기고,
+ * 마지막 줄은 응답이 끝난 뒤 {@link #finish()} 에서 넘긴다. 항목은 일반 요약 응답과 같은 규칙으로 다듬는다.
+ * 한 응답의 줄은 HTTP 클라이언트가 차례로 전달하므로 동기화하지 않는다.
+ */
+final class SummaryStreamParser {
+
+    private static final Logger log = LoggerFactory.getLogger(SummaryStreamParser.class);
+    private static final String DATA_PREFIX = "data:";
+    private static final int MAX_SUMMARY_ITEMS = 5;
+
+    private final ObjectMapper objectMapper;
+    private final SummaryProgressListener listener;
+    private final StringBuilder partialLine = new StringBuilder();
+    private final List<String> bullets = new ArrayList<>();
+
+    SummaryStreamParser(final ObjectMapper objectMapper, final SummaryProgressListener listener) {
+        this.objectMapper = objectMapper;
+        this.listener = listener;
+    }
+
+    /**
+     * SSE 응답의 한 줄을 읽는다. {@code data:} 줄만 응답 조각이며 빈 줄과 다른 필드는 무시한다.
+     */
+    void accept(final String line) {
+        if (!line.startsWith(DATA_PREFIX)) {
+            return;
+        }
+        final GeminiResponse chunk;
+        try {
+            chunk = objectMapper.readValue(line.substring(DATA_PREFIX.length()).trim(), GeminiResponse.class);
+        } catch (JsonProcessingException ex) {
+            log.debug("Gemini 스트리밍 조각을 해석하지 못했습니다: {}", ex.getOriginalMessage());
+            return;
+        }
+        final String text = GeminiApiClient.extractFirstText(chunk);
+        if (text == null) {
+            return;
+        }
+        partialLine.append(text);
+        int newline;
+        while ((newline = partialLine.indexOf("\n")) >= 0) {
+            addBullet(partialLine.substring(0, newline));
+            partialLine.delete(0, newline + 1);
+        }
+    }
+
+    /**
+     * 응답이 끝난 뒤 남은 줄을 마저 읽고 전체 요약을 반환한다.
+     */
+    SummaryResult finish() {
+        addBullet(partialLine.toString());
+        partialLine.setLength(0);
+        if (bullets.isEmpty()) {
+            throw new GeminiApiException(ErrorCode.GEMINI_API_FAILURE);
+        }
+        return new SummaryResult(List.copyOf(bullets));
+    }
+
+    private void addBullet(final String line) {
+        final String bullet = line.replaceFirst("^[\\-•\\*]+\\s?", "").trim();
+        if (bullet.isEmpty() || bullets.size() >= MAX_SUMMARY_ITEMS) {
+            return;
+        }
+        bullets.add(bullet);
+        try {
+            listener.onBullet(bullets.size() - 1, bullet);
+        } catch (RuntimeException ex) {
+            // 중간 결과를 받지 못해도 요약은 끝까지 만든다.
+            log.debug("요약 중간 결과 전달 실패: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.newssum.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.newssum.domain.CrawlJob;
+
+/**
+ * MongoDB repository for {@link CrawlJob} documents.
+ */
+@Repository
+public interface CrawlJobRepository extends MongoRepository<CrawlJob, String>, CrawlJobRepositoryCustom {
+
+    Optional<CrawlJob> findByIdAndRequestedBy(String id, String requestedBy);
+}
@@ -0,0 +1,53 @@
+package com.newssum.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import com.newssum.domain.CrawlJob;
+
+/**
+ * 실행 중인 크롤링 작업의 진행 상황을 문서 전체를 다시 쓰지 않고 원자적으로 갱신한다.
+ */
+public interface CrawlJobRepositoryCustom {
+
+    /**
+     * {@code owner} 가 맡은 미완료 작업을 실행 중으로 바꾼다. 이미 끝났거나 실패로 바뀐 작업이면 {@code false} 를 반환한다.
+     */
+    boolean markRunning(String jobId, String owner);
+
+    void updateTotalCount(String jobId, int totalCount);
+
+    void incrementSummarized(String jobId);
+
+    void incrementSkipped(String jobId);
+
+    /**
+     * 확정된 기사를 결과 목록에 추가한다. 새로 저장한 기사면 처리 건수를, 기존 기사면 건너뛴 건수를 늘린다.
+     */
+    void appendArticle(String jobId, CrawlJob.Article article);
+
+    /**
+     * {@code owner} 가 맡은 미완료 작업을 완료로 바꾼다. 기록이 끊겨 이미 실패로 바뀐 작업이면 바꾸지 않고 {@code false} 를 반환한다.
+     */
+    boolean markCompleted(String jobId, String owner, int processedCount, int skippedCount);
+
+    /**
+     * {@code owner} 가 맡은 미완료 작업을 실패로 바꾼다. 이미 끝난 작업이면 바꾸지 않고 {@code false} 를 반환한다.
+     */
+    boolean markFailed(String jobId, String owner, String errorCode, String errorMessage);
+
+    /**
+     * {@code owner} 가 맡은 작업들이 아직 살아 있음을 기록한다.
+     */
+    void heartbeat(String owner, Collection<String> jobIds);
+
+    /**
+     * {@code cutoff} 전부터 기록이 끊긴 미완료 작업을 모두 실패로 바꾸고 바꾼 수를 반환한다.
+     */
+    long markAbandoned(LocalDateTime cutoff, String errorCode, String errorMessage);
+
+    /**
+     * 작업 하나가 {@code cutoff} 전부터 기록이 끊긴 미완료 작업이면 실패로 바꾼다.
+     */
+    void markAbandoned(String jobId, LocalDateTime cutoff, String errorCode, String errorMessage);
+}
@@ -0,0 +1,120 @@
+package com.newssum.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.newssum.domain.CrawlJob;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link CrawlJobRepositoryCustom} 의 MongoTemplate 기반 구현.
+ */
+@RequiredArgsConstructor
+class CrawlJobRepositoryImpl implements CrawlJobRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean markRunning(final String jobId, final String owner) {
+        return updateOwned(jobId, owner, new Update()
+            .set("status", CrawlJob.Status.RUNNING)
+            .set("startedAt", LocalDateTime.now()));
+    }
+
+    @Override
+    public void updateTotalCount(final String jobId, final int totalCount) {
+        update(jobId, new Update().set("totalCount", totalCount));
+    }
+
+    @Override
+    public void incrementSummarized(final String jobId) {
+        update(jobId, new Update().inc("summarizedCount", 1));
+    }
+
+    @Override
+    public void incrementSkipped(final String jobId) {
+        update(jobId, new Update().inc("skippedCount", 1));
+    }
+
+    @Override
+    public void appendArticle(final String jobId, final CrawlJob.Article article) {
+        update(jobId, new Update()
+            .push("articles", article)
+            .inc(article.isNewlyCreated() ? "processedCount" : "skippedCount", 1));
+    }
+
+    @Override
+    public boolean markCompleted(final String jobId, final String owner, final int processedCount,
+        final int skippedCount) {
+        // 진행 중 누적한 건수 대신 크롤링 결과의 최종 건수로 맞춘다.
+        return updateOwned(jobId, owner, new Update()
+            .set("status", CrawlJob.Status.COMPLETED)
+            .set("processedCount", processedCount)
+            .set("skippedCount", skippedCount)
+            .set("finishedAt", LocalDateTime.now()));
+    }
+
+    @Override
+    public boolean markFailed(final String jobId, final String owner, final String errorCode,
+        final String errorMessage) {
+        return updateOwned(jobId, owner, failed(errorCode, errorMessage));
+    }
+
+    @Override
+    public void heartbeat(final String owner, final Collection<String> jobIds) {
+        mongoTemplate.updateMulti(Query.query(Criteria.where("id").in(jobIds).and("owner").is(owner)),
+            new Update().set("heartbeatAt", LocalDateTime.now()), CrawlJob.class);
+    }
+
+    @Override
+    public long markAbandoned(final LocalDateTime cutoff, final String errorCode, final String errorMessage) {
+        return mongoTemplate.updateMulti(Query.query(abandoned(cutoff)), failed(errorCode, errorMessage),
+            CrawlJob.class).getModifiedCount();
+    }
+
+    @Override
+    public void markAbandoned(final String jobId, final LocalDateTime cutoff, final String errorCode,
+        final String errorMessage) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(jobId).andOperator(abandoned(cutoff))),
+            failed(errorCode, errorMessage), CrawlJob.class);
+    }
+
+    /**
+     * 끝나지 않았고 {@code cutoff} 이후 기록이 없는 작업. 기록 필드가 생기기 전의 작업은 생성 시각으로 판단한다.
+     */
+    private Criteria abandoned(final LocalDateTime cutoff) {
+        return new Criteria().andOperator(
+            Criteria.where("status").in(CrawlJob.Status.QUEUED, CrawlJob.Status.RUNNING),
+            new Criteria().orOperator(
+                Criteria.where("heartbeatAt").lt(cutoff),
+                Criteria.where("heartbeatAt").exists(false).and("createdAt").lt(cutoff)));
+    }
+
+    private Update failed(final String errorCode, final String errorMessage) {
+        return new Update()
+            .set("status", CrawlJob.Status.FAILED)
+            .set("errorCode", errorCode)
+            .set("errorMessage", errorMessage)
+            .set("finishedAt", LocalDateTime.now());
+    }
+
+    /**
+     * {@code owner} 가 맡은 미완료 작업일 때만 바꾼다. 기록이 끊겨 이미 실패로 바뀐 작업을 되살리지 않는다.
+     */
+    private boolean updateOwned(final String jobId, final String owner, final Update update) {
+        return mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(jobId)
+                .and("owner").is(owner)
+                .and("status").in(CrawlJob.Status.QUEUED, CrawlJob.Status.RUNNING)),
+            update, CrawlJob.class).getModifiedCount() == 1;
+    }
+
+    private void update(final String jobId, final Update update) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(jobId)), update, CrawlJob.class);
+    }
+}
@@ -1,5 +1,7 @@
 package com.newssum.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -13,13 +15,20 @@ import com.newssum.domain.NewsArticle;
  * MongoDB repository for {@link NewsArticle} documents.
  */
 @Repository
-public interface NewsArticleRepository extends MongoRepository<NewsArticle, String> {
+public interface NewsArticleRepository extends MongoRepository<NewsArticle, String>, NewsArticleRepositoryCustom {
 
     Optional<NewsArticle> findByUrlHash(String urlHash);
 
     boolean existsByUrlHash(String urlHash);
 
-    Page<NewsArticle> findByCrawledBy(String crawledBy, Pageable pageable);
+    List<NewsArticle> findByUrlHashIn(Collection<String> urlHashes);
+
+    /**
+     * 사용자의 히스토리 목록을 {@code {crawled_by, crawled_at}} 인덱스로 조회한다. 본문 필드는 읽지 않는다.
+     */
+    Page<NewsHistoryView> findHistoryByCrawledBy(String crawledBy, Pageable pageable);
+
+    List<NewsHistoryView> findHistoryByIdInAndCrawledBy(Collection<String> ids, String crawledBy);
 
     Optional<NewsArticle> findByIdAndCrawledBy(String id, String crawledBy);
 }
@@ -0,0 +1,32 @@
+package com.newssum.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.newssum.domain.NewsArticle;
+
+/**
+ * Spring Data 파생 쿼리로 표현하기 어려운 {@link NewsArticle} 저장 연산.
+ */
+public interface NewsArticleRepositoryCustom {
+
+    /**
+     * 기사들을 한 번의 unordered bulk insert 로 저장한다.
+     * {@code url_hash} 고유 인덱스 충돌은 예외 대신 {@link BulkInsertResult#duplicates()} 로 돌려준다.
+     */
+    BulkInsertResult insertAllUnordered(List<NewsArticle> articles);
+
+    /**
+     * 사용자의 히스토리를 최신순으로 {@code (crawledAt, id)} 바로 다음 기사부터 최대 {@code limit} 건 읽는다.
+     * 앞 기사를 건너뛰거나 전체 건수를 세지 않고 {@code {crawled_by, crawled_at, _id}} 인덱스에서 바로 이어 읽는다.
+     * {@code crawledAt} 이 {@code null} 이면 가장 최근 기사부터 읽는다.
+     */
+    List<NewsHistoryView> findHistoryBefore(String crawledBy, LocalDateTime crawledAt, String id, int limit);
+
+    record BulkInsertResult(List<NewsArticle> inserted, List<NewsArticle> duplicates) {
+
+        public static BulkInsertResult empty() {
+            return new BulkInsertResult(List.of(), List.of());
+        }
+    }
+}
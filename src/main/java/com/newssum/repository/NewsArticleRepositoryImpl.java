@@ -0,0 +1,84 @@
+package com.newssum.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.newssum.domain.NewsArticle;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link NewsArticleRepositoryCustom} 의 MongoTemplate 기반 구현.
+ */
+@RequiredArgsConstructor
+class NewsArticleRepositoryImpl implements NewsArticleRepositoryCustom {
+
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public BulkInsertResult insertAllUnordered(final List<NewsArticle> articles) {
+        if (articles.isEmpty()) {
+            return BulkInsertResult.empty();
+        }
+        // bulk insert 결과로는 엔티티에 id 가 채워지지 않으므로 미리 부여해 둔다.
+        final List<NewsArticle> withIds = articles.stream()
+            .map(article -> article.getId() != null ? article : article.toBuilder().id(ObjectId.get().toHexString()).build())
+            .toList();
+        try {
+            mongoTemplate.bulkOps(BulkMode.UNORDERED, NewsArticle.class)
+                .insert(withIds)
+                .execute();
+            return new BulkInsertResult(withIds, List.of());
+        } catch (BulkOperationException ex) {
+            return splitDuplicates(withIds, ex);
+        }
+    }
+
+    @Override
+    public List<NewsHistoryView> findHistoryBefore(final String crawledBy, final LocalDateTime crawledAt,
+        final String id, final int limit) {
+        final Criteria criteria = Criteria.where("crawledBy").is(crawledBy);
+        if (crawledAt != null) {
+            criteria.orOperator(
+                Criteria.where("crawledAt").lt(crawledAt),
+                Criteria.where("crawledAt").is(crawledAt).and("id").lt(id));
+        }
+        final Query query = Query.query(criteria)
+            .with(Sort.by(Sort.Direction.DESC, "crawledAt", "id"))
+            .limit(limit);
+        return mongoTemplate.query(NewsArticle.class)
+            .as(NewsHistoryView.class)
+            .matching(query)
+            .all();
+    }
+
+    private BulkInsertResult splitDuplicates(final List<NewsArticle> articles, final BulkOperationException ex) {
+        final Set<Integer> duplicateIndexes = new HashSet<>();
+        for (BulkWriteError error : ex.getErrors()) {
+            if (error.getCode() != DUPLICATE_KEY_ERROR) {
+                throw ex;
+            }
+            duplicateIndexes.add(error.getIndex());
+        }
+        final List<NewsArticle> inserted = new ArrayList<>();
+        final List<NewsArticle> duplicates = new ArrayList<>();
+        for (int index = 0; index < articles.size(); index++) {
+            (duplicateIndexes.contains(index) ? duplicates : inserted).add(articles.get(index));
+        }
+        return new BulkInsertResult(List.copyOf(inserted), List.copyOf(duplicates));
+    }
+}
@@ -0,0 +1,29 @@
+package com.newssum.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.newssum.domain.NewsArticle;
+
+/**
+ * 히스토리 목록에 필요한 {@link NewsArticle} 필드만 읽는 projection.
+ * 본문 필드는 조회하지 않으므로 목록 조회가 기사 본문 크기만큼 읽고 전송하지 않는다.
+ */
+public interface NewsHistoryView {
+
+    String getId();
+
+    String getSourceOutlet();
+
+    String getTranslatedTitle();
+
+    List<String> getSummary();
+
+    String getLanguage();
+
+    String getUrl();
+
+    LocalDateTime getPublishedAt();
+
+    LocalDateTime getCrawledAt();
+}
@@ -0,0 +1,100 @@
+package com.newssum.service;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.stereotype.Component;
+
+import com.newssum.dto.news.CrawledArticleResponse;
+
+/**
+ * 지금 처리 중인 기사를 URL 해시로 등록해, 같은 기사를 동시에 요청한 크롤링들이 결과 하나를 나눠 받게 한다.
+ * <p>
+ * 처음 등록한 요청(leader)만 기사를 내려받고 Gemini 를 호출해 저장하며, 나머지(follower)는 leader 의 결과를 기다린다.
+ * 리다이렉트로 다른 해시가 된 기사는 처리 단계에 들어선 flight 에만 합류한다. 처리 단계의 flight 는 다른 flight 를
+ * 기다리지 않으므로 서로를 기다리는 순환이 생기지 않는다.
+ */
+@Component
+public class ArticleFlightRegistry {
+
+    private final ConcurrentMap<String, Flight> flights = new ConcurrentHashMap<>();
+
+    /**
+     * 해시에 해당하는 flight 에 참여한다. 진행 중인 flight 가 없으면 새로 만들어 leader 가 된다.
+     */
+    public Ticket join(final String urlHash) {
+        final Flight created = new Flight(urlHash);
+        final Flight existing = flights.putIfAbsent(urlHash, created);
+        return existing == null ? new Ticket(created, true) : new Ticket(existing, false);
+    }
+
+    /**
+     * leader 가 내려받은 기사의 최종 해시를 flight 에 추가로 등록한다. 이미 처리 단계에 들어선 다른 flight 가
+     * 그 해시를 갖고 있으면 그 flight 를 반환하며, 호출자는 직접 처리하지 않고 그 결과를 기다리면 된다.
+     */
+    public Optional<Flight> alias(final Flight flight, final String urlHash) {
+        while (true) {
+            // complete 가 키를 해제하는 중이어도 놓치지 않도록 등록 전에 키를 추가한다.
+            flight.keys.add(urlHash);
+            final Flight existing = flights.putIfAbsent(urlHash, flight);
+            if (existing == null) {
+                if (flight.closed) {
+                    flights.remove(urlHash, flight);
+                }
+                return Optional.empty();
+            }
+            if (existing == flight || !existing.processing) {
+                return Optional.empty();
+            }
+            if (!existing.result.isDone()) {
+                return Optional.of(existing);
+            }
+            flights.remove(urlHash, existing);
+        }
+    }
+
+    /**
+     * 중복 확인을 마치고 Gemini 호출 단계에 들어섰음을 표시한다. 이후로는 다른 flight 가 이 flight 에 합류할 수 있다.
+     */
+    public void markProcessing(final Flight flight) {
+        flight.processing = true;
+    }
+
+    /**
+     * flight 를 등록 해제하고 결과를 follower 에게 전달한다. 응답이 없으면 기사를 건너뛴 것이다.
+     */
+    public void complete(final Flight flight, final CrawledArticleResponse response, final Throwable failure) {
+        flight.closed = true;
+        flight.keys.forEach(key -> flights.remove(key, flight));
+        if (failure != null) {
+            flight.result.completeExceptionally(failure);
+        } else {
+            flight.result.complete(Optional.ofNullable(response));
+        }
+    }
+
+    int size() {
+        return flights.size();
+    }
+
+    public static final class Flight {
+
+        private final CompletableFuture<Optional<CrawledArticleResponse>> result = new CompletableFuture<>();
+        private final Set<String> keys = ConcurrentHashMap.newKeySet();
+        private volatile boolean processing;
+        private volatile boolean closed;
+
+        private Flight(final String urlHash) {
+            keys.add(urlHash);
+        }
+
+        public CompletableFuture<Optional<CrawledArticleResponse>> result() {
+            return result;
+        }
+    }
+
+    public record Ticket(Flight flight, boolean leader) { }
+}
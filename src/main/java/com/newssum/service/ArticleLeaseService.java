@@ -0,0 +1,171 @@
+package com.newssum.service;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.newssum.domain.ArticleLease;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 여러 인스턴스가 같은 기사를 동시에 처리하지 않도록 MongoDB 임대(lease) 문서로 조율한다.
+ * <p>
+ * {@code news.single-flight.lease-enabled} 가 꺼져 있으면 항상 획득에 성공한다. 임대를 관리하지 못하는 상황(DB 장애)에서는
+ * 처리를 막지 않고 진행하며, 최종 중복은 {@code url_hash} 고유 인덱스가 막는다.
+ * Gemini 대기열에서 오래 기다려도 임대가 만료되지 않도록, 가진 임대는 반납할 때까지 유효 시간의 1/3 마다 연장한다.
+ * 인스턴스가 죽으면 연장이 멈추므로 유효 시간이 지나면 다른 인스턴스가 넘겨받는다.
+ */
+@Component
+public class ArticleLeaseService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArticleLeaseService.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final NewsProperties.SingleFlight config;
+    private final String owner = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, ScheduledFuture<?>> renewals = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("article-lease-timer-%d").setDaemon(true).build());
+
+    public ArticleLeaseService(final MongoTemplate mongoTemplate, final NewsProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.config = properties.getSingleFlight();
+    }
+
+    /**
+     * 기사 처리 임대를 얻는다. 다른 인스턴스가 유효한 임대를 갖고 있으면 {@code false} 를 반환한다.
+     * 얻은 임대는 {@link #release(String)} 할 때까지 자동으로 연장된다.
+     */
+    public boolean tryAcquire(final String urlHash) {
+        if (!config.isLeaseEnabled()) {
+            return true;
+        }
+        final Instant now = Instant.now();
+        try {
+            mongoTemplate.insert(ArticleLease.builder()
+                .id(urlHash)
+                .owner(owner)
+                .expiresAt(now.plus(config.getLeaseDuration()))
+                .build());
+        } catch (DuplicateKeyException ex) {
+            // 만료된 임대는 TTL 로 지워지기 전에 넘겨받는다.
+            if (mongoTemplate.updateFirst(
+                Query.query(Criteria.where("id").is(urlHash).and("expiresAt").lt(now)),
+                new Update().set("owner", owner).set("expiresAt", now.plus(config.getLeaseDuration())),
+                ArticleLease.class).getModifiedCount() != 1) {
+                return false;
+            }
+        } catch (DataAccessException ex) {
+            log.warn("기사 임대 획득 실패. 임대 없이 진행합니다: urlHash={}", urlHash, ex);
+            return true;
+        }
+        scheduleRenewal(urlHash);
+        return true;
+    }
+
+    /**
+     * 다른 인스턴스의 임대가 풀리거나 만료되면 완료된다. 스레드를 잡지 않고 타이머로 확인한다.
+     */
+    public CompletableFuture<Void> awaitRelease(final String urlHash) {
+        final CompletableFuture<Void> released = new CompletableFuture<>();
+        if (!config.isLeaseEnabled()) {
+            released.complete(null);
+            return released;
+        }
+        poll(urlHash, released);
+        return released;
+    }
+
+    public void release(final String urlHash) {
+        if (!config.isLeaseEnabled()) {
+            return;
+        }
+        final ScheduledFuture<?> renewal = renewals.remove(urlHash);
+        if (renewal != null) {
+            renewal.cancel(false);
+        }
+        try {
+            mongoTemplate.remove(Query.query(Criteria.where("id").is(urlHash).and("owner").is(owner)), ArticleLease.class);
+        } catch (DataAccessException ex) {
+            log.warn("기사 임대 반납 실패. 만료 후 정리됩니다: urlHash={}", urlHash, ex);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    int heldCount() {
+        return renewals.size();
+    }
+
+    private void scheduleRenewal(final String urlHash) {
+        final long periodMillis = Math.max(config.getLeaseDuration().toMillis() / 3, 1);
+        final ScheduledFuture<?> previous = renewals.put(urlHash,
+            timer.scheduleAtFixedRate(() -> renew(urlHash), periodMillis, periodMillis, TimeUnit.MILLISECONDS));
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    private void renew(final String urlHash) {
+        try {
+            final long renewed = mongoTemplate.updateFirst(
+                Query.query(Criteria.where("id").is(urlHash).and("owner").is(owner)),
+                new Update().set("expiresAt", Instant.now().plus(config.getLeaseDuration())),
+                ArticleLease.class).getModifiedCount();
+            if (renewed == 0) {
+                log.warn("기사 임대를 잃어 연장을 멈춥니다: urlHash={}", urlHash);
+                final ScheduledFuture<?> renewal = renewals.remove(urlHash);
+                if (renewal != null) {
+                    renewal.cancel(false);
+                }
+            }
+        } catch (DataAccessException ex) {
+            // 다음 주기에 다시 연장한다.
+            log.warn("기사 임대 연장 실패: urlHash={}", urlHash, ex);
+        }
+    }
+
+    private void poll(final String urlHash, final CompletableFuture<Void> released) {
+        try {
+            if (!isHeldByOther(urlHash)) {
+                released.complete(null);
+                return;
+            }
+            timer.schedule(() -> poll(urlHash, released), config.getLeasePollInterval().toMillis(),
+                TimeUnit.MILLISECONDS);
+        } catch (DataAccessException ex) {
+            log.warn("기사 임대 확인 실패: urlHash={}", urlHash, ex);
+            released.complete(null);
+        } catch (RuntimeException ex) {
+            // 종료 중이라 타이머에 맡기지 못하면 더 기다리지 않는다.
+            released.complete(null);
+        }
+    }
+
+    private boolean isHeldByOther(final String urlHash) {
+        return mongoTemplate.exists(Query.query(Criteria.where("id").is(urlHash)
+            .and("owner").ne(owner)
+            .and("expiresAt").gt(Instant.now())), ArticleLease.class);
+    }
+}
@@ -0,0 +1,81 @@
+package com.newssum.service;
+
+import java.nio.charset.StandardCharsets;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * 키별 출현 횟수를 고정 크기 표에 근사해 세는 count-min sketch.
+ * <p>
+ * 추정치는 실제 횟수보다 작지 않으며, 해시 충돌로만 커진다. 같은 크기의 sketch 끼리는 칸별로 더해
+ * 여러 시간 구간을 합칠 수 있다. 동기화하지 않는다.
+ */
+final class CountMinSketch {
+
+    private static final HashFunction HASH = Hashing.murmur3_128();
+
+    private final int width;
+    private final int[][] table;
+
+    CountMinSketch(final int width, final int depth) {
+        this.width = width;
+        this.table = new int[depth][width];
+    }
+
+    /**
+     * 키의 횟수를 하나 늘리고 늘린 뒤의 추정치를 반환한다.
+     */
+    long add(final String key) {
+        final long[] hashes = hashes(key);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < table.length; row++) {
+            final int column = column(hashes, row);
+            table[row][column]++;
+            estimate = Math.min(estimate, table[row][column]);
+        }
+        return estimate;
+    }
+
+    long estimate(final String key) {
+        final long[] hashes = hashes(key);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < table.length; row++) {
+            estimate = Math.min(estimate, table[row][column(hashes, row)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * {@code other} 의 횟수를 이 sketch 에 더한다. 두 sketch 의 크기가 같아야 한다.
+     */
+    void merge(final CountMinSketch other) {
+        for (int row = 0; row < table.length; row++) {
+            for (int column = 0; column < width; column++) {
+                table[row][column] += other.table[row][column];
+            }
+        }
+    }
+
+    CountMinSketch copy() {
+        final CountMinSketch copy = new CountMinSketch(width, table.length);
+        copy.merge(this);
+        return copy;
+    }
+
+    private int column(final long[] hashes, final int row) {
+        // 해시 두 개를 조합해 행마다 독립적인 해시처럼 쓴다(Kirsch–Mitzenmacher).
+        return (int) Math.floorMod(hashes[0] + row * hashes[1], (long) width);
+    }
+
+    private static long[] hashes(final String key) {
+        final HashCode hash = HASH.hashString(key, StandardCharsets.UTF_8);
+        final byte[] bytes = hash.asBytes();
+        long high = 0;
+        for (int i = 8; i < 16; i++) {
+            high = (high << 8) | (bytes[i] & 0xFF);
+        }
+        return new long[] {hash.asLong(), high};
+    }
+}
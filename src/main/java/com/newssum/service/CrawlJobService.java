@@ -0,0 +1,254 @@
+package com.newssum.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import com.newssum.crawler.BoundedCrawlExecutor;
+import com.newssum.domain.CrawlJob;
+import com.newssum.dto.news.CrawlJobResponse;
+import com.newssum.dto.news.CrawlNewsRequest;
+import com.newssum.dto.news.CrawlNewsResponse;
+import com.newssum.dto.news.CrawledArticleResponse;
+import com.newssum.exception.BusinessException;
+import com.newssum.exception.ErrorCode;
+import com.newssum.external.gemini.GeminiPriority;
+import com.newssum.repository.CrawlJobRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 크롤링 요청을 백그라운드 작업으로 실행하고 진행 상황을 MongoDB 에 기록한다.
+ * 상태는 DB 에 있으므로 작업을 실행하지 않은 인스턴스도 조회 요청에 응답할 수 있다.
+ * <p>
+ * 작업을 맡은 인스턴스는 끝날 때까지 주기적으로 작업 문서에 살아 있음을 기록한다. 인스턴스가 죽어 기록이
+ * {@code news.jobs.stale-after} 이상 끊긴 미완료 작업은 조회할 때와 기동할 때 실패로 바꾼다.
+ */
+@Service
+public class CrawlJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(CrawlJobService.class);
+
+    private final NewsCrawlingService newsCrawlingService;
+    private final CrawlJobRepository crawlJobRepository;
+    private final BoundedCrawlExecutor jobExecutor;
+    private final Duration staleAfter;
+    private final String owner = UUID.randomUUID().toString();
+    private final Set<String> ownedJobs = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService heartbeatTimer = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("crawl-job-heartbeat-%d").setDaemon(true).build());
+
+    public CrawlJobService(final NewsCrawlingService newsCrawlingService,
+        final CrawlJobRepository crawlJobRepository,
+        @Qualifier("crawlJobExecutor") final BoundedCrawlExecutor jobExecutor,
+        final NewsProperties properties) {
+        this.newsCrawlingService = newsCrawlingService;
+        this.crawlJobRepository = crawlJobRepository;
+        this.jobExecutor = jobExecutor;
+        this.staleAfter = properties.getJobs().getStaleAfter();
+        final long intervalMillis = properties.getJobs().getHeartbeatInterval().toMillis();
+        heartbeatTimer.scheduleAtFixedRate(this::heartbeat, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public CrawlJobResponse submit(final CrawlNewsRequest request, final String requesterEmail) {
+        final BoundedCrawlExecutor.Admission admission = jobExecutor.checkAdmission(1);
+        final CrawlJob job;
+        try {
+            job = crawlJobRepository.save(CrawlJob.builder()
+                .requestedBy(requesterEmail)
+                .sourceUrl(request.getSourceUrl())
+                .requestedCount(request.resolveArticleCount(NewsCrawlingService.DEFAULT_ARTICLE_COUNT))
+                .owner(owner)
+                .heartbeatAt(LocalDateTime.now())
+                .build());
+        } catch (RuntimeException ex) {
+            admission.releaseAll();
+            throw ex;
+        }
+        ownedJobs.add(job.getId());
+        jobExecutor.execute(() -> {
+            try {
+                run(job.getId(), request, requesterEmail);
+            } finally {
+                ownedJobs.remove(job.getId());
+                admission.release();
+            }
+        });
+        log.info("크롤링 작업 등록: jobId={}, url={}, requester={}", job.getId(), request.getSourceUrl(), requesterEmail);
+        return toResponse(job);
+    }
+
+    public CrawlJobResponse getJob(final String jobId, final String userEmail) {
+        final CrawlJob job = crawlJobRepository.findByIdAndRequestedBy(jobId, userEmail)
+            .orElseThrow(() -> new BusinessException(ErrorCode.CRAWL_JOB_NOT_FOUND));
+        final LocalDateTime cutoff = LocalDateTime.now().minus(staleAfter);
+        if (job.getStatus().isFinished() || !isStale(job, cutoff)) {
+            return toResponse(job);
+        }
+        crawlJobRepository.markAbandoned(jobId, cutoff, ErrorCode.CRAWL_JOB_ABANDONED.name(),
+            ErrorCode.CRAWL_JOB_ABANDONED.getMessage());
+        return toResponse(crawlJobRepository.findByIdAndRequestedBy(jobId, userEmail).orElse(job));
+    }
+
+    /**
+     * 이전에 죽은 인스턴스가 남긴 미완료 작업을 실패로 바꾼다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failAbandonedJobs() {
+        try {
+            final long abandoned = crawlJobRepository.markAbandoned(LocalDateTime.now().minus(staleAfter),
+                ErrorCode.CRAWL_JOB_ABANDONED.name(), ErrorCode.CRAWL_JOB_ABANDONED.getMessage());
+            if (abandoned > 0) {
+                log.warn("중단된 크롤링 작업 {}건을 실패로 기록했습니다.", abandoned);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("중단된 크롤링 작업 정리 실패", ex);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatTimer.shutdownNow();
+    }
+
+    void heartbeat() {
+        if (ownedJobs.isEmpty()) {
+            return;
+        }
+        try {
+            crawlJobRepository.heartbeat(owner, List.copyOf(ownedJobs));
+        } catch (RuntimeException ex) {
+            log.warn("크롤링 작업 상태 기록 실패: jobs={}", ownedJobs.size(), ex);
+        }
+    }
+
+    private boolean isStale(final CrawlJob job, final LocalDateTime cutoff) {
+        final LocalDateTime lastSeen = job.getHeartbeatAt() != null ? job.getHeartbeatAt() : job.getCreatedAt();
+        return lastSeen != null && lastSeen.isBefore(cutoff);
+    }
+
+    void run(final String jobId, final CrawlNewsRequest request, final String requesterEmail) {
+        try {
+            if (!crawlJobRepository.markRunning(jobId, owner)) {
+                log.warn("이미 끝났거나 실패로 바뀐 크롤링 작업이라 실행하지 않습니다: jobId={}", jobId);
+                return;
+            }
+            // 사용자가 응답을 기다리지 않으므로 Gemini 호출은 대화형 크롤링에 양보한다.
+            final CrawlNewsResponse response = newsCrawlingService.crawlNews(request, requesterEmail,
+                new JobProgressListener(jobId), GeminiPriority.BACKGROUND);
+            finish(jobId, crawlJobRepository.markCompleted(jobId, owner, response.getProcessedCount(),
+                response.getSkippedCount()));
+        } catch (BusinessException ex) {
+            log.warn("크롤링 작업 실패: jobId={}, error={}", jobId, ex.getErrorCode().name());
+            finish(jobId, crawlJobRepository.markFailed(jobId, owner, ex.getErrorCode().name(),
+                ex.getErrorCode().getMessage()));
+        } catch (RuntimeException ex) {
+            log.error("크롤링 작업 중 예상치 못한 오류: jobId={}", jobId, ex);
+            finish(jobId, crawlJobRepository.markFailed(jobId, owner, ErrorCode.INTERNAL_ERROR.name(),
+                ErrorCode.INTERNAL_ERROR.getMessage()));
+        }
+    }
+
+    private void finish(final String jobId, final boolean recorded) {
+        if (!recorded) {
+            // 기록이 끊긴 사이 다른 인스턴스나 조회가 실패로 바꿨으므로 그 결과를 유지한다.
+            log.warn("이미 실패로 바뀐 크롤링 작업이라 결과를 기록하지 않습니다: jobId={}", jobId);
+        }
+    }
+
+    private CrawlJobResponse toResponse(final CrawlJob job) {
+        return CrawlJobResponse.builder()
+            .jobId(job.getId())
+            .status(job.getStatus().name())
+            .sourceUrl(job.getSourceUrl())
+            .requestedCount(job.getRequestedCount())
+            .totalCount(job.getTotalCount())
+            .summarizedCount(job.getSummarizedCount())
+            .processedCount(job.getProcessedCount())
+            .skippedCount(job.getSkippedCount())
+            .articles(job.getArticles().stream().map(this::toArticleResponse).toList())
+            .errorCode(job.getErrorCode())
+            .errorMessage(job.getErrorMessage())
+            .createdAt(job.getCreatedAt())
+            .startedAt(job.getStartedAt())
+            .finishedAt(job.getFinishedAt())
+            .build();
+    }
+
+    private CrawledArticleResponse toArticleResponse(final CrawlJob.Article article) {
+        return CrawledArticleResponse.builder()
+            .id(article.getArticleId())
+            .url(article.getUrl())
+            .sourceOutlet(article.getSourceOutlet())
+            .originalTitle(article.getOriginalTitle())
+            .language(article.getLanguage())
+            .publishedAt(article.getPublishedAt())
+            .summary(article.getSummary())
+            .newlyCreated(article.isNewlyCreated())
+            .build();
+    }
+
+    /**
+     * 진행 상황을 작업 문서에 반영한다. 기록에 실패해도 크롤링 자체는 계속 진행한다.
+     */
+    private final class JobProgressListener implements CrawlProgressListener {
+
+        private final String jobId;
+
+        private JobProgressListener(final String jobId) {
+            this.jobId = jobId;
+        }
+
+        @Override
+        public void onStarted(final int articleCount) {
+            record(() -> crawlJobRepository.updateTotalCount(jobId, articleCount));
+        }
+
+        @Override
+        public void onArticleProcessed() {
+            record(() -> crawlJobRepository.incrementSummarized(jobId));
+        }
+
+        @Override
+        public void onArticleCompleted(final CrawledArticleResponse article) {
+            record(() -> crawlJobRepository.appendArticle(jobId, CrawlJob.Article.builder()
+                .articleId(article.getId())
+                .url(article.getUrl())
+                .sourceOutlet(article.getSourceOutlet())
+                .originalTitle(article.getOriginalTitle())
+                .language(article.getLanguage())
+                .publishedAt(article.getPublishedAt())
+                .summary(article.getSummary())
+                .newlyCreated(article.isNewlyCreated())
+                .build()));
+        }
+
+        @Override
+        public void onArticleSkipped() {
+            record(() -> crawlJobRepository.incrementSkipped(jobId));
+        }
+
+        private void record(final Runnable update) {
+            try {
+                update.run();
+            } catch (RuntimeException ex) {
+                log.warn("크롤링 작업 진행 상황 기록 실패: jobId={}", jobId, ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.newssum.service;
+
+import com.newssum.dto.news.CrawledArticleResponse;
+
+/**
+ * 크롤링 진행 상황을 기사 단위로 전달받는다.
+ * <p>
+ * 기사 처리 단계는 병렬로 실행되므로 구현체는 여러 스레드에서 동시에 호출될 수 있다.
+ */
+public interface CrawlProgressListener {
+
+    CrawlProgressListener NONE = new CrawlProgressListener() { };
+
+    /**
+     * 처리할 기사 링크 수가 정해졌을 때 한 번 호출된다.
+     */
+    default void onStarted(final int articleCount) {
+    }
+
+    /**
+     * 요약 항목을 생성되는 대로 받을지 여부. {@code true} 면 요약을 스트리밍으로 요청해 {@link #onSummaryProgress} 를 호출한다.
+     */
+    default boolean wantsSummaryProgress() {
+        return false;
+    }
+
+    /**
+     * 기사 요약의 항목 하나가 생성됐을 때 호출된다. Gemini 호출을 다시 시도하면 {@code index} 0 부터 다시 호출될 수 있다.
+     * 확정된 요약은 {@link #onArticleCompleted} 로 전달된다.
+     */
+    default void onSummaryProgress(final String url, final int index, final String bullet) {
+    }
+
+    /**
+     * 기사의 번역·요약이 끝나 저장을 기다리기 시작했을 때 호출된다.
+     */
+    default void onArticleProcessed() {
+    }
+
+    /**
+     * 기사 결과가 확정됐을 때 호출된다. 새로 저장했거나 이미 저장돼 있던 기사다.
+     */
+    default void onArticleCompleted(final CrawledArticleResponse article) {
+    }
+
+    /**
+     * 내려받지 못했거나 같은 요청 안에서 중복된 기사를 건너뛰었을 때 호출된다.
+     */
+    default void onArticleSkipped() {
+    }
+}
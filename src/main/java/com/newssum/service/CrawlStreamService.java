@@ -0,0 +1,82 @@
+package com.newssum.service;
+
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.newssum.crawler.BoundedCrawlExecutor;
+import com.newssum.dto.news.CrawlNewsRequest;
+import com.newssum.dto.news.CrawlNewsResponse;
+import com.newssum.dto.news.CrawlStreamEvent;
+import com.newssum.dto.news.CrawledArticleResponse;
+import com.newssum.exception.BusinessException;
+import com.newssum.exception.ErrorCode;
+
+/**
+ * 크롤링을 백그라운드에서 실행하면서 저장이 끝난 기사부터 차례로 내보낸다.
+ * 결과 목록을 모아두지 않으므로 요청당 메모리 사용량이 기사 수에 비례해 늘지 않는다.
+ */
+@Service
+public class CrawlStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(CrawlStreamService.class);
+
+    private final NewsCrawlingService newsCrawlingService;
+    private final BoundedCrawlExecutor jobExecutor;
+
+    public CrawlStreamService(final NewsCrawlingService newsCrawlingService,
+        @Qualifier("crawlJobExecutor") final BoundedCrawlExecutor jobExecutor) {
+        this.newsCrawlingService = newsCrawlingService;
+        this.jobExecutor = jobExecutor;
+    }
+
+    /**
+     * 크롤링을 시작한다. {@code sink} 는 요약 항목과 기사 프레임마다, 마지막으로 완료나 오류 프레임으로 한 번 더 호출된다.
+     * 기사 처리 단계가 병렬이므로 {@code sink} 는 여러 스레드에서 호출될 수 있다.
+     */
+    public void stream(final CrawlNewsRequest request, final String requesterEmail,
+        final Consumer<CrawlStreamEvent> sink) {
+        final BoundedCrawlExecutor.Admission admission = jobExecutor.checkAdmission(1);
+        jobExecutor.execute(() -> {
+            try {
+                run(request, requesterEmail, sink);
+            } finally {
+                admission.release();
+            }
+        });
+    }
+
+    void run(final CrawlNewsRequest request, final String requesterEmail, final Consumer<CrawlStreamEvent> sink) {
+        final CrawlNewsResponse totals;
+        try {
+            totals = newsCrawlingService.streamNews(request, requesterEmail, new CrawlProgressListener() {
+                @Override
+                public boolean wantsSummaryProgress() {
+                    return true;
+                }
+
+                @Override
+                public void onSummaryProgress(final String url, final int index, final String bullet) {
+                    sink.accept(CrawlStreamEvent.summary(url, index, bullet));
+                }
+
+                @Override
+                public void onArticleCompleted(final CrawledArticleResponse article) {
+                    sink.accept(CrawlStreamEvent.article(article));
+                }
+            });
+        } catch (BusinessException ex) {
+            log.warn("스트리밍 크롤링 실패: error={}", ex.getErrorCode().name());
+            sink.accept(CrawlStreamEvent.error(ex.getErrorCode().name(), ex.getErrorCode().getMessage()));
+            return;
+        } catch (RuntimeException ex) {
+            log.error("스트리밍 크롤링 중 예상치 못한 오류", ex);
+            sink.accept(CrawlStreamEvent.error(ErrorCode.INTERNAL_ERROR.name(), ErrorCode.INTERNAL_ERROR.getMessage()));
+            return;
+        }
+        sink.accept(CrawlStreamEvent.complete(totals));
+    }
+}
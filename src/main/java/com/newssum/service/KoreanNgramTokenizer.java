@@ -0,0 +1,66 @@
+package com.newssum.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 색인과 검색어에 같은 규칙으로 쓰는 토크나이저.
+ * <p>
+ * 한글은 조사·어미가 붙어도 어간이 같은 글자로 남으므로 형태소 분석 없이 연속된 음절을 두 글자씩 겹쳐 자른다
+ * ("인공지능" → "인공", "공지", "지능"). 음절 하나로만 된 단어는 그대로 쓴다.
+ * 라틴 문자와 숫자는 단어 단위로 자르며, 숫자가 아닌 한 글자 단어는 버린다.
+ * 전각·호환 문자를 맞추기 위해 NFKC 로 정규화하고 소문자로 바꾼다.
+ */
+final class KoreanNgramTokenizer {
+
+    private static final char HANGUL_FIRST = '가';
+    private static final char HANGUL_LAST = '힣';
+
+    private KoreanNgramTokenizer() {
+    }
+
+    static List<String> tokenize(final String text) {
+        final List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        final String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        final StringBuilder hangul = new StringBuilder();
+        final StringBuilder word = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            final char ch = normalized.charAt(i);
+            if (ch >= HANGUL_FIRST && ch <= HANGUL_LAST) {
+                flushWord(word, tokens);
+                hangul.append(ch);
+            } else if (Character.isLetterOrDigit(ch)) {
+                flushHangul(hangul, tokens);
+                word.append(ch);
+            } else {
+                flushHangul(hangul, tokens);
+                flushWord(word, tokens);
+            }
+        }
+        flushHangul(hangul, tokens);
+        flushWord(word, tokens);
+        return tokens;
+    }
+
+    private static void flushHangul(final StringBuilder run, final List<String> tokens) {
+        if (run.length() == 1) {
+            tokens.add(run.toString());
+        }
+        for (int i = 0; i + 1 < run.length(); i++) {
+            tokens.add(run.substring(i, i + 2));
+        }
+        run.setLength(0);
+    }
+
+    private static void flushWord(final StringBuilder run, final List<String> tokens) {
+        if (run.length() > 1 || (run.length() == 1 && Character.isDigit(run.charAt(0)))) {
+            tokens.add(run.toString());
+        }
+        run.setLength(0);
+    }
+}
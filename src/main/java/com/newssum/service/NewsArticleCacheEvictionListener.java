@@ -0,0 +1,43 @@
+package com.newssum.service;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+import com.newssum.domain.NewsArticle;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기사를 다시 저장하거나 지우면 기사 상세 캐시에서 해당 항목을 지운다.
+ * <p>
+ * {@link NewsArticle#updateTranslation} · {@link NewsArticle#updateSummary} 로 고친 기사는 저장소의
+ * {@code save} 로 반영되므로 여기서 함께 지워진다. 이벤트를 발생시키지 않는 벌크 연산과 {@code update} 쿼리로
+ * 기사를 고치는 경우에는 {@link NewsDetailCache#evict(String)} 를 직접 호출해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NewsArticleCacheEvictionListener extends AbstractMongoEventListener<NewsArticle> {
+
+    private final NewsDetailCache newsDetailCache;
+
+    @Override
+    public void onAfterSave(final AfterSaveEvent<NewsArticle> event) {
+        final String id = event.getSource().getId();
+        if (id != null) {
+            newsDetailCache.evict(id);
+        }
+    }
+
+    @Override
+    public void onAfterDelete(final AfterDeleteEvent<NewsArticle> event) {
+        // 삭제 이벤트에는 엔티티가 없으므로 삭제 조건에서 id 를 읽는다.
+        final Document filter = event.getDocument();
+        final Object id = filter == null ? null : filter.get("_id");
+        if (id != null && !(id instanceof Document)) {
+            newsDetailCache.evict(id.toString());
+        }
+    }
+}
@@ -1,22 +1,30 @@
 package com.newssum.service;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import com.newssum.crawler.BoundedCrawlExecutor;
 import com.newssum.crawler.CrawledArticle;
 import com.newssum.crawler.NewsCrawler;
+import com.newssum.crawler.UrlCanonicalizer;
 import com.newssum.domain.NewsArticle;
 import com.newssum.dto.news.CrawlNewsRequest;
 import com.newssum.dto.news.CrawledArticleResponse;
@@ -25,8 +33,9 @@ import com.newssum.exception.CrawlingException;
 import com.newssum.exception.ErrorCode;
 import com.newssum.external.gemini.GeminiApiClient;
 import com.newssum.external.gemini.GeminiApiClient.SummaryResult;
-import com.newssum.external.gemini.GeminiApiClient.TranslationResult;
+import com.newssum.external.gemini.GeminiPriority;
 import com.newssum.repository.NewsArticleRepository;
+import com.newssum.repository.NewsArticleRepositoryCustom.BulkInsertResult;
 
 /**
  * 뉴스 크롤링 요청을 처리하고 MongoDB에 기사 문서를 저장한다.
@@ -35,78 +44,408 @@ import com.newssum.repository.NewsArticleRepository;
 public class NewsCrawlingService {
 
     private static final Logger log = LoggerFactory.getLogger(NewsCrawlingService.class);
-    private static final int DEFAULT_ARTICLE_COUNT = 5;
+    static final int DEFAULT_ARTICLE_COUNT = 5;
+    /** 다른 인스턴스의 임대가 풀리기를 기다렸다가 다시 얻기를 시도하는 최대 횟수. */
+    static final int MAX_LEASE_WAITS = 3;
 
     private final NewsCrawler newsCrawler;
     private final NewsArticleRepository newsArticleRepository;
     private final GeminiApiClient geminiApiClient;
+    private final UrlHashBloomFilter urlHashBloomFilter;
+    private final BoundedCrawlExecutor processingExecutor;
+    private final int perRequestConcurrency;
+    private final ArticleFlightRegistry flightRegistry;
+    private final ArticleLeaseService articleLeaseService;
+    private final NewsSearchIndex newsSearchIndex;
+    private final NewsTrendService newsTrendService;
 
     public NewsCrawlingService(final NewsCrawler newsCrawler,
         final NewsArticleRepository newsArticleRepository,
-        final GeminiApiClient geminiApiClient) {
+        final GeminiApiClient geminiApiClient,
+        final UrlHashBloomFilter urlHashBloomFilter,
+        @Qualifier("articleProcessingExecutor") final BoundedCrawlExecutor processingExecutor,
+        final NewsProperties properties,
+        final ArticleFlightRegistry flightRegistry,
+        final ArticleLeaseService articleLeaseService,
+        final NewsSearchIndex newsSearchIndex,
+        final NewsTrendService newsTrendService) {
         this.newsCrawler = newsCrawler;
         this.newsArticleRepository = newsArticleRepository;
         this.geminiApiClient = geminiApiClient;
+        this.urlHashBloomFilter = urlHashBloomFilter;
+        this.processingExecutor = processingExecutor;
+        this.perRequestConcurrency = properties.getProcessing().getPerRequestConcurrency();
+        this.flightRegistry = flightRegistry;
+        this.articleLeaseService = articleLeaseService;
+        this.newsSearchIndex = newsSearchIndex;
+        this.newsTrendService = newsTrendService;
     }
 
     public CrawlNewsResponse crawlNews(final CrawlNewsRequest request, final String requesterEmail) {
+        return crawlNews(request, requesterEmail, CrawlProgressListener.NONE, GeminiPriority.INTERACTIVE);
+    }
+
+    /**
+     * 크롤링을 실행하면서 기사 단위 진행 상황을 {@code listener} 로 알린다.
+     * Gemini 호출은 {@code priority} 대기열에서 차례를 기다린다.
+     */
+    public CrawlNewsResponse crawlNews(final CrawlNewsRequest request, final String requesterEmail,
+        final CrawlProgressListener listener, final GeminiPriority priority) {
+        return crawl(request, requesterEmail, listener, priority, true);
+    }
+
+    /**
+     * 기사 결과를 {@code listener} 로만 전달하고 응답에는 건수만 담는다. 결과 목록을 모아두지 않는다.
+     */
+    public CrawlNewsResponse streamNews(final CrawlNewsRequest request, final String requesterEmail,
+        final CrawlProgressListener listener) {
+        return crawl(request, requesterEmail, listener, GeminiPriority.INTERACTIVE, false);
+    }
+
+    private CrawlNewsResponse crawl(final CrawlNewsRequest request, final String requesterEmail,
+        final CrawlProgressListener listener, final GeminiPriority priority, final boolean collectArticles) {
         final int requestedCount = request.resolveArticleCount(DEFAULT_ARTICLE_COUNT);
         log.info("뉴스 크롤링 요청 수신: url={}, count={}, requester={}", request.getSourceUrl(), requestedCount, requesterEmail);
         final List<String> articleLinks = newsCrawler.extractArticleLinks(request.getSourceUrl(), requestedCount);
         if (articleLinks.isEmpty()) {
             throw new CrawlingException(ErrorCode.CRAWLING_NO_ARTICLE);
         }
-        final List<CompletableFuture<Optional<CrawledArticle>>> futures = articleLinks.stream()
-            .map(newsCrawler::fetchArticleAsync)
-            .toList();
-        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
 
-        final List<CrawledArticleResponse> responses = new ArrayList<>();
-        int processed = 0;
+        // 이미 저장된 기사는 내려받기 전에 걸러낸다.
+        final Map<String, String> linksByHash = new LinkedHashMap<>();
+        articleLinks.forEach(link -> linksByHash.putIfAbsent(UrlCanonicalizer.urlHash(link), link));
+        listener.onStarted(linksByHash.size());
+        final Map<String, NewsArticle> knownLinks = findKnownArticles(linksByHash.keySet());
+        final Map<String, CrawledArticleResponse> responses = new LinkedHashMap<>();
+        final List<String> linksToFetch = new ArrayList<>();
         int skipped = 0;
-
-        for (CompletableFuture<Optional<CrawledArticle>> future : futures) {
-            final Optional<CrawledArticle> optionalArticle = future.join();
-            if (optionalArticle.isEmpty()) {
+        for (Map.Entry<String, String> entry : linksByHash.entrySet()) {
+            final NewsArticle found = knownLinks.get(entry.getKey());
+            if (found != null) {
+                final CrawledArticleResponse response = toResponse(found, false);
+                if (collectArticles) {
+                    responses.put(entry.getKey(), response);
+                }
+                listener.onArticleCompleted(response);
                 skipped++;
-                continue;
+            } else {
+                linksToFetch.add(entry.getValue());
             }
-            final CrawledArticle article = optionalArticle.get();
-            final String urlHash = hashUrl(article.getUrl());
-            final Optional<NewsArticle> existing = newsArticleRepository.findByUrlHash(urlHash);
-            if (existing.isPresent()) {
-                responses.add(toResponse(existing.get(), false));
+        }
+
+        // 기사마다 내려받기가 끝나는 즉시 번역·요약·저장 단계로 넘겨, 느린 기사가 나머지 기사의 처리를 막지 않게 한다.
+        final List<CompletableFuture<ArticleOutcome>> outcomes = linksToFetch.isEmpty()
+            ? List.of()
+            : processPipelined(linksToFetch, linksByHash, knownLinks, requesterEmail, listener, priority);
+
+        int processed = 0;
+        for (ArticleOutcome outcome : joinAll(outcomes)) {
+            if (outcome.status() == ArticleOutcome.Status.CREATED) {
+                processed++;
+            } else {
                 skipped++;
-                continue;
             }
-            final NewsArticle saved = newsArticleRepository.save(processArticle(article, urlHash, requesterEmail));
-            processed++;
-            responses.add(toResponse(saved, true));
+            if (collectArticles && outcome.response() != null) {
+                responses.put(outcome.urlHash(), outcome.response());
+            }
         }
         return CrawlNewsResponse.builder()
             .requestedCount(requestedCount)
             .processedCount(processed)
             .skippedCount(skipped)
-            .articles(responses)
+            .articles(List.copyOf(responses.values()))
             .build();
     }
 
-    private NewsArticle processArticle(final CrawledArticle article, final String urlHash, final String requesterEmail) {
+    private List<CompletableFuture<ArticleOutcome>> processPipelined(final List<String> linksToFetch,
+        final Map<String, String> linksByHash,
+        final Map<String, NewsArticle> knownLinks,
+        final String requesterEmail,
+        final CrawlProgressListener listener,
+        final GeminiPriority priority) {
+        // 다른 요청이 이미 처리 중인 기사는 내려받지 않고 그 결과를 나눠 받는다.
+        final List<CompletableFuture<ArticleOutcome>> outcomes = new ArrayList<>();
+        final List<String> leaderLinks = new ArrayList<>();
+        final List<ArticleFlightRegistry.Flight> leaderFlights = new ArrayList<>();
+        for (String link : linksToFetch) {
+            final ArticleFlightRegistry.Ticket ticket = flightRegistry.join(UrlCanonicalizer.urlHash(link));
+            if (ticket.leader()) {
+                leaderLinks.add(link);
+                leaderFlights.add(ticket.flight());
+            } else {
+                outcomes.add(follow(ticket.flight(), listener));
+            }
+        }
+        if (leaderLinks.isEmpty()) {
+            return outcomes;
+        }
+
+        final List<CompletableFuture<Optional<CrawledArticle>>> fetches;
+        BoundedCrawlExecutor.Admission admission = null;
+        try {
+            // 처리 단계 대기열이 넘칠 요청은 내려받기 전에 거절한다.
+            admission = processingExecutor.checkAdmission(leaderLinks.size());
+            fetches = newsCrawler.fetchArticlesAsync(leaderLinks);
+        } catch (RuntimeException ex) {
+            if (admission != null) {
+                admission.releaseAll();
+            }
+            leaderFlights.forEach(flight -> flightRegistry.complete(flight, null, ex));
+            throw ex;
+        }
+        final BoundedCrawlExecutor.Admission processing = admission;
+        final Executor stageExecutor = processingExecutor.limit(perRequestConcurrency);
+        final Set<String> claimed = ConcurrentHashMap.newKeySet();
+        final ArticleWriter writer = new ArticleWriter();
+        for (int index = 0; index < fetches.size(); index++) {
+            final ArticleFlightRegistry.Flight flight = leaderFlights.get(index);
+            final CompletableFuture<ArticleOutcome> outcome = fetches.get(index).thenComposeAsync(
+                fetched -> process(fetched, flight, linksByHash, knownLinks, claimed, requesterEmail, writer,
+                    listener, priority, stageExecutor),
+                stageExecutor)
+                .thenApply(result -> notify(result, listener));
+            outcome.whenComplete((result, failure) -> {
+                processing.release();
+                flightRegistry.complete(flight, result == null ? null : result.response(), failure);
+            });
+            outcomes.add(outcome);
+        }
+        return outcomes;
+    }
+
+    private CompletableFuture<ArticleOutcome> follow(final ArticleFlightRegistry.Flight flight,
+        final CrawlProgressListener listener) {
+        return shared(flight).thenApply(outcome -> notify(outcome, listener));
+    }
+
+    /**
+     * 다른 요청의 결과를 나눠 받는다. 그 요청이 실패한 이유(대기열 초과, Gemini 장애 등)는 이 요청의 실패가 아니므로
+     * 요청 전체를 실패시키지 않고 기사를 건너뛴다.
+     */
+    private CompletableFuture<ArticleOutcome> shared(final ArticleFlightRegistry.Flight flight) {
+        return flight.result().handle((shared, failure) -> {
+            if (failure != null) {
+                log.info("함께 처리하던 요청이 실패해 기사를 건너뜁니다: {}", failure.toString());
+                return ArticleOutcome.skipped(null);
+            }
+            return sharedOutcome(shared);
+        });
+    }
+
+    private ArticleOutcome sharedOutcome(final Optional<CrawledArticleResponse> shared) {
+        // 다른 요청이 저장한 기사이므로 이 요청에서는 새로 만든 기사가 아니다.
+        return shared
+            .map(response -> new ArticleOutcome(ArticleOutcome.Status.EXISTING, UrlCanonicalizer.urlHash(response.getUrl()),
+                response.toBuilder().newlyCreated(false).build()))
+            .orElseGet(() -> ArticleOutcome.skipped(null));
+    }
+
+    /**
+     * 내려받은 기사를 중복 확인한 뒤 번역·요약해 저장한다. Gemini 응답을 기다리는 동안에는 스레드를 쓰지 않고,
+     * 응답이 오면 저장 단계를 {@code stageExecutor} 에서 이어서 실행한다.
+     */
+    private CompletableFuture<ArticleOutcome> process(final Optional<CrawledArticle> fetched,
+        final ArticleFlightRegistry.Flight flight,
+        final Map<String, String> linksByHash,
+        final Map<String, NewsArticle> knownLinks,
+        final Set<String> claimed,
+        final String requesterEmail,
+        final ArticleWriter writer,
+        final CrawlProgressListener listener,
+        final GeminiPriority priority,
+        final Executor stageExecutor) {
+        if (fetched.isEmpty()) {
+            return CompletableFuture.completedFuture(ArticleOutcome.skipped(null));
+        }
+        final CrawledArticle article = fetched.get();
+        final String urlHash = UrlCanonicalizer.urlHash(article.getUrl());
+        final NewsArticle known = knownLinks.get(urlHash);
+        if (known != null) {
+            return CompletableFuture.completedFuture(existingOutcome(known));
+        }
+        // 리다이렉트나 canonical 선언으로 여러 링크가 같은 기사가 되면 먼저 도착한 하나만 처리한다.
+        if (!claimed.add(urlHash)) {
+            return CompletableFuture.completedFuture(ArticleOutcome.skipped(urlHash));
+        }
+        // canonical 선언이나 리다이렉트로 링크와 다른 URL 이 된 기사만 한 번 더 확인한다.
+        if (!linksByHash.containsKey(urlHash)) {
+            final Optional<ArticleFlightRegistry.Flight> inFlight = flightRegistry.alias(flight, urlHash);
+            if (inFlight.isPresent()) {
+                return shared(inFlight.get());
+            }
+            final NewsArticle existing = findKnownArticles(List.of(urlHash)).get(urlHash);
+            if (existing != null) {
+                return CompletableFuture.completedFuture(existingOutcome(existing));
+            }
+        }
+        flightRegistry.markProcessing(flight);
+        if (!articleLeaseService.tryAcquire(urlHash)) {
+            return awaitLease(article, urlHash, requesterEmail, writer, listener, priority, stageExecutor,
+                MAX_LEASE_WAITS);
+        }
+        return processLeased(article, urlHash, requesterEmail, writer, listener, priority, stageExecutor);
+    }
+
+    /**
+     * 다른 인스턴스가 처리 중인 기사는 스레드를 잡지 않고 임대가 풀리기를 기다린다. 풀리면 임대를 다시 얻은 인스턴스만
+     * 처리하므로, 처리하던 인스턴스가 실패해도 기다리던 인스턴스들이 함께 Gemini 를 호출하지 않는다.
+     * 임대를 얻은 뒤 이미 저장된 기사가 있으면 그 기사를 사용하고, 여러 번 기다려도 얻지 못하면 건너뛴다.
+     */
+    private CompletableFuture<ArticleOutcome> awaitLease(final CrawledArticle article,
+        final String urlHash,
+        final String requesterEmail,
+        final ArticleWriter writer,
+        final CrawlProgressListener listener,
+        final GeminiPriority priority,
+        final Executor stageExecutor,
+        final int remainingWaits) {
+        return articleLeaseService.awaitRelease(urlHash).thenComposeAsync(released -> {
+            if (!articleLeaseService.tryAcquire(urlHash)) {
+                if (remainingWaits <= 1) {
+                    log.info("다른 인스턴스가 계속 처리 중이라 기사를 건너뜁니다: urlHash={}", urlHash);
+                    return CompletableFuture.completedFuture(ArticleOutcome.skipped(urlHash));
+                }
+                return awaitLease(article, urlHash, requesterEmail, writer, listener, priority, stageExecutor,
+                    remainingWaits - 1);
+            }
+            final NewsArticle stored;
+            try {
+                stored = findByUrlHashes(List.of(urlHash)).get(urlHash);
+            } catch (RuntimeException ex) {
+                articleLeaseService.release(urlHash);
+                throw ex;
+            }
+            if (stored != null) {
+                articleLeaseService.release(urlHash);
+                return CompletableFuture.completedFuture(existingOutcome(stored));
+            }
+            return processLeased(article, urlHash, requesterEmail, writer, listener, priority, stageExecutor);
+        }, stageExecutor);
+    }
+
+    private CompletableFuture<ArticleOutcome> processLeased(final CrawledArticle article,
+        final String urlHash,
+        final String requesterEmail,
+        final ArticleWriter writer,
+        final CrawlProgressListener listener,
+        final GeminiPriority priority,
+        final Executor stageExecutor) {
+        final CompletableFuture<ArticleOutcome> outcome;
+        try {
+            outcome = processArticle(article, urlHash, requesterEmail, priority, listener)
+                .thenComposeAsync(processed -> {
+                    listener.onArticleProcessed();
+                    return writer.write(processed);
+                }, stageExecutor);
+        } catch (RuntimeException ex) {
+            articleLeaseService.release(urlHash);
+            throw ex;
+        }
+        return outcome.whenComplete((result, failure) -> articleLeaseService.release(urlHash));
+    }
+
+    private ArticleOutcome notify(final ArticleOutcome outcome, final CrawlProgressListener listener) {
+        if (outcome.response() != null) {
+            listener.onArticleCompleted(outcome.response());
+        } else {
+            listener.onArticleSkipped();
+        }
+        return outcome;
+    }
+
+    private List<ArticleOutcome> joinAll(final List<CompletableFuture<ArticleOutcome>> outcomes) {
+        try {
+            // 하나가 실패해도 나머지가 끝날 때까지 기다린 뒤 첫 실패를 그대로 던진다.
+            CompletableFuture.allOf(outcomes.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+        return outcomes.stream().map(CompletableFuture::join).toList();
+    }
+
+    private Map<String, NewsArticle> findKnownArticles(final Collection<String> urlHashes) {
+        // Bloom filter 가 없다고 답한 해시는 DB 에도 없으므로 조회 대상에서 뺀다.
+        return findByUrlHashes(urlHashes.stream()
+            .filter(urlHashBloomFilter::mightContain)
+            .toList());
+    }
+
+    private Map<String, NewsArticle> findByUrlHashes(final Collection<String> urlHashes) {
+        if (urlHashes.isEmpty()) {
+            return Map.of();
+        }
+        return newsArticleRepository.findByUrlHashIn(urlHashes).stream()
+            .collect(Collectors.toMap(NewsArticle::getUrlHash, Function.identity(), (first, second) -> first));
+    }
+
+    private CompletableFuture<NewsArticle> processArticle(final CrawledArticle article, final String urlHash,
+        final String requesterEmail, final GeminiPriority priority, final CrawlProgressListener listener) {
         final boolean needsTranslation = shouldTranslate(article.getLanguage());
-        TranslationResult translationResult = null;
+        if (needsTranslation && !geminiApiClient.fitsTranslation(article.getContent())) {
+            // 긴 기사는 앞부분만 번역하므로 요약은 원문 전체로 따로 만든다.
+            return translateAndSummarizeSeparately(article, urlHash, requesterEmail, priority, listener);
+        }
+        if (needsTranslation && geminiApiClient.isFusedModeEnabled()) {
+            // 번역과 요약을 한 번에 받고, 응답을 해석하지 못했을 때만 두 번 나눠 요청한다.
+            // 통합 응답은 JSON 한 덩어리라 요약 항목을 중간에 넘기지 않는다.
+            return geminiApiClient.translateAndSummarizeAsync(article.getTitle(), article.getContent(), priority)
+                .thenCompose(digest -> digest != null
+                    ? CompletableFuture.completedFuture(toNewsArticle(article, urlHash, requesterEmail,
+                        digest.translatedTitle(), digest.translatedContent(), digest.summary()))
+                    : translateThenSummarize(article, urlHash, requesterEmail, priority, listener));
+        }
         if (needsTranslation) {
-            translationResult = geminiApiClient.translate(article.getTitle(), article.getContent());
+            return translateThenSummarize(article, urlHash, requesterEmail, priority, listener);
         }
+        return summarize(article, article.getTitle(), article.getContent(), priority, listener)
+            .thenApply(summaryResult -> toNewsArticle(article, urlHash, requesterEmail,
+                article.getTitle(), article.getContent(), summaryResult.summary()));
+    }
 
-        final String summaryTitle = translationResult != null && !translationResult.translatedTitle().isBlank()
-            ? translationResult.translatedTitle()
-            : article.getTitle();
-        final String summaryContent = translationResult != null && !translationResult.translatedContent().isBlank()
-            ? translationResult.translatedContent()
-            : article.getContent();
+    private CompletableFuture<NewsArticle> translateAndSummarizeSeparately(final CrawledArticle article,
+        final String urlHash, final String requesterEmail, final GeminiPriority priority,
+        final CrawlProgressListener listener) {
+        return geminiApiClient.translateAsync(article.getTitle(), article.getContent(), priority)
+            .thenCombine(summarize(article, article.getTitle(), article.getContent(), priority, listener),
+                (translationResult, summaryResult) -> toNewsArticle(article, urlHash, requesterEmail,
+                    translationResult.translatedTitle(), translationResult.translatedContent(),
+                    summaryResult.summary()));
+    }
+
+    private CompletableFuture<NewsArticle> translateThenSummarize(final CrawledArticle article, final String urlHash,
+        final String requesterEmail, final GeminiPriority priority, final CrawlProgressListener listener) {
+        return geminiApiClient.translateAsync(article.getTitle(), article.getContent(), priority)
+            .thenCompose(translationResult -> {
+                final String summaryTitle = !translationResult.translatedTitle().isBlank()
+                    ? translationResult.translatedTitle()
+                    : article.getTitle();
+                final String summaryContent = !translationResult.translatedContent().isBlank()
+                    ? translationResult.translatedContent()
+                    : article.getContent();
+                return summarize(article, summaryTitle, summaryContent, priority, listener)
+                    .thenApply(summaryResult -> toNewsArticle(article, urlHash, requesterEmail,
+                        translationResult.translatedTitle(), translationResult.translatedContent(),
+                        summaryResult.summary()));
+            });
+    }
 
-        final SummaryResult summaryResult = geminiApiClient.summarize(summaryTitle, summaryContent);
+    /**
+     * 요약 항목을 받을 리스너가 있으면 생성되는 대로 넘기도록 스트리밍으로 요약한다.
+     */
+    private CompletableFuture<SummaryResult> summarize(final CrawledArticle article, final String title,
+        final String content, final GeminiPriority priority, final CrawlProgressListener listener) {
+        if (!listener.wantsSummaryProgress()) {
+            return geminiApiClient.summarizeAsync(title, content, priority);
+        }
+        return geminiApiClient.summarizeAsync(title, content, priority,
+            (index, bullet) -> listener.onSummaryProgress(article.getUrl(), index, bullet));
+    }
 
+    private NewsArticle toNewsArticle(final CrawledArticle article, final String urlHash, final String requesterEmail,
+        final String translatedTitle, final String translatedContent, final List<String> summary) {
         return NewsArticle.builder()
             .url(article.getUrl())
             .urlHash(urlHash)
@@ -114,15 +453,23 @@ public class NewsCrawlingService {
             .originalTitle(article.getTitle())
             .originalContent(article.getContent())
             .language(article.getLanguage())
-            .translatedTitle(translationResult != null ? translationResult.translatedTitle() : summaryTitle)
-            .translatedContent(translationResult != null ? translationResult.translatedContent() : summaryContent)
-            .summary(summaryResult.summary())
+            .translatedTitle(translatedTitle)
+            .translatedContent(translatedContent)
+            .summary(summary)
             .publishedAt(article.getPublishedAt())
             .crawledBy(requesterEmail)
             .crawledAt(LocalDateTime.now())
             .build();
     }
 
+    private ArticleOutcome existingOutcome(final NewsArticle article) {
+        return new ArticleOutcome(ArticleOutcome.Status.EXISTING, article.getUrlHash(), toResponse(article, false));
+    }
+
+    private ArticleOutcome createdOutcome(final NewsArticle article) {
+        return new ArticleOutcome(ArticleOutcome.Status.CREATED, article.getUrlHash(), toResponse(article, true));
+    }
+
     private CrawledArticleResponse toResponse(final NewsArticle newsArticle, final boolean newlyCreated) {
         return CrawledArticleResponse.builder()
             .id(newsArticle.getId())
@@ -131,6 +478,7 @@ public class NewsCrawlingService {
             .originalTitle(newsArticle.getOriginalTitle())
             .language(newsArticle.getLanguage())
             .publishedAt(newsArticle.getPublishedAt())
+            .summary(newsArticle.getSummary() == null ? List.of() : List.copyOf(newsArticle.getSummary()))
             .newlyCreated(newlyCreated)
             .build();
     }
@@ -139,15 +487,90 @@ public class NewsCrawlingService {
         return languageCode == null || !Locale.KOREAN.getLanguage().equalsIgnoreCase(languageCode);
     }
 
-    private String hashUrl(final String url) {
-        try {
-            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            final byte[] hash = digest.digest(url.getBytes(StandardCharsets.UTF_8));
-            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
-        } catch (NoSuchAlgorithmException ex) {
-            log.error("SHA-256 해시 생성 실패", ex);
-            throw new CrawlingException(ErrorCode.CRAWLING_FAILED, ex);
+    /**
+     * 요약이 끝난 기사를 모아 저장한다. 저장 중에 도착한 기사는 다음 bulk insert 로 묶고,
+     * 저장할 기사가 없으면 기다리지 않고 바로 저장해 기사별 결과를 빨리 확정한다.
+     */
+    private final class ArticleWriter {
+
+        private final List<PendingWrite> pending = new ArrayList<>();
+        private boolean flushing;
+
+        private CompletableFuture<ArticleOutcome> write(final NewsArticle article) {
+            final PendingWrite write = new PendingWrite(article, new CompletableFuture<>());
+            final boolean flusher;
+            synchronized (this) {
+                pending.add(write);
+                flusher = !flushing;
+                flushing = true;
+            }
+            if (flusher) {
+                drain();
+            }
+            return write.result();
+        }
+
+        private void drain() {
+            while (true) {
+                final List<PendingWrite> batch;
+                synchronized (this) {
+                    if (pending.isEmpty()) {
+                        flushing = false;
+                        return;
+                    }
+                    batch = List.copyOf(pending);
+                    pending.clear();
+                }
+                try {
+                    flush(batch);
+                } catch (RuntimeException ex) {
+                    batch.forEach(write -> write.result().completeExceptionally(ex));
+                }
+            }
+        }
+
+        private void flush(final List<PendingWrite> batch) {
+            final Map<String, CompletableFuture<ArticleOutcome>> results = batch.stream()
+                .collect(Collectors.toMap(write -> write.article().getUrlHash(), PendingWrite::result));
+            final BulkInsertResult insertResult = newsArticleRepository.insertAllUnordered(batch.stream()
+                .map(PendingWrite::article)
+                .toList());
+            for (NewsArticle saved : insertResult.inserted()) {
+                urlHashBloomFilter.put(saved.getUrlHash());
+                results.get(saved.getUrlHash()).complete(createdOutcome(saved));
+            }
+            // 응답을 먼저 보낸 뒤 색인 실행기에 넘긴다.
+            newsSearchIndex.index(insertResult.inserted());
+            newsTrendService.record(insertResult.inserted());
+            if (insertResult.duplicates().isEmpty()) {
+                return;
+            }
+            insertResult.duplicates().forEach(duplicate -> urlHashBloomFilter.put(duplicate.getUrlHash()));
+            // 다른 요청이 먼저 저장한 기사는 실패로 보지 않고 기존 문서로 응답한다.
+            final Map<String, NewsArticle> concurrent = findByUrlHashes(insertResult.duplicates().stream()
+                .map(NewsArticle::getUrlHash)
+                .toList());
+            for (NewsArticle duplicate : insertResult.duplicates()) {
+                final NewsArticle winner = concurrent.get(duplicate.getUrlHash());
+                results.get(duplicate.getUrlHash()).complete(winner != null
+                    ? existingOutcome(winner)
+                    : ArticleOutcome.skipped(duplicate.getUrlHash()));
+            }
+            log.info("동시 크롤링으로 중복 저장된 기사 {}건을 기존 문서로 대체했습니다.", insertResult.duplicates().size());
         }
     }
 
+    private record PendingWrite(NewsArticle article, CompletableFuture<ArticleOutcome> result) { }
+
+    /**
+     * 기사 하나의 처리 결과. 응답에 포함할 기사만 {@code response} 를 가지며, 본문은 들고 있지 않는다.
+     */
+    private record ArticleOutcome(Status status, String urlHash, CrawledArticleResponse response) {
+
+        private enum Status { SKIPPED, EXISTING, CREATED }
+
+        private static ArticleOutcome skipped(final String urlHash) {
+            return new ArticleOutcome(Status.SKIPPED, urlHash, null);
+        }
+    }
 }
@@ -0,0 +1,110 @@
+package com.newssum.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.newssum.dto.news.NewsArticleDetailResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 기사 id 로 찾는 기사 상세 응답 캐시.
+ * <p>
+ * 본문 길이가 기사마다 크게 다르므로 항목 수가 아니라 문자열이 차지하는 대략적인 바이트 수로 크기를 제한한다.
+ * 소유자 확인을 위해 응답과 함께 기사를 수집한 사용자를 보관한다. 저장된 기사는 거의 바뀌지 않지만,
+ * 바뀌면 {@link NewsArticleCacheEvictionListener} 가 항목을 지운다.
+ */
+@Component
+public class NewsDetailCache {
+
+    /** 객체 헤더·참조 등 문자열 외에 항목 하나가 차지하는 대략적인 크기. */
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+    private static final int STRING_OVERHEAD_BYTES = 40;
+
+    private final Cache<String, Entry> cache;
+    private final AtomicLong weightBytes = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public NewsDetailCache(final NewsProperties properties, final MeterRegistry registry) {
+        final NewsProperties.DetailCache config = properties.getDetailCache();
+        this.cache = CacheBuilder.newBuilder()
+            .maximumWeight(config.getMaximumSize().toBytes())
+            .<String, Entry>weigher((id, entry) -> entry.weight())
+            .expireAfterWrite(config.getExpireAfterWrite().toNanos(), TimeUnit.NANOSECONDS)
+            .removalListener(notification -> weightBytes.addAndGet(-notification.getValue().weight()))
+            .build();
+        this.hits = requestCounter(registry, "hit");
+        this.misses = requestCounter(registry, "miss");
+        Gauge.builder("news.detail.cache.size", cache, Cache::size)
+            .description("캐시된 기사 상세 응답 수")
+            .register(registry);
+        Gauge.builder("news.detail.cache.weight", weightBytes, AtomicLong::get)
+            .description("캐시된 기사 상세 응답의 대략적인 바이트 수")
+            .baseUnit("bytes")
+            .register(registry);
+    }
+
+    /**
+     * 캐시된 항목을 반환한다. 없으면 {@code null} 이다.
+     */
+    public Entry get(final String articleId) {
+        final Entry entry = cache.getIfPresent(articleId);
+        (entry == null ? misses : hits).increment();
+        return entry;
+    }
+
+    public void put(final String crawledBy, final NewsArticleDetailResponse detail) {
+        final Entry entry = new Entry(crawledBy, detail, weigh(crawledBy, detail));
+        weightBytes.addAndGet(entry.weight());
+        cache.put(detail.getId(), entry);
+    }
+
+    public void evict(final String articleId) {
+        cache.invalidate(articleId);
+    }
+
+    static int weigh(final String crawledBy, final NewsArticleDetailResponse detail) {
+        long bytes = ENTRY_OVERHEAD_BYTES;
+        for (final String value : List.of(nullToEmpty(crawledBy), nullToEmpty(detail.getId()),
+            nullToEmpty(detail.getSourceOutlet()), nullToEmpty(detail.getUrl()), nullToEmpty(detail.getLanguage()),
+            nullToEmpty(detail.getOriginalTitle()), nullToEmpty(detail.getTranslatedTitle()),
+            nullToEmpty(detail.getOriginalContent()), nullToEmpty(detail.getTranslatedContent()))) {
+            bytes += stringBytes(value);
+        }
+        if (detail.getSummary() != null) {
+            for (final String point : detail.getSummary()) {
+                bytes += stringBytes(point);
+            }
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static long stringBytes(final String value) {
+        // 한글이 섞이면 UTF-16 으로 저장되므로 글자당 2바이트로 넉넉히 잡는다.
+        return STRING_OVERHEAD_BYTES + 2L * value.length();
+    }
+
+    private static String nullToEmpty(final String value) {
+        return value == null ? "" : value;
+    }
+
+    private static Counter requestCounter(final MeterRegistry registry, final String result) {
+        return Counter.builder("news.detail.cache.requests")
+            .description("기사 상세 캐시 조회 수")
+            .tag("result", result)
+            .register(registry);
+    }
+
+    /**
+     * 캐시된 기사 상세 응답과 그 기사를 수집한 사용자.
+     */
+    public record Entry(String crawledBy, NewsArticleDetailResponse detail, int weight) { }
+}
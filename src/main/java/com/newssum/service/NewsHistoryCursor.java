@@ -0,0 +1,42 @@
+package com.newssum.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.bson.types.ObjectId;
+
+import com.newssum.exception.BusinessException;
+import com.newssum.exception.ErrorCode;
+
+/**
+ * 히스토리 목록에서 마지막으로 내려준 기사의 위치. 클라이언트에는 내용을 알 수 없는 URL-safe 문자열로 전달한다.
+ */
+record NewsHistoryCursor(LocalDateTime crawledAt, String id) {
+
+    private static final char SEPARATOR = '|';
+
+    String encode() {
+        final String raw = crawledAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static NewsHistoryCursor decode(final String value) {
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            final int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            final String id = raw.substring(separator + 1);
+            // 문자열 id 는 ObjectId 와 비교 순서가 달라 다음 페이지를 잘못 찾으므로 받지 않는다.
+            if (!ObjectId.isValid(id)) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return new NewsHistoryCursor(LocalDateTime.parse(raw.substring(0, separator)), id);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.newssum.service;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 뉴스 수집·조회 서비스의 설정 값을 보관한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "news")
+public class NewsProperties {
+
+    private final Dedupe dedupe = new Dedupe();
+    private final Processing processing = new Processing();
+    private final Jobs jobs = new Jobs();
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final DetailCache detailCache = new DetailCache();
+    private final Search search = new Search();
+    private final Trends trends = new Trends();
+
+    @Getter
+    @Setter
+    public static class Dedupe {
+
+        /** Bloom filter 가 오탐률을 유지할 수 있는 예상 기사 수. */
+        private long expectedArticles = 5_000_000;
+
+        /** 허용하는 Bloom filter 오탐률. */
+        private double falsePositiveRate = 0.01;
+
+        /** 다른 인스턴스가 저장한 기사를 Bloom filter 에 반영하는 주기. */
+        private Duration refreshInterval = Duration.ofSeconds(10);
+
+        /** 갱신할 때 마지막 갱신 시각보다 앞서 다시 읽는 구간. 인스턴스 간 시계 차이를 흡수한다. */
+        private Duration refreshLookback = Duration.ofMinutes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Processing {
+
+        /** 전체 요청을 통틀어 동시에 번역·요약할 수 있는 기사 수. */
+        private int maxConcurrency = 16;
+
+        /** 요청 하나가 동시에 번역·요약할 수 있는 기사 수. */
+        private int perRequestConcurrency = 4;
+
+        /** 처리를 기다릴 수 있는 기사 수. 초과하면 새 요청을 503 으로 거절한다. */
+        private int maxQueued = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Jobs {
+
+        /** 동시에 실행할 수 있는 비동기 크롤링 작업 수. */
+        private int maxConcurrency = 8;
+
+        /** 실행을 기다릴 수 있는 작업 수. 초과하면 새 작업을 503 으로 거절한다. */
+        private int maxQueued = 100;
+
+        /** 작업을 맡은 인스턴스가 살아 있음을 작업 문서에 기록하는 주기. */
+        private Duration heartbeatInterval = Duration.ofSeconds(30);
+
+        /** 이 시간 동안 기록이 없는 미완료 작업은 맡은 인스턴스가 죽은 것으로 보고 실패로 바꾼다. */
+        private Duration staleAfter = Duration.ofMinutes(2);
+    }
+
+    @Getter
+    @Setter
+    public static class SingleFlight {
+
+        /** 인스턴스 간에도 같은 기사를 한 번만 처리하도록 MongoDB 임대를 사용할지 여부. */
+        private boolean leaseEnabled = false;
+
+        /** 임대 유효 시간. 처리 중에는 1/3 마다 연장하므로 인스턴스가 죽었을 때 넘겨받기까지의 시간이다. */
+        private Duration leaseDuration = Duration.ofMinutes(2);
+
+        /** 다른 인스턴스의 임대가 풀렸는지 확인하는 주기. */
+        private Duration leasePollInterval = Duration.ofMillis(500);
+    }
+
+    @Getter
+    @Setter
+    public static class DetailCache {
+
+        /** 기사 상세 캐시가 차지할 수 있는 대략적인 메모리 크기. */
+        private DataSize maximumSize = DataSize.ofMegabytes(64);
+
+        /** 다른 인스턴스가 수정한 기사를 놓치지 않도록 캐시 항목을 버리는 시간. */
+        private Duration expireAfterWrite = Duration.ofMinutes(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Search {
+
+        /** 검색어에서 사용할 최대 용어 수. 나머지 용어는 무시한다. */
+        private int maxQueryTerms = 32;
+
+        /** 용어 하나에서 읽을 최대 포스팅 수. 흔한 용어가 검색 시간을 늘리지 않도록 출현 횟수가 많은 것부터 읽는다. */
+        private int maxPostingsPerTerm = 5000;
+
+        /** 색인되지 않은 기사를 찾아 색인하는 주기. 색인 실패나 종료로 놓친 기사와 기존 기사를 이 주기로 채운다. */
+        private Duration backfillInterval = Duration.ofMinutes(1);
+
+        /** 한 번에 읽어 색인할 기사 수. */
+        private int backfillBatchSize = 200;
+
+        /** 기사 하나를 색인하려고 맡아 두는 시간. 맡은 인스턴스가 죽으면 이 시간이 지난 뒤 다시 색인한다. */
+        private Duration indexClaimTimeout = Duration.ofMinutes(5);
+    }
+
+    /**
+     * 트렌드 집계 설정. 집계 하나는 시간 구간 50개(HOUR 12, DAY 24, WEEK 14)마다 {@code 열 수 × 행 수 × 4} 바이트
+     * sketch 를 두므로, 기본값으로 전체 집계는 약 1.6MB, 언론사 집계는 곳마다 약 200KB 이고 sketch 는 최대 약 22MB 를 쓴다.
+     * 여기에 구간마다 상위 키워드 후보가 더해지며, 후보 수는 {@code heavy-hitter-capacity} 와 그 구간에 나온 키워드 수를 넘지 않는다.
+     */
+    @Getter
+    @Setter
+    public static class Trends {
+
+        /** 전체 집계의 count-min sketch 열 수. 클수록 추정 오차가 줄고 구간마다 메모리를 더 쓴다. */
+        private int sketchWidth = 2048;
+
+        /** 언론사별 집계의 count-min sketch 열 수. 언론사 하나의 기사 수는 적으므로 전체보다 좁게 둔다. */
+        private int outletSketchWidth = 256;
+
+        /** count-min sketch 의 행(해시 함수) 수. */
+        private int sketchDepth = 4;
+
+        /** 시간 구간마다 유지하는 상위 키워드 후보 수. */
+        private int heavyHitterCapacity = 100;
+
+        /** 따로 집계하는 최대 언론사 수. 자리가 없으면 한 주 동안 기사가 없던 언론사부터 비운다. */
+        private int maxOutlets = 100;
+    }
+}
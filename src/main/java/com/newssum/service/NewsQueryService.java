@@ -1,6 +1,10 @@
 package com.newssum.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -10,11 +14,14 @@ import org.springframework.stereotype.Service;
 
 import com.newssum.domain.NewsArticle;
 import com.newssum.dto.news.NewsArticleDetailResponse;
+import com.newssum.dto.news.NewsHistoryCursorResponse;
 import com.newssum.dto.news.NewsHistoryItemResponse;
 import com.newssum.dto.news.NewsHistoryResponse;
+import com.newssum.dto.news.NewsSearchResponse;
 import com.newssum.exception.BusinessException;
 import com.newssum.exception.ErrorCode;
 import com.newssum.repository.NewsArticleRepository;
+import com.newssum.repository.NewsHistoryView;
 
 import lombok.RequiredArgsConstructor;
 
@@ -28,10 +35,14 @@ public class NewsQueryService {
     private static final int MAX_PAGE_SIZE = 20;
 
     private final NewsArticleRepository newsArticleRepository;
+    private final NewsDetailCache newsDetailCache;
+    private final NewsSearchIndex newsSearchIndex;
 
     public NewsHistoryResponse getHistory(final String userEmail, final int page, final int size) {
-        final Pageable pageable = PageRequest.of(sanitizePage(page), sanitizeSize(size), Sort.by(Sort.Direction.DESC, "crawledAt"));
-        final Page<NewsArticle> historyPage = newsArticleRepository.findByCrawledBy(userEmail, pageable);
+        // 같은 시각에 저장된 기사가 페이지 사이에서 섞이지 않도록 id 로 순서를 고정한다.
+        final Pageable pageable = PageRequest.of(sanitizePage(page), sanitizeSize(size),
+            Sort.by(Sort.Direction.DESC, "crawledAt", "id"));
+        final Page<NewsHistoryView> historyPage = newsArticleRepository.findHistoryByCrawledBy(userEmail, pageable);
         final List<NewsHistoryItemResponse> items = historyPage.getContent().stream()
             .map(this::toHistoryItem)
             .toList();
@@ -44,18 +55,74 @@ public class NewsQueryService {
             .build();
     }
 
+    /**
+     * {@code cursor} 다음 기사부터 한 페이지를 읽는다. 커서가 없으면 가장 최근 기사부터 읽는다.
+     * 전체 건수를 세지 않고 한 건을 더 읽어 다음 페이지가 있는지 판단한다.
+     */
+    public NewsHistoryCursorResponse getHistoryAfter(final String userEmail, final String cursor, final int size) {
+        final int limit = sanitizeSize(size);
+        final NewsHistoryCursor after = cursor == null || cursor.isBlank() ? null : NewsHistoryCursor.decode(cursor);
+        final List<NewsHistoryView> rows = newsArticleRepository.findHistoryBefore(userEmail,
+            after == null ? null : after.crawledAt(), after == null ? null : after.id(), limit + 1);
+        final boolean hasNext = rows.size() > limit;
+        final List<NewsHistoryView> page = hasNext ? rows.subList(0, limit) : rows;
+        final NewsHistoryView last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return NewsHistoryCursorResponse.builder()
+            .size(limit)
+            .hasNext(hasNext)
+            .nextCursor(hasNext ? new NewsHistoryCursor(last.getCrawledAt(), last.getId()).encode() : null)
+            .items(page.stream().map(this::toHistoryItem).toList())
+            .build();
+    }
+
+    /**
+     * 사용자의 기사를 검색어와 관련도가 높은 순으로 반환한다.
+     */
+    public NewsSearchResponse search(final String userEmail, final String query, final int size) {
+        final List<String> ids = newsSearchIndex.search(userEmail, query, sanitizeSize(size)).stream()
+            .map(NewsSearchIndex.SearchHit::articleId)
+            .toList();
+        final Map<String, NewsHistoryView> views = ids.isEmpty()
+            ? Map.of()
+            : newsArticleRepository.findHistoryByIdInAndCrawledBy(ids, userEmail).stream()
+                .collect(Collectors.toMap(NewsHistoryView::getId, Function.identity()));
+        // 색인에는 남았지만 지워진 기사는 건너뛴다.
+        final List<NewsHistoryItemResponse> items = ids.stream()
+            .map(views::get)
+            .filter(Objects::nonNull)
+            .map(this::toHistoryItem)
+            .toList();
+        return NewsSearchResponse.builder()
+            .query(query)
+            .items(items)
+            .build();
+    }
+
+    /**
+     * 기사 상세를 캐시에서 먼저 찾는다. 캐시된 기사도 요청한 사용자가 수집한 기사가 아니면 찾을 수 없는 것으로 본다.
+     * 캐시에 없으면 소유자 조건을 건 한 번의 조회로 읽어 캐시에 넣는다.
+     */
     public NewsArticleDetailResponse getDetail(final String articleId, final String userEmail) {
+        final NewsDetailCache.Entry cached = newsDetailCache.get(articleId);
+        if (cached != null) {
+            if (!cached.crawledBy().equals(userEmail)) {
+                throw new BusinessException(ErrorCode.NEWS_NOT_FOUND);
+            }
+            return cached.detail();
+        }
         final NewsArticle article = newsArticleRepository.findByIdAndCrawledBy(articleId, userEmail)
             .orElseThrow(() -> new BusinessException(ErrorCode.NEWS_NOT_FOUND));
-        return toDetail(article);
+        final NewsArticleDetailResponse detail = toDetail(article);
+        newsDetailCache.put(userEmail, detail);
+        return detail;
     }
 
-    private NewsHistoryItemResponse toHistoryItem(final NewsArticle article) {
+    private NewsHistoryItemResponse toHistoryItem(final NewsHistoryView article) {
         return NewsHistoryItemResponse.builder()
             .id(article.getId())
             .sourceOutlet(article.getSourceOutlet())
             .translatedTitle(article.getTranslatedTitle())
-            .summary(safeSummary(article))
+            .summary(safeSummary(article.getSummary()))
             .language(article.getLanguage())
             .url(article.getUrl())
             .publishedAt(article.getPublishedAt())
@@ -73,14 +140,13 @@ public class NewsQueryService {
             .translatedTitle(article.getTranslatedTitle())
             .originalContent(article.getOriginalContent())
             .translatedContent(article.getTranslatedContent())
-            .summary(safeSummary(article))
+            .summary(safeSummary(article.getSummary()))
             .publishedAt(article.getPublishedAt())
             .crawledAt(article.getCrawledAt())
             .build();
     }
 
-    private List<String> safeSummary(final NewsArticle article) {
-        final List<String> summary = article.getSummary();
+    private List<String> safeSummary(final List<String> summary) {
         if (summary == null || summary.isEmpty()) {
             return List.of();
         }
@@ -0,0 +1,270 @@
+package com.newssum.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.newssum.domain.NewsArticle;
+import com.newssum.domain.SearchCorpusStats;
+import com.newssum.domain.SearchPosting;
+import com.newssum.domain.SearchTermStats;
+
+/**
+ * 사용자별 기사 검색용 역색인.
+ * <p>
+ * 제목·번역 본문·요약을 {@link KoreanNgramTokenizer} 로 자른 용어마다 기사별 출현 횟수를
+ * {@code news_search_postings} 에 두고, 용어별 문서 빈도와 사용자별 문서 수·총 길이를 따로 누적한다.
+ * 검색은 검색어 용어의 포스팅만 인덱스로 읽어 BM25 로 점수를 매기므로 기사 수가 늘어도 기사 컬렉션을 훑지 않는다.
+ * 색인은 기사를 저장할 때 갱신하며, 색인에 실패해도 기사 저장은 막지 않는다. 색인을 마친 기사에는
+ * {@code search_indexed_at} 을 기록하고, 실패하거나 종료로 대기열에서 사라진 기사는 {@link SearchIndexBackfill} 이
+ * 기록이 없는 기사를 찾아 다시 색인한다. 같은 기사를 두 곳에서 동시에 색인하지 않도록 색인 전에 기사를 잠시 맡아 둔다.
+ * <p>
+ * 기사를 더할 때는 용어 통계를 먼저 늘린 뒤 포스팅을 쓰고, 포스팅 쓰기가 실패하면 일부 들어간 포스팅과 통계를 되돌린다.
+ * 통계 없이 포스팅만 남으면 기사를 지울 때 통계가 음수가 되기 때문이다.
+ */
+@Component
+public class NewsSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsSearchIndex.class);
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+    /** 제목에 나온 용어는 본문보다 기사를 잘 나타내므로 두 번 나온 것으로 센다. */
+    private static final int TITLE_WEIGHT = 2;
+    static final String INDEXED_AT_FIELD = "search_indexed_at";
+    static final String CLAIMED_UNTIL_FIELD = "search_index_claimed_until";
+
+    private final MongoTemplate mongoTemplate;
+    private final NewsProperties.Search config;
+    private final Executor indexExecutor;
+
+    public NewsSearchIndex(final MongoTemplate mongoTemplate, final NewsProperties properties,
+        @Qualifier("searchIndexExecutor") final Executor indexExecutor) {
+        this.mongoTemplate = mongoTemplate;
+        this.config = properties.getSearch();
+        this.indexExecutor = indexExecutor;
+    }
+
+    /**
+     * 새로 저장한 기사를 색인 실행기에서 색인한다. 호출한 스레드는 색인을 기다리지 않는다.
+     */
+    public void index(final Collection<NewsArticle> articles) {
+        final List<NewsArticle> snapshot = List.copyOf(articles);
+        indexExecutor.execute(() -> snapshot.forEach(this::indexPending));
+    }
+
+    /**
+     * 아직 색인하지 않은 기사를 맡아 색인하고 색인했다고 기록한다. 이미 색인했거나 다른 곳에서 맡고 있으면 건너뛴다.
+     * 실패하면 기록하지 않으므로 맡아 둔 시간이 지난 뒤 {@link SearchIndexBackfill} 이 다시 색인한다.
+     */
+    void indexPending(final NewsArticle article) {
+        if (article.getId() == null) {
+            return;
+        }
+        try {
+            if (!claim(article.getId())) {
+                return;
+            }
+            // 이전 시도가 남긴 포스팅이 있으면 통계와 함께 지운 뒤 다시 더한다.
+            removePostings(article.getId());
+            add(article);
+            markIndexed(article.getId());
+        } catch (DataAccessException ex) {
+            log.warn("기사 검색 색인 실패. 나중에 다시 색인합니다: articleId={}", article.getId(), ex);
+        }
+    }
+
+    /**
+     * 수정한 기사의 이전 색인을 지우고 다시 색인한다. 실패하면 색인 기록을 지워 {@link SearchIndexBackfill} 이 다시 색인하게 한다.
+     */
+    public void reindex(final NewsArticle article) {
+        try {
+            removePostings(article.getId());
+            add(article);
+            markIndexed(article.getId());
+        } catch (DataAccessException ex) {
+            log.warn("기사 검색 재색인 실패: articleId={}", article.getId(), ex);
+            try {
+                mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(article.getId())),
+                    new Update().unset(INDEXED_AT_FIELD), NewsArticle.class);
+            } catch (DataAccessException unmark) {
+                log.warn("기사 검색 색인 기록 삭제 실패: articleId={}", article.getId(), unmark);
+            }
+        }
+    }
+
+    public void remove(final String articleId) {
+        try {
+            removePostings(articleId);
+        } catch (DataAccessException ex) {
+            log.warn("기사 검색 색인 삭제 실패: articleId={}", articleId, ex);
+        }
+    }
+
+    /**
+     * 사용자의 기사 중 검색어와 관련도가 높은 순으로 최대 {@code limit} 건을 반환한다.
+     * 용어마다 출현 횟수가 많은 포스팅부터 {@code news.search.max-postings-per-term} 건까지만 읽는다.
+     */
+    public List<SearchHit> search(final String crawledBy, final String query, final int limit) {
+        final List<String> terms = KoreanNgramTokenizer.tokenize(query).stream()
+            .distinct()
+            .limit(config.getMaxQueryTerms())
+            .toList();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        final SearchCorpusStats corpus = mongoTemplate.findById(crawledBy, SearchCorpusStats.class);
+        if (corpus == null || corpus.getDocCount() <= 0) {
+            return List.of();
+        }
+        final double averageLength = (double) corpus.getTotalLength() / corpus.getDocCount();
+        final Map<String, Long> documentFrequencies = mongoTemplate.find(
+                Query.query(Criteria.where("crawledBy").is(crawledBy).and("term").in(terms)), SearchTermStats.class)
+            .stream()
+            .collect(Collectors.toMap(SearchTermStats::getTerm, SearchTermStats::getDf, (left, right) -> left));
+
+        final Map<String, Double> scores = new HashMap<>();
+        for (String term : terms) {
+            final long df = documentFrequencies.getOrDefault(term, 0L);
+            if (df <= 0) {
+                continue;
+            }
+            final double idf = idf(corpus.getDocCount(), df);
+            for (SearchPosting posting : findPostings(crawledBy, term)) {
+                scores.merge(posting.getArticleId(),
+                    idf * termFrequencyScore(posting.getTf(), posting.getDocLength(), averageLength), Double::sum);
+            }
+        }
+        return scores.entrySet().stream()
+            .sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()))
+            .limit(limit)
+            .map(entry -> new SearchHit(entry.getKey(), entry.getValue()))
+            .toList();
+    }
+
+    static double idf(final long docCount, final long df) {
+        return Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+    }
+
+    static double termFrequencyScore(final int tf, final int docLength, final double averageLength) {
+        return tf * (K1 + 1) / (tf + K1 * (1 - B + B * docLength / averageLength));
+    }
+
+    static Map<String, Integer> termFrequencies(final NewsArticle article) {
+        final Map<String, Integer> frequencies = new HashMap<>();
+        final String title = article.getTranslatedTitle() != null
+            ? article.getTranslatedTitle()
+            : article.getOriginalTitle();
+        KoreanNgramTokenizer.tokenize(title).forEach(term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+        KoreanNgramTokenizer.tokenize(article.getTranslatedContent())
+            .forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        if (article.getSummary() != null) {
+            article.getSummary().forEach(point -> KoreanNgramTokenizer.tokenize(point)
+                .forEach(term -> frequencies.merge(term, 1, Integer::sum)));
+        }
+        return frequencies;
+    }
+
+    private List<SearchPosting> findPostings(final String crawledBy, final String term) {
+        final Query query = Query.query(Criteria.where("crawledBy").is(crawledBy).and("term").is(term))
+            .with(Sort.by(Sort.Direction.DESC, "tf"))
+            .limit(config.getMaxPostingsPerTerm());
+        query.fields().include("articleId", "tf", "docLength");
+        return mongoTemplate.find(query, SearchPosting.class);
+    }
+
+    private void add(final NewsArticle article) {
+        if (article.getId() == null || article.getCrawledBy() == null) {
+            return;
+        }
+        final Map<String, Integer> frequencies = termFrequencies(article);
+        if (frequencies.isEmpty()) {
+            return;
+        }
+        final int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        final BulkOperations postings = mongoTemplate.bulkOps(BulkMode.UNORDERED, SearchPosting.class);
+        frequencies.forEach((term, tf) -> postings.insert(SearchPosting.builder()
+            .term(term)
+            .articleId(article.getId())
+            .crawledBy(article.getCrawledBy())
+            .tf(tf)
+            .docLength(length)
+            .build()));
+        updateStats(article.getCrawledBy(), frequencies.keySet(), 1, length);
+        try {
+            postings.execute();
+        } catch (DataAccessException ex) {
+            try {
+                mongoTemplate.remove(Query.query(Criteria.where("articleId").is(article.getId())), SearchPosting.class);
+                updateStats(article.getCrawledBy(), frequencies.keySet(), -1, -length);
+            } catch (DataAccessException compensation) {
+                ex.addSuppressed(compensation);
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * 색인하지 않았고 다른 곳에서 맡고 있지 않은 기사를 정해진 시간 동안 맡는다.
+     */
+    private boolean claim(final String articleId) {
+        final Instant now = Instant.now();
+        return mongoTemplate.updateFirst(
+            Query.query(Criteria.where("id").is(articleId)
+                .and(INDEXED_AT_FIELD).is(null)
+                .and(CLAIMED_UNTIL_FIELD).not().gt(now)),
+            new Update().set(CLAIMED_UNTIL_FIELD, now.plus(config.getIndexClaimTimeout())),
+            NewsArticle.class).getModifiedCount() == 1;
+    }
+
+    private void markIndexed(final String articleId) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(articleId)),
+            new Update().set(INDEXED_AT_FIELD, LocalDateTime.now()).unset(CLAIMED_UNTIL_FIELD), NewsArticle.class);
+    }
+
+    private void removePostings(final String articleId) {
+        final List<SearchPosting> removed = mongoTemplate.findAllAndRemove(
+            Query.query(Criteria.where("articleId").is(articleId)), SearchPosting.class);
+        if (removed.isEmpty()) {
+            return;
+        }
+        final SearchPosting first = removed.get(0);
+        updateStats(first.getCrawledBy(), removed.stream().map(SearchPosting::getTerm).toList(), -1,
+            -first.getDocLength());
+    }
+
+    private void updateStats(final String crawledBy, final Collection<String> terms, final int delta,
+        final int lengthDelta) {
+        final BulkOperations termStats = mongoTemplate.bulkOps(BulkMode.UNORDERED, SearchTermStats.class);
+        terms.forEach(term -> termStats.upsert(
+            Query.query(Criteria.where("crawledBy").is(crawledBy).and("term").is(term)),
+            new Update().inc("df", delta)));
+        termStats.execute();
+        mongoTemplate.upsert(Query.query(Criteria.where("id").is(crawledBy)),
+            new Update().inc("docCount", delta).inc("totalLength", lengthDelta), SearchCorpusStats.class);
+    }
+
+    /**
+     * 검색 결과 기사와 BM25 점수.
+     */
+    public record SearchHit(String articleId, double score) { }
+}
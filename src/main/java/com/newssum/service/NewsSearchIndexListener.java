@@ -0,0 +1,38 @@
+package com.newssum.service;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+import com.newssum.domain.NewsArticle;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기사를 다시 저장하거나 지우면 검색 색인을 고친다.
+ * 크롤링으로 새로 저장한 기사는 벌크 삽입이라 이벤트가 없으므로 {@link NewsCrawlingService} 가 직접 색인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NewsSearchIndexListener extends AbstractMongoEventListener<NewsArticle> {
+
+    private final NewsSearchIndex newsSearchIndex;
+
+    @Override
+    public void onAfterSave(final AfterSaveEvent<NewsArticle> event) {
+        if (event.getSource().getId() != null) {
+            newsSearchIndex.reindex(event.getSource());
+        }
+    }
+
+    @Override
+    public void onAfterDelete(final AfterDeleteEvent<NewsArticle> event) {
+        final Document filter = event.getDocument();
+        final Object id = filter == null ? null : filter.get("_id");
+        if (id != null && !(id instanceof Document)) {
+            newsSearchIndex.remove(id.toString());
+        }
+    }
+}
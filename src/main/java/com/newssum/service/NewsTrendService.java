@@ -0,0 +1,155 @@
+package com.newssum.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import com.newssum.domain.NewsArticle;
+import com.newssum.dto.news.NewsTrendResponse;
+import com.newssum.dto.news.TrendKeywordResponse;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 새로 저장한 기사의 제목·요약에서 키워드를 뽑아 시간 범위별 트렌드를 누적한다.
+ * <p>
+ * 전체와 언론사별 {@link TrendCounter} 에 기사가 저장될 때마다 더하므로 조회 요청은 DB 를 읽지 않는다.
+ * 언론사별 집계는 {@code news.trends.outlet-sketch-width} 의 좁은 sketch 로 {@code news.trends.max-outlets} 곳까지만 둔다.
+ * 자리가 없으면 한 주 동안 기사가 없던 언론사의 집계를 비워 자리를 만들고, 그래도 없으면 전체 집계에만 더한다.
+ * 메모리에만 두므로 기동 직후 지난 한 주의 기사를 한 번 읽어 채운다.
+ * <p>
+ * 집계는 인스턴스마다 따로 둔다. 기동 시에는 다른 인스턴스가 저장한 기사까지 읽지만, 그 뒤로는 이 인스턴스가
+ * 저장한 기사만 더하므로 여러 대로 운영하면 트렌드는 인스턴스별 근사치다.
+ */
+@Service
+public class NewsTrendService {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsTrendService.class);
+    private static final int MAX_KEYWORDS = 50;
+
+    private final MongoTemplate mongoTemplate;
+    private final NewsProperties.Trends config;
+    private final TrendCounter global;
+    private final Map<String, TrendCounter> outlets = new ConcurrentHashMap<>();
+    /** 이 시각 이후 저장된 기사는 {@link #record(Collection)} 로 더해지므로 초기화는 그 전까지만 읽는다. */
+    private final LocalDateTime warmUpCutoff = LocalDateTime.now();
+
+    public NewsTrendService(final MongoTemplate mongoTemplate, final NewsProperties properties,
+        final MeterRegistry registry) {
+        this.mongoTemplate = mongoTemplate;
+        this.config = properties.getTrends();
+        this.global = newCounter();
+        Gauge.builder("news.trends.outlets", outlets, Map::size)
+            .description("트렌드를 따로 집계하는 언론사 수")
+            .register(registry);
+    }
+
+    public void record(final Collection<NewsArticle> articles) {
+        final Instant now = Instant.now();
+        articles.forEach(article -> record(article, now));
+    }
+
+    void record(final NewsArticle article, final Instant at) {
+        final String title = article.getTranslatedTitle() != null
+            ? article.getTranslatedTitle()
+            : article.getOriginalTitle();
+        final Set<String> keywords = TrendKeywordExtractor.extract(title, article.getSummary());
+        if (keywords.isEmpty()) {
+            return;
+        }
+        global.add(keywords, at);
+        final TrendCounter outlet = outletCounter(article.getSourceOutlet(), at);
+        if (outlet != null) {
+            outlet.add(keywords, at);
+        }
+    }
+
+    /**
+     * {@code window} 동안 많이 나온 키워드를 반환한다. {@code outlet} 이 없으면 전체 기사 기준이다.
+     */
+    public NewsTrendResponse getTrends(final TrendWindow window, final String outlet, final int size) {
+        return getTrends(window, outlet, size, Instant.now());
+    }
+
+    NewsTrendResponse getTrends(final TrendWindow window, final String outlet, final int size, final Instant now) {
+        final TrendCounter counter = outlet == null || outlet.isBlank() ? global : outlets.get(outlet);
+        final int limit = size <= 0 ? 10 : Math.min(size, MAX_KEYWORDS);
+        final List<TrendKeywordResponse> keywords = counter == null
+            ? List.of()
+            : counter.top(window, now, limit).stream()
+                .map(entry -> new TrendKeywordResponse(entry.keyword(), entry.count()))
+                .toList();
+        return NewsTrendResponse.builder()
+            .window(window.name())
+            .outlet(outlet)
+            .keywords(keywords)
+            .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpInBackground() {
+        final Thread thread = new Thread(this::warmUp, "news-trend-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void warmUp() {
+        final LocalDateTime since = LocalDateTime.now().minus(TrendWindow.WEEK.getSpan());
+        final Query query = Query.query(Criteria.where("crawledAt").gte(since).lt(warmUpCutoff));
+        query.fields().include("sourceOutlet", "originalTitle", "translatedTitle", "summary", "crawledAt");
+        long count = 0;
+        try (Stream<NewsArticle> articles = mongoTemplate.stream(query, NewsArticle.class)) {
+            for (NewsArticle article : (Iterable<NewsArticle>) articles::iterator) {
+                if (article.getCrawledAt() != null) {
+                    record(article, article.getCrawledAt().atZone(ZoneId.systemDefault()).toInstant());
+                    count++;
+                }
+            }
+            log.info("트렌드 집계 초기화 완료: {}건", count);
+        } catch (RuntimeException ex) {
+            // 초기화에 실패해도 이후 저장되는 기사부터 집계한다.
+            log.warn("트렌드 집계 초기화 실패", ex);
+        }
+    }
+
+    private TrendCounter outletCounter(final String outlet, final Instant at) {
+        if (outlet == null || outlet.isBlank()) {
+            return null;
+        }
+        final TrendCounter existing = outlets.get(outlet);
+        if (existing != null) {
+            return existing;
+        }
+        if (outlets.size() >= config.getMaxOutlets()) {
+            // 가장 긴 범위에서도 빠진 언론사는 조회해도 빈 결과이므로 비운다.
+            final Instant cutoff = at.minus(TrendWindow.WEEK.getSpan());
+            outlets.values().removeIf(counter -> counter.idleSince(cutoff));
+            if (outlets.size() >= config.getMaxOutlets()) {
+                return null;
+            }
+        }
+        return outlets.computeIfAbsent(outlet,
+            key -> new TrendCounter(config.getOutletSketchWidth(), config.getSketchDepth(),
+                config.getHeavyHitterCapacity()));
+    }
+
+    private TrendCounter newCounter() {
+        return new TrendCounter(config.getSketchWidth(), config.getSketchDepth(), config.getHeavyHitterCapacity());
+    }
+}
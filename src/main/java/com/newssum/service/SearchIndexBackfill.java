@@ -0,0 +1,100 @@
+package com.newssum.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.newssum.domain.NewsArticle;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 검색 색인 기록({@code search_indexed_at})이 없는 기사를 주기적으로 찾아 색인한다.
+ * <p>
+ * 색인 도입 전에 저장된 기사, 색인이 실패한 기사, 종료나 장애로 색인 대기열에서 사라진 기사가 대상이다.
+ * 색인을 마친 기사에만 기록이 남으므로 중간에 멈춰도 다음 주기에 남은 기사부터 이어서 색인한다.
+ * 다른 곳에서 맡아 색인 중인 기사는 맡아 둔 시간이 지날 때까지 건너뛴다.
+ */
+@Component
+public class SearchIndexBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexBackfill.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final NewsSearchIndex newsSearchIndex;
+    private final Duration interval;
+    private final int batchSize;
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("search-index-backfill-%d").setDaemon(true).build());
+
+    public SearchIndexBackfill(final MongoTemplate mongoTemplate, final NewsSearchIndex newsSearchIndex,
+        final NewsProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.newsSearchIndex = newsSearchIndex;
+        this.interval = properties.getSearch().getBackfillInterval();
+        this.batchSize = properties.getSearch().getBackfillBatchSize();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillInBackground() {
+        timer.scheduleWithFixedDelay(this::backfill, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    /**
+     * 색인 기록이 없고 맡은 곳이 없는 기사를 {@code _id} 순으로 나눠 읽어 모두 색인한다.
+     */
+    void backfill() {
+        long indexed = 0;
+        String lastId = null;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                final List<NewsArticle> batch = findPending(lastId);
+                batch.forEach(newsSearchIndex::indexPending);
+                indexed += batch.size();
+                if (batch.size() < batchSize) {
+                    break;
+                }
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } catch (DataAccessException ex) {
+            // 기록하지 못한 기사는 다음 주기에 다시 찾는다.
+            log.warn("검색 색인 보충 실패", ex);
+        }
+        if (indexed > 0) {
+            log.info("검색 색인 보충: {}건 확인", indexed);
+        }
+    }
+
+    private List<NewsArticle> findPending(final String lastId) {
+        final Criteria criteria = Criteria.where(NewsSearchIndex.INDEXED_AT_FIELD).is(null)
+            .and(NewsSearchIndex.CLAIMED_UNTIL_FIELD).not().gt(Instant.now());
+        if (lastId != null) {
+            criteria.and("id").gt(lastId);
+        }
+        final Query query = Query.query(criteria)
+            .with(Sort.by(Sort.Direction.ASC, "id"))
+            .limit(batchSize);
+        query.fields().include("id", "crawled_by", "original_title", "translated_title", "translated_content", "summary");
+        return mongoTemplate.find(query, NewsArticle.class);
+    }
+}
@@ -0,0 +1,142 @@
+package com.newssum.service;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한 범위(전체 또는 언론사 하나)의 키워드 출현 횟수를 {@link TrendWindow} 별 시간 구간 고리에 센다.
+ * <p>
+ * 구간마다 count-min sketch 와 추정치가 큰 키워드 후보를 최대 {@code heavyHitterCapacity} 개 둔다.
+ * 조회할 때는 범위 안 구간의 sketch 를 더하고, 구간별 후보를 합쳐 더한 sketch 로 다시 추정해 상위 키워드를 고른다.
+ * 구간이 한 바퀴 돌아오면 비우고 다시 쓰므로 메모리는 구간 수에 비례해 고정된다. 구간의 sketch 는 처음 쓸 때 만든다.
+ */
+final class TrendCounter {
+
+    private final int sketchWidth;
+    private final int sketchDepth;
+    private final int heavyHitterCapacity;
+    private final Map<TrendWindow, Bucket[]> rings = new EnumMap<>(TrendWindow.class);
+    private long lastRecordedMillis = Long.MIN_VALUE;
+
+    TrendCounter(final int sketchWidth, final int sketchDepth, final int heavyHitterCapacity) {
+        this.sketchWidth = sketchWidth;
+        this.sketchDepth = sketchDepth;
+        this.heavyHitterCapacity = heavyHitterCapacity;
+        for (TrendWindow window : TrendWindow.values()) {
+            final Bucket[] ring = new Bucket[window.bucketCount()];
+            for (int i = 0; i < ring.length; i++) {
+                ring[i] = new Bucket();
+            }
+            rings.put(window, ring);
+        }
+    }
+
+    /**
+     * {@code at} 시각에 나온 키워드를 센다. 이미 고리에서 밀려난 시각이면 무시한다.
+     */
+    synchronized void add(final Collection<String> keywords, final Instant at) {
+        lastRecordedMillis = Math.max(lastRecordedMillis, at.toEpochMilli());
+        for (TrendWindow window : TrendWindow.values()) {
+            final Bucket bucket = bucketFor(window, at);
+            if (bucket == null) {
+                continue;
+            }
+            keywords.forEach(bucket::add);
+        }
+    }
+
+    /**
+     * {@code now} 까지 {@code window} 범위에서 많이 나온 키워드를 최대 {@code limit} 개 반환한다.
+     */
+    synchronized List<KeywordCount> top(final TrendWindow window, final Instant now, final int limit) {
+        final Bucket[] ring = rings.get(window);
+        final long current = now.toEpochMilli() / window.bucketMillis();
+        CountMinSketch merged = null;
+        final Set<String> candidates = new HashSet<>();
+        for (Bucket bucket : ring) {
+            if (bucket.sketch == null || bucket.epoch > current || bucket.epoch <= current - ring.length) {
+                continue;
+            }
+            if (merged == null) {
+                merged = bucket.sketch.copy();
+            } else {
+                merged.merge(bucket.sketch);
+            }
+            candidates.addAll(bucket.heavyHitters.keySet());
+        }
+        if (merged == null) {
+            return List.of();
+        }
+        final CountMinSketch windowSketch = merged;
+        return candidates.stream()
+            .map(keyword -> new KeywordCount(keyword, windowSketch.estimate(keyword)))
+            .sorted(Comparator.comparingLong(KeywordCount::count).reversed()
+                .thenComparing(KeywordCount::keyword))
+            .limit(limit)
+            .toList();
+    }
+
+    /**
+     * {@code cutoff} 이후로 더한 키워드가 없으면 {@code true}.
+     */
+    synchronized boolean idleSince(final Instant cutoff) {
+        return lastRecordedMillis < cutoff.toEpochMilli();
+    }
+
+    private Bucket bucketFor(final TrendWindow window, final Instant at) {
+        final Bucket[] ring = rings.get(window);
+        final long epoch = at.toEpochMilli() / window.bucketMillis();
+        final Bucket bucket = ring[(int) Math.floorMod(epoch, (long) ring.length)];
+        if (bucket.epoch == epoch) {
+            return bucket;
+        }
+        if (bucket.epoch > epoch) {
+            return null;
+        }
+        bucket.reset(epoch);
+        return bucket;
+    }
+
+    /**
+     * 키워드와 추정 출현 횟수.
+     */
+    record KeywordCount(String keyword, long count) { }
+
+    private final class Bucket {
+
+        private long epoch = Long.MIN_VALUE;
+        private CountMinSketch sketch;
+        private final Map<String, Long> heavyHitters = new HashMap<>();
+
+        private void reset(final long newEpoch) {
+            epoch = newEpoch;
+            sketch = null;
+            heavyHitters.clear();
+        }
+
+        private void add(final String keyword) {
+            if (sketch == null) {
+                sketch = new CountMinSketch(sketchWidth, sketchDepth);
+            }
+            final long estimate = sketch.add(keyword);
+            if (heavyHitters.containsKey(keyword) || heavyHitters.size() < heavyHitterCapacity) {
+                heavyHitters.put(keyword, estimate);
+                return;
+            }
+            final Map.Entry<String, Long> smallest = heavyHitters.entrySet().stream()
+                .min(Map.Entry.comparingByValue())
+                .orElseThrow();
+            if (estimate > smallest.getValue()) {
+                heavyHitters.remove(smallest.getKey());
+                heavyHitters.put(keyword, estimate);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.newssum.service;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 제목과 요약에서 트렌드 키워드를 뽑는다.
+ * <p>
+ * 형태소 분석 없이 공백·기호로 단어를 나누고, 한글 단어는 끝에 붙은 조사 하나를 떼어 낸다.
+ * 두 글자 미만 단어, 숫자, 불용어는 버린다. 한 기사에서 여러 번 나온 키워드도 한 번만 센다.
+ */
+final class TrendKeywordExtractor {
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+    /** 긴 조사부터 맞춰 본다. */
+    private static final List<String> PARTICLES = List.of(
+        "에서는", "으로는", "에게서", "에서", "으로", "에게", "까지", "부터", "처럼", "보다", "이라",
+        "은", "는", "이", "가", "을", "를", "의", "에", "와", "과", "도", "만", "로");
+    private static final Set<String> STOPWORDS = Set.of(
+        "기자", "뉴스", "오늘", "지난", "이번", "관련", "대한", "통해", "위해", "있다", "했다", "밝혔다", "것으로",
+        "the", "and", "for", "with", "that", "this", "from", "are", "was", "has", "have", "will", "its",
+        "into", "about", "after", "over", "more", "said", "says", "but", "not", "than", "been");
+
+    private TrendKeywordExtractor() {
+    }
+
+    static Set<String> extract(final String title, final List<String> summary) {
+        final Set<String> keywords = new LinkedHashSet<>();
+        addKeywords(title, keywords);
+        if (summary != null) {
+            summary.forEach(point -> addKeywords(point, keywords));
+        }
+        return keywords;
+    }
+
+    private static void addKeywords(final String text, final Set<String> keywords) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        final String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        final Matcher matcher = WORD.matcher(normalized);
+        while (matcher.find()) {
+            final String keyword = stripParticle(matcher.group());
+            if (keyword.length() >= 2 && !STOPWORDS.contains(keyword) && !keyword.chars().allMatch(Character::isDigit)) {
+                keywords.add(keyword);
+            }
+        }
+    }
+
+    private static String stripParticle(final String word) {
+        for (String particle : PARTICLES) {
+            // 조사를 떼고도 두 글자 이상 남는 한글 단어만 자른다. "국가" 의 "가" 같은 경우는 그대로 둔다.
+            if (word.endsWith(particle) && word.length() - particle.length() >= 2 && isHangul(word.charAt(0))) {
+                return word.substring(0, word.length() - particle.length());
+            }
+        }
+        return word;
+    }
+
+    private static boolean isHangul(final char ch) {
+        return ch >= '가' && ch <= '힣';
+    }
+}
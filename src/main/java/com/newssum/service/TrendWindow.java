@@ -0,0 +1,45 @@
+package com.newssum.service;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import com.newssum.exception.BusinessException;
+import com.newssum.exception.ErrorCode;
+
+/**
+ * 트렌드 키워드를 집계하는 시간 범위. 범위를 {@code bucketCount} 개 구간으로 나눠 오래된 구간부터 버린다.
+ */
+public enum TrendWindow {
+
+    HOUR(Duration.ofHours(1), 12),
+    DAY(Duration.ofDays(1), 24),
+    WEEK(Duration.ofDays(7), 14);
+
+    private final Duration span;
+    private final int bucketCount;
+
+    TrendWindow(final Duration span, final int bucketCount) {
+        this.span = span;
+        this.bucketCount = bucketCount;
+    }
+
+    public Duration getSpan() {
+        return span;
+    }
+
+    int bucketCount() {
+        return bucketCount;
+    }
+
+    long bucketMillis() {
+        return span.toMillis() / bucketCount;
+    }
+
+    public static TrendWindow from(final String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.newssum.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.newssum.domain.NewsArticle;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 이미 저장된 기사의 {@code url_hash} 를 담는 메모리 Bloom filter.
+ * <p>
+ * {@link #mightContain(String)} 이 {@code false} 면 DB 를 조회하지 않고도 새 기사임을 알 수 있다.
+ * 기동 직후 {@code url_hash} 인덱스만 읽어 채우며, 채우기가 끝나기 전에는 항상 {@code true} 를 반환해
+ * DB 조회로 넘긴다. 이후에는 주기적으로 마지막 갱신 이후 저장된 문서를 {@code _id} 순으로 읽어 다른 인스턴스가
+ * 저장한 기사도 반영한다. 갱신 주기 안에 다른 인스턴스가 저장한 기사는 저장 단계에서 고유 인덱스에 걸려
+ * 기존 문서로 응답한다.
+ */
+@Component
+public class UrlHashBloomFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(UrlHashBloomFilter.class);
+    private static final String URL_HASH_FIELD = "url_hash";
+    private static final String URL_HASH_INDEX = "url_hash";
+    private static final String ID_INDEX = "_id_";
+
+    private final MongoTemplate mongoTemplate;
+    private final long expectedInsertions;
+    private final Duration refreshInterval;
+    private final Duration refreshLookback;
+    private final BloomFilter<CharSequence> filter;
+    private final AtomicBoolean warmedUp = new AtomicBoolean();
+    private final AtomicLong size = new AtomicLong();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("url-bloom-refresh-%d").setDaemon(true).build());
+    private volatile Instant refreshedAt;
+
+    public UrlHashBloomFilter(final MongoTemplate mongoTemplate, final NewsProperties properties) {
+        final NewsProperties.Dedupe dedupe = properties.getDedupe();
+        this.mongoTemplate = mongoTemplate;
+        this.expectedInsertions = dedupe.getExpectedArticles();
+        this.refreshInterval = dedupe.getRefreshInterval();
+        this.refreshLookback = dedupe.getRefreshLookback();
+        this.filter = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions,
+            dedupe.getFalsePositiveRate());
+    }
+
+    public boolean mightContain(final String urlHash) {
+        return !warmedUp.get() || filter.mightContain(urlHash);
+    }
+
+    public void put(final String urlHash) {
+        if (filter.put(urlHash) && size.incrementAndGet() == expectedInsertions) {
+            log.warn("URL Bloom filter 가 예상 용량({})에 도달했습니다. 오탐률이 높아집니다.", expectedInsertions);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpInBackground() {
+        timer.scheduleWithFixedDelay(this::refresh, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    /**
+     * 아직 채우지 못했으면 전체를 채우고, 채운 뒤에는 마지막 갱신 이후 저장된 기사만 더한다.
+     */
+    void refresh() {
+        if (!warmedUp.get()) {
+            warmUp();
+            return;
+        }
+        final Instant startedAt = Instant.now();
+        final ObjectId from = new ObjectId(Date.from(refreshedAt.minus(refreshLookback)));
+        final Query query = new Query(Criteria.where("_id").gte(from)).withHint(ID_INDEX);
+        try {
+            load(query);
+            refreshedAt = startedAt;
+        } catch (RuntimeException ex) {
+            // 다음 주기에 같은 구간부터 다시 읽는다.
+            log.warn("URL Bloom filter 갱신 실패", ex);
+        }
+    }
+
+    void warmUp() {
+        final Instant startedAt = Instant.now();
+        // url_hash 인덱스만 읽도록 힌트를 줘 문서 전체를 읽지 않는다.
+        final Query query = new Query().withHint(URL_HASH_INDEX);
+        try {
+            load(query);
+            refreshedAt = startedAt;
+            warmedUp.set(true);
+            log.info("URL Bloom filter 초기화 완료: 약 {}건", size.get());
+        } catch (RuntimeException ex) {
+            // 초기화에 실패해도 mightContain 이 true 를 반환하므로 DB 조회로 정상 동작한다. 다음 주기에 다시 시도한다.
+            log.warn("URL Bloom filter 초기화 실패. DB 조회로 중복을 확인합니다.", ex);
+        }
+    }
+
+    private void load(final Query query) {
+        query.fields().include(URL_HASH_FIELD).exclude("_id");
+        final String collection = mongoTemplate.getCollectionName(NewsArticle.class);
+        try (Stream<Document> documents = mongoTemplate.stream(query, Document.class, collection)) {
+            documents
+                .map(document -> document.getString(URL_HASH_FIELD))
+                .filter(Objects::nonNull)
+                .forEach(this::put);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.newssum.service;
+
+import java.util.Date;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.newssum.crawler.UrlCanonicalizer;
+import com.newssum.domain.NewsArticle;
+
+/**
+ * 정규화 도입 전에 저장된 기사의 {@code url_hash} 를 {@link UrlCanonicalizer#urlHash(String)} 기준으로 다시 계산한다.
+ * <p>
+ * 예전 해시는 원본 URL 의 SHA-256 이라 그대로 두면 같은 기사를 다시 내려받아 저장한다. 기동 후 한 번 전체를 읽어
+ * 해시가 다른 문서만 고치고, 끝나면 {@code migrations} 컬렉션에 기록해 다음 기동부터는 건너뛴다. 여러 인스턴스가
+ * 동시에 돌려도 같은 값을 쓰므로 안전하다. 정규화하면 이미 있는 다른 기사와 같아지는 문서는 예전 해시로 남긴다.
+ */
+@Component
+public class UrlHashMigration {
+
+    static final String MIGRATION_ID = "url-hash-canonical-v1";
+
+    private static final Logger log = LoggerFactory.getLogger(UrlHashMigration.class);
+    private static final String MIGRATIONS_COLLECTION = "migrations";
+    private static final String URL_FIELD = "url";
+    private static final String URL_HASH_FIELD = "url_hash";
+
+    private final MongoTemplate mongoTemplate;
+    private final UrlHashBloomFilter urlHashBloomFilter;
+
+    public UrlHashMigration(final MongoTemplate mongoTemplate, final UrlHashBloomFilter urlHashBloomFilter) {
+        this.mongoTemplate = mongoTemplate;
+        this.urlHashBloomFilter = urlHashBloomFilter;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateInBackground() {
+        final Thread thread = new Thread(this::migrate, "url-hash-migration");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void migrate() {
+        try {
+            if (mongoTemplate.exists(Query.query(Criteria.where("_id").is(MIGRATION_ID)), MIGRATIONS_COLLECTION)) {
+                return;
+            }
+            final Query query = new Query();
+            query.fields().include(URL_FIELD, URL_HASH_FIELD);
+            final String collection = mongoTemplate.getCollectionName(NewsArticle.class);
+            long rehashed = 0;
+            long duplicates = 0;
+            try (Stream<Document> documents = mongoTemplate.stream(query, Document.class, collection)) {
+                for (Document document : (Iterable<Document>) documents::iterator) {
+                    final String url = document.getString(URL_FIELD);
+                    if (url == null) {
+                        continue;
+                    }
+                    final String urlHash = UrlCanonicalizer.urlHash(url);
+                    if (urlHash.equals(document.getString(URL_HASH_FIELD))) {
+                        continue;
+                    }
+                    try {
+                        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(document.get("_id"))),
+                            Update.update(URL_HASH_FIELD, urlHash), collection);
+                        urlHashBloomFilter.put(urlHash);
+                        rehashed++;
+                    } catch (DuplicateKeyException ex) {
+                        duplicates++;
+                    }
+                }
+            }
+            markCompleted();
+            log.info("url_hash 재계산 완료: {}건 변경, 중복으로 유지 {}건", rehashed, duplicates);
+        } catch (RuntimeException ex) {
+            // 기록하지 않았으므로 다음 기동 때 다시 시도한다.
+            log.warn("url_hash 재계산 실패", ex);
+        }
+    }
+
+    private void markCompleted() {
+        try {
+            mongoTemplate.insert(new Document("_id", MIGRATION_ID).append("completed_at", new Date()),
+                MIGRATIONS_COLLECTION);
+        } catch (DuplicateKeyException ex) {
+            // 다른 인스턴스가 먼저 끝냈다.
+        }
+    }
+}
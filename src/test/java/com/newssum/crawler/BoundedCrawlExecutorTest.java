@@ -0,0 +1,60 @@
+package com.newssum.crawler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+
+import com.newssum.exception.CrawlingException;
+import com.newssum.exception.ErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedCrawlExecutorTest {
+
+    private final List<Runnable> started = new ArrayList<>();
+    private final BoundedCrawlExecutor executor = new BoundedCrawlExecutor("test", started::add, 2, 3);
+
+    @Test
+    void checkAdmission_끝나지_않은_입장_작업이_한도를_넘으면_거절하고_돌려받으면_다시_받는다() {
+        final BoundedCrawlExecutor.Admission first = executor.checkAdmission(4);
+
+        assertThatThrownBy(() -> executor.checkAdmission(2))
+            .isInstanceOf(CrawlingException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.CRAWLER_BUSY);
+
+        first.release();
+        executor.checkAdmission(2);
+        assertThat(executor.getAdmittedCount()).isEqualTo(5);
+        first.releaseAll();
+        first.release();
+        assertThat(executor.getAdmittedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void limit_하위_실행기에서_기다리는_작업도_대기_수에_센다() {
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        executor.bindTo(registry);
+        final Executor child = executor.limit(1);
+
+        for (int i = 0; i < 3; i++) {
+            child.execute(() -> { });
+        }
+
+        // 하위 실행기 한도 때문에 하나만 위임되고 나머지 둘은 하위 대기열에 남는다.
+        assertThat(started).hasSize(1);
+        assertThat(registry.get("crawler.executor.active").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("crawler.executor.queued").gauge().value()).isEqualTo(2);
+
+        started.remove(0).run();
+
+        assertThat(started).hasSize(1);
+        assertThat(executor.getActiveCount()).isEqualTo(1);
+        assertThat(executor.getQueuedCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,94 @@
+package com.newssum.crawler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HostFetchSchedulerTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private RobotsTxtInspector robotsTxtInspector;
+    private CrawlerProperties properties;
+    private HostFetchScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        robotsTxtInspector = mock(RobotsTxtInspector.class);
+        properties = new CrawlerProperties();
+        properties.getPoliteness().setRequestsPerSecond(1.0);
+        properties.getPoliteness().setBurst(5);
+        properties.getPoliteness().setMaxConcurrencyPerHost(5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void submit_Crawl_delay_가_없으면_burst_만큼_연속으로_보낸다() {
+        when(robotsTxtInspector.getCrawlDelay(anyString())).thenReturn(Optional.empty());
+        scheduler = new HostFetchScheduler(executor, robotsTxtInspector, properties);
+
+        final CompletableFuture<String> first = scheduler.submit("https://example.com/a", () -> "a");
+        final CompletableFuture<String> second = scheduler.submit("https://example.com/b", () -> "b");
+
+        assertThat(CompletableFuture.allOf(first, second)).succeedsWithin(Duration.ofMillis(500));
+    }
+
+    @Test
+    void submit_Crawl_delay_가_있으면_연속_요청_없이_간격을_지킨다() {
+        when(robotsTxtInspector.getCrawlDelay(anyString())).thenReturn(Optional.of(Duration.ofSeconds(1)));
+        scheduler = new HostFetchScheduler(executor, robotsTxtInspector, properties);
+
+        final CompletableFuture<String> first = scheduler.submit("https://example.com/a", () -> "a");
+        final CompletableFuture<String> second = scheduler.submit("https://example.com/b", () -> "b");
+
+        assertThat(first).succeedsWithin(Duration.ofMillis(500));
+        assertThat(second).isNotDone();
+        assertThat(second).succeedsWithin(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void evictIdleQueues_대기_중인_작업이_있는_호스트는_정리하지_않는다() throws Exception {
+        when(robotsTxtInspector.getCrawlDelay(anyString())).thenReturn(Optional.empty());
+        properties.getPoliteness().setIdleHostExpiry(Duration.ofMillis(1));
+        scheduler = new HostFetchScheduler(executor, robotsTxtInspector, properties);
+        final CountDownLatch running = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final CompletableFuture<String> busy = scheduler.submit("https://busy.example.com/a", () -> {
+            running.countDown();
+            release.await();
+            return "a";
+        });
+        scheduler.submit("https://idle.example.com/a", () -> "a").get(1, TimeUnit.SECONDS);
+        running.await(1, TimeUnit.SECONDS);
+        Thread.sleep(5);
+        scheduler.evictIdleQueues();
+
+        assertThat(scheduler.hostCount()).isEqualTo(1);
+        release.countDown();
+        assertThat(busy).succeedsWithin(Duration.ofSeconds(1));
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (scheduler.hostCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+            scheduler.evictIdleQueues();
+        }
+        assertThat(scheduler.hostCount()).isZero();
+    }
+}
@@ -0,0 +1,41 @@
+package com.newssum.crawler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NewsCrawlerTest {
+
+    private final PageFetcher pageFetcher = mock(PageFetcher.class);
+    private NewsCrawler newsCrawler;
+
+    @BeforeEach
+    void setUp() {
+        newsCrawler = new NewsCrawler(mock(RobotsTxtInspector.class), pageFetcher, mock(HostFetchScheduler.class),
+            mock(BoundedCrawlExecutor.class), new CrawlerProperties());
+    }
+
+    @Test
+    void extractArticleLinks_대소문자가_섞인_출처_URL도_같은_사이트의_링크를_추출한다() throws IOException {
+        final String sourceUrl = "https://News.Example.COM./world";
+        when(pageFetcher.fetchDocument(sourceUrl)).thenReturn(Jsoup.parse("""
+            <a href="/world">World</a>
+            <a href="/world/article-1">기사 1</a>
+            <a href="https://news.example.com/world/article-2?utm_source=rss">기사 2</a>
+            <a href="https://other.example.com/article-3">다른 사이트</a>
+            """, sourceUrl));
+
+        final List<String> links = newsCrawler.extractArticleLinks(sourceUrl, 10);
+
+        assertThat(links).containsExactly(
+            "https://news.example.com/world/article-1",
+            "https://news.example.com/world/article-2");
+    }
+}
@@ -0,0 +1,125 @@
+package com.newssum.crawler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class PageFetcherTest {
+
+    private static final String URL = "https://example.com/article";
+
+    private final HttpClient httpClient = mock(HttpClient.class);
+    private CrawlerProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CrawlerProperties();
+        properties.getFetch().setMaxConnectionsPerHost(1);
+        properties.getFetch().setRequestTimeout(Duration.ofMillis(200));
+    }
+
+    @Test
+    void fetch_gzip_응답의_압축을_풀고_Content_Type_의_문자셋을_읽는다() throws Exception {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write("<p>기사</p>".getBytes(StandardCharsets.UTF_8));
+        }
+        respond(new TrackingStream(compressed.toByteArray()), "gzip", "text/html; charset=\"UTF-8\"");
+
+        final PageFetcher.FetchedPage page = new PageFetcher(httpClient, properties).fetch(URL);
+
+        assertThat(page.bodyAsString()).isEqualTo("<p>기사</p>");
+        assertThat(page.charset()).isEqualTo(StandardCharsets.UTF_8);
+        assertThat(page.finalUrl()).isEqualTo(URL);
+    }
+
+    @Test
+    void fetch_압축_해제를_시작하지_못해도_응답_본문을_닫고_연결_허가를_돌려준다() throws Exception {
+        final TrackingStream broken = new TrackingStream("not gzip".getBytes(StandardCharsets.UTF_8));
+        respond(broken, "gzip", null);
+        final PageFetcher fetcher = new PageFetcher(httpClient, properties);
+
+        assertThatThrownBy(() -> fetcher.fetch(URL)).isInstanceOf(ZipException.class);
+
+        assertThat(broken.closed).isTrue();
+        respond(new TrackingStream("ok".getBytes(StandardCharsets.UTF_8)), null, null);
+        assertThat(fetcher.fetch(URL).bodyAsString()).isEqualTo("ok");
+    }
+
+    @Test
+    void fetch_요청이_끝난_호스트의_연결_허가는_남기지_않는다() throws Exception {
+        final PageFetcher fetcher = new PageFetcher(httpClient, properties);
+        respond(new TrackingStream("ok".getBytes(StandardCharsets.UTF_8)), null, null);
+
+        fetcher.fetch(URL);
+        respond(new TrackingStream("not gzip".getBytes(StandardCharsets.UTF_8)), "gzip", null);
+        assertThatThrownBy(() -> fetcher.fetch("https://other.example.com/article")).isInstanceOf(ZipException.class);
+
+        assertThat(fetcher.hostCount()).isZero();
+    }
+
+    @Test
+    void fetch_최대_크기를_넘는_본문은_잘라낸다() throws Exception {
+        properties.getFetch().setMaxBodySize(DataSize.ofBytes(4));
+        respond(new TrackingStream("abcdefgh".getBytes(StandardCharsets.UTF_8)), null, "text/html; charset=bogus");
+
+        final PageFetcher.FetchedPage page = new PageFetcher(httpClient, properties).fetch(URL);
+
+        assertThat(page.body()).hasSize(4);
+        assertThat(page.charset()).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void respond(final InputStream body, final String encoding, final String contentType) throws Exception {
+        final Map<String, List<String>> headers = new HashMap<>();
+        if (encoding != null) {
+            headers.put("Content-Encoding", List.of(encoding));
+        }
+        if (contentType != null) {
+            headers.put("Content-Type", List.of(contentType));
+        }
+        final HttpResponse<InputStream> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        when(response.uri()).thenReturn(URI.create(URL));
+        when(response.body()).thenReturn(body);
+        when(response.headers()).thenReturn(HttpHeaders.of(headers, (name, value) -> true));
+        when(httpClient.send(any(), any(HttpResponse.BodyHandler.class))).thenReturn((HttpResponse) response);
+    }
+
+    private static final class TrackingStream extends ByteArrayInputStream {
+
+        private boolean closed;
+
+        private TrackingStream(final byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.newssum.crawler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class RobotsRulesTest {
+
+    private static final String ROBOTS = """
+        # 예시 robots.txt
+        User-agent: *
+        Disallow: /private/
+        Crawl-delay: 5
+
+        User-agent: GoogleBot
+        Disallow: /
+
+        User-agent: NewsSumBot
+        User-agent: OtherBot
+        Disallow: /search
+        Disallow: /*.pdf$
+        Allow: /search/news
+        Crawl-delay: 1.5
+
+        Sitemap: https://example.com/sitemap.xml
+        """;
+
+    @Test
+    void parse_전용_그룹이_있으면_해당_규칙만_적용한다() {
+        final RobotsRules rules = RobotsRules.parse(ROBOTS, "NewsSumBot");
+
+        assertThat(rules.isAllowed("/private/page")).isTrue();
+        assertThat(rules.isAllowed("/search?q=1")).isFalse();
+        assertThat(rules.isAllowed("/search/news/1")).isTrue();
+        assertThat(rules.isAllowed("/files/report.pdf")).isFalse();
+        assertThat(rules.isAllowed("/files/report.pdf?download=1")).isTrue();
+        assertThat(rules.getCrawlDelay()).contains(Duration.ofMillis(1_500));
+    }
+
+    @Test
+    void parse_전용_그룹이_없으면_와일드카드_그룹을_사용한다() {
+        final RobotsRules rules = RobotsRules.parse(ROBOTS, "UnknownBot");
+
+        assertThat(rules.isAllowed("/private/page")).isFalse();
+        assertThat(rules.isAllowed("/news/1")).isTrue();
+        assertThat(rules.getCrawlDelay()).contains(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void isAllowed_와일드카드와_끝_표시를_함께_해석한다() {
+        final RobotsRules rules = RobotsRules.parse("""
+            User-agent: *
+            Disallow: /*/print*$
+            Disallow: /tmp*.bak$
+            """, "NewsSumBot");
+
+        assertThat(rules.isAllowed("/world/print")).isFalse();
+        assertThat(rules.isAllowed("/world/printable")).isFalse();
+        assertThat(rules.isAllowed("/tmp/a.bak.bak")).isFalse();
+        assertThat(rules.isAllowed("/tmp/a.bak.txt")).isTrue();
+        assertThat(rules.isAllowed("/print")).isTrue();
+    }
+
+    @Test
+    void isAllowed_와일드카드가_많은_규칙도_긴_경로를_빠르게_판정한다() {
+        final RobotsRules rules = RobotsRules.parse("User-agent: *\nDisallow: /*a*a*a*a*a*a*a*a*b\n", "NewsSumBot");
+        final String path = "/" + "a".repeat(20_000);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            assertThat(rules.isAllowed(path)).isTrue();
+            assertThat(rules.isAllowed(path + "b")).isFalse();
+        });
+    }
+
+    @Test
+    void parse_하위경로만_막혀있으면_다른_경로는_허용한다() {
+        final RobotsRules rules = RobotsRules.parse("User-agent: *\nDisallow: /admin\nDisallow:\n", "NewsSumBot");
+
+        assertThat(rules.isAllowed("/")).isTrue();
+        assertThat(rules.isAllowed("/world/article-1")).isTrue();
+        assertThat(rules.isAllowed("/admin/login")).isFalse();
+        assertThat(rules.getCrawlDelay()).isEmpty();
+    }
+
+    @Test
+    void parse_본문이_비어있으면_모두_허용한다() {
+        final RobotsRules rules = RobotsRules.parse("", "NewsSumBot");
+
+        assertThat(rules.isAllowed("/anything")).isTrue();
+    }
+}
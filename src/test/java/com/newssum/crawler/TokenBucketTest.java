@@ -0,0 +1,29 @@
+package com.newssum.crawler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void tryConsume_burst_만큼은_바로_쓰고_그다음은_다음_토큰까지_기다린다() {
+        final TokenBucket bucket = new TokenBucket(2.0, 2, 0);
+
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isEqualTo(SECOND / 2);
+        assertThat(bucket.tryConsume(SECOND / 4)).isEqualTo(SECOND / 4);
+        assertThat(bucket.tryConsume(SECOND / 2)).isZero();
+    }
+
+    @Test
+    void tryConsume_오래_쉬어도_burst_보다_많이_쌓이지_않는다() {
+        final TokenBucket bucket = new TokenBucket(1.0, 1, 0);
+
+        assertThat(bucket.tryConsume(100 * SECOND)).isZero();
+        assertThat(bucket.tryConsume(100 * SECOND)).isEqualTo(SECOND);
+    }
+}
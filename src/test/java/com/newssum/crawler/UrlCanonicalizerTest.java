@@ -0,0 +1,52 @@
+package com.newssum.crawler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Test;
+
+class UrlCanonicalizerTest {
+
+    @Test
+    void canonicalize_추적파라미터와_fragment를_제거하고_표기를_통일한다() {
+        final String canonical = UrlCanonicalizer.canonicalize(
+            "HTTPS://News.Example.COM:443//world/story-1/?utm_source=x&b=2&fbclid=abc&a=1#comments");
+
+        assertThat(canonical).isEqualTo("https://news.example.com/world/story-1?a=1&b=2");
+    }
+
+    @Test
+    void urlHash_같은_기사의_변형_URL은_같은_해시를_가진다() {
+        final String expected = UrlCanonicalizer.urlHash("https://news.example.com/world/story-1");
+
+        assertThat(UrlCanonicalizer.urlHash("http://news.example.com/world/story-1/")).isEqualTo(expected);
+        assertThat(UrlCanonicalizer.urlHash("https://NEWS.example.com/world/story-1#top")).isEqualTo(expected);
+        assertThat(UrlCanonicalizer.urlHash("https://news.example.com/world/story-1?utm_medium=rss")).isEqualTo(expected);
+        assertThat(UrlCanonicalizer.urlHash("https://news.example.com/world/story-2")).isNotEqualTo(expected);
+    }
+
+    @Test
+    void resolve_같은_사이트의_canonical_선언을_우선한다() {
+        final Document document = Jsoup.parse("""
+            <html><head>
+            <link rel="canonical" href="/world/story-1">
+            </head><body></body></html>
+            """, "https://www.example.com/amp/world/story-1?utm_source=x");
+
+        assertThat(UrlCanonicalizer.resolve(document, document.location()))
+            .isEqualTo("https://www.example.com/world/story-1");
+    }
+
+    @Test
+    void resolve_다른_사이트를_가리키는_선언은_무시한다() {
+        final Document document = Jsoup.parse("""
+            <html><head>
+            <meta property="og:url" content="https://other.example.org/story">
+            </head><body></body></html>
+            """, "https://news.example.com/story?ref_src=twsrc");
+
+        assertThat(UrlCanonicalizer.resolve(document, document.location()))
+            .isEqualTo("https://news.example.com/story");
+    }
+}
@@ -0,0 +1,47 @@
+package com.newssum.external.gemini;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ArticleChunkerTest {
+
+    @Test
+    void split_문단_경계에서_토큰_한도를_넘지_않게_나눈다() {
+        final String content = String.join("\n", "가".repeat(40), "나".repeat(40), "다".repeat(40));
+
+        final List<String> chunks = ArticleChunker.split(content, 90);
+
+        assertThat(chunks).containsExactly("가".repeat(40) + "\n" + "나".repeat(40), "다".repeat(40));
+    }
+
+    @Test
+    void split_한도보다_긴_문단은_문장과_글자_단위로_자른다() {
+        final String content = "가".repeat(30) + ". " + "나".repeat(70);
+
+        final List<String> chunks = ArticleChunker.split(content, 50);
+
+        assertThat(chunks).allSatisfy(chunk -> assertThat(GeminiTokenEstimator.estimate(chunk)).isLessThanOrEqualTo(50));
+        assertThat(String.join("", chunks).replace("\n", "").replace(" ", ""))
+            .isEqualTo("가".repeat(30) + "." + "나".repeat(70));
+    }
+
+    @Test
+    void leading_한도_안의_본문은_그대로_두고_긴_본문은_앞문단만_남긴다() {
+        final String shortContent = "Short paragraph.";
+        final String longContent = String.join("\n", "가".repeat(40), "나".repeat(40));
+
+        assertThat(ArticleChunker.leading(shortContent, 100)).isEqualTo(shortContent);
+        assertThat(ArticleChunker.leading(longContent, 50)).isEqualTo("가".repeat(40));
+    }
+
+    @Test
+    void estimate_한글은_글자마다_라틴_문자는_네_글자마다_토큰_하나로_센다() {
+        assertThat(GeminiTokenEstimator.estimate("한국어")).isEqualTo(3);
+        assertThat(GeminiTokenEstimator.estimate("abcdefgh")).isEqualTo(2);
+        assertThat(GeminiTokenEstimator.estimate("뉴스 news")).isEqualTo(4);
+        assertThat(GeminiTokenEstimator.estimate(null)).isZero();
+    }
+}
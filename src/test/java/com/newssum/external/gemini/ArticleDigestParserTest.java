@@ -0,0 +1,45 @@
+package com.newssum.external.gemini;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ArticleDigestParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void parse_코드블록과_설명이_붙은_JSON도_해석한다() {
+        final String text = """
+            다음은 결과입니다.
+            ```json
+            {"title": "제목", "content": "본문", "summary": ["- 첫째", "둘째", ""]}
+            ```
+            """;
+
+        assertThat(ArticleDigestParser.parse(text, objectMapper)).hasValueSatisfying(digest -> {
+            assertThat(digest.translatedTitle()).isEqualTo("제목");
+            assertThat(digest.translatedContent()).isEqualTo("본문");
+            assertThat(digest.summary()).containsExactly("첫째", "둘째");
+        });
+    }
+
+    @Test
+    void parse_요약이_문자열이면_줄_단위로_나누고_최대_5개만_남긴다() {
+        final String text = "{\"title\": \"제목\", \"content\": \"본문\", \"summary\": \"• 1\\n• 2\\n• 3\\n• 4\\n• 5\\n• 6\"}";
+
+        assertThat(ArticleDigestParser.parse(text, objectMapper))
+            .hasValueSatisfying(digest -> assertThat(digest.summary()).containsExactly("1", "2", "3", "4", "5"));
+    }
+
+    @Test
+    void parse_JSON이_아니거나_필수_값이_없으면_빈_값을_반환한다() {
+        assertThat(ArticleDigestParser.parse("Title: 제목\nContent: 본문", objectMapper)).isEmpty();
+        assertThat(ArticleDigestParser.parse("{\"title\": \"제목\", \"content\": \"본문\"", objectMapper)).isEmpty();
+        assertThat(ArticleDigestParser.parse("{\"title\": \"제목\", \"content\": \"\", \"summary\": [\"요약\"]}", objectMapper))
+            .isEmpty();
+        assertThat(ArticleDigestParser.parse(null, objectMapper)).isEmpty();
+    }
+}
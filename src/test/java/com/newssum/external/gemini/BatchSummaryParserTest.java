@@ -0,0 +1,42 @@
+package com.newssum.external.gemini;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newssum.external.gemini.GeminiApiClient.SummaryResult;
+
+class BatchSummaryParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void parse_기사_번호별로_요약을_나누고_범위를_벗어나거나_빈_항목은_버린다() {
+        final String text = """
+            ```json
+            {"summaries": [
+              {"id": 2, "summary": ["- 둘째 요약"]},
+              {"id": "1", "summary": "• 첫째 요약\\n• 첫째 보충"},
+              {"id": 3, "summary": ["범위 밖"]},
+              {"id": 1, "summary": ["중복"]}
+            ]}
+            ```
+            """;
+
+        final Map<Integer, SummaryResult> results = BatchSummaryParser.parse(text, objectMapper, 2);
+
+        assertThat(results).containsOnlyKeys(1, 2);
+        assertThat(results.get(1).summary()).containsExactly("첫째 요약", "첫째 보충");
+        assertThat(results.get(2).summary()).containsExactly("둘째 요약");
+    }
+
+    @Test
+    void parse_JSON이_아니거나_summaries_배열이_없으면_빈_맵을_반환한다() {
+        assertThat(BatchSummaryParser.parse("- 요약1\n- 요약2", objectMapper, 2)).isEmpty();
+        assertThat(BatchSummaryParser.parse("{\"summary\": [\"요약\"]}", objectMapper, 2)).isEmpty();
+        assertThat(BatchSummaryParser.parse(null, objectMapper, 2)).isEmpty();
+    }
+}
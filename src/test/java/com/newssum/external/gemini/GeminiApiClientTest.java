@@ -0,0 +1,247 @@
+package com.newssum.external.gemini;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newssum.exception.ErrorCode;
+import com.newssum.exception.GeminiApiException;
+import com.newssum.external.gemini.GeminiApiClient.SummaryResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GeminiApiClientTest {
+
+    private static final String SUMMARY_BODY = """
+        {"candidates":[{"content":{"parts":[{"text":"- 요약1\\n- 요약2"}]}}]}
+        """;
+
+    private HttpClient httpClient;
+    private GeminiProperties properties;
+    private GeminiApiClient geminiApiClient;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GeminiProperties();
+        properties.getApi().setKey("test-key");
+        properties.setRetryBackoff(Duration.ofMillis(10));
+        httpClient = mock(HttpClient.class);
+        geminiApiClient = client();
+    }
+
+    @Test
+    void summarizeAsync_실패한_호출은_타이머로_다시_보내_결과를_받는다() {
+        final CompletableFuture<HttpResponse<Object>> unavailable = response(503, "{}");
+        final CompletableFuture<HttpResponse<Object>> ok = response(200, SUMMARY_BODY);
+        when(httpClient.sendAsync(any(), any())).thenReturn(unavailable).thenReturn(ok);
+
+        final CompletableFuture<SummaryResult> result = geminiApiClient.summarizeAsync("제목", "본문",
+            GeminiPriority.INTERACTIVE);
+
+        assertThat(result.join().summary()).containsExactly("요약1", "요약2");
+        verify(httpClient, times(2)).sendAsync(any(), any());
+    }
+
+    @Test
+    void summarizeAsync_재시도를_모두_실패하면_GeminiApiException으로_완료된다() {
+        when(httpClient.sendAsync(any(), any())).thenAnswer(invocation -> response(500, "{}"));
+
+        assertThatThrownBy(() -> geminiApiClient.summarizeAsync("제목", "본문", GeminiPriority.INTERACTIVE).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(GeminiApiException.class);
+        verify(httpClient, times(3)).sendAsync(any(), any());
+    }
+
+    @Test
+    void summarizeAsync_요청_오류는_재시도하지_않는다() {
+        when(httpClient.sendAsync(any(), any())).thenAnswer(invocation -> response(400, "{}"));
+
+        assertThatThrownBy(() -> geminiApiClient.summarizeAsync("제목", "본문", GeminiPriority.INTERACTIVE).join())
+            .hasCauseInstanceOf(GeminiApiException.class);
+        verify(httpClient, times(1)).sendAsync(any(), any());
+    }
+
+    @Test
+    void summarizeAsync_Retry_After가_허용치보다_길면_재시도하지_않는다() {
+        when(httpClient.sendAsync(any(), any())).thenAnswer(invocation -> response(429, "{}", "120"));
+
+        assertThatThrownBy(() -> geminiApiClient.summarizeAsync("제목", "본문", GeminiPriority.INTERACTIVE).join())
+            .hasCauseInstanceOf(GeminiApiException.class);
+        verify(httpClient, times(1)).sendAsync(any(), any());
+    }
+
+    @Test
+    void summarizeAsync_재시도_예산을_다_쓰면_한번만_시도한다() {
+        properties.getRetryBudget().setMaxTokens(1);
+        properties.getRetryBudget().setRatio(0);
+        geminiApiClient = client();
+        when(httpClient.sendAsync(any(), any())).thenAnswer(invocation -> response(503, "{}"));
+
+        assertThatThrownBy(() -> geminiApiClient.summarizeAsync("제목", "본문", GeminiPriority.INTERACTIVE).join())
+            .hasCauseInstanceOf(GeminiApiException.class);
+        assertThatThrownBy(() -> geminiApiClient.summarizeAsync("제목2", "본문", GeminiPriority.INTERACTIVE).join())
+            .hasCauseInstanceOf(GeminiApiException.class);
+
+        // 첫 요청은 예산 하나로 재시도하고 두 번째 요청은 재시도하지 못한다.
+        verify(httpClient, times(3)).sendAsync(any(), any());
+    }
+
+    @Test
+    void summarizeAsync_회로가_열리면_호출하지_않고_바로_실패한다() {
+        properties.getCircuitBreaker().setMinimumCalls(2);
+        properties.setMaxRetries(1);
+        geminiApiClient = client();
+        when(httpClient.sendAsync(any(), any())).thenAnswer(invocation -> response(500, "{}"));
+        for (int i = 0; i < 2; i++) {
+            final String title = "제목" + i;
+            assertThatThrownBy(() -> geminiApiClient.summarizeAsync(title, "본문", GeminiPriority.INTERACTIVE).join())
+                .hasCauseInstanceOf(GeminiApiException.class);
+        }
+
+        assertThatThrownBy(() -> geminiApiClient.summarizeAsync("제목", "본문", GeminiPriority.INTERACTIVE).join())
+            .satisfies(ex -> assertThat(((GeminiApiException) ex.getCause()).getErrorCode())
+                .isEqualTo(ErrorCode.GEMINI_UNAVAILABLE));
+        verify(httpClient, times(2)).sendAsync(any(), any());
+    }
+
+    @Test
+    void summarizeAsync_긴_기사는_조각별로_요약한_뒤_합친다() {
+        properties.getChunking().setSummarySingleCallMaxTokens(10);
+        properties.getChunking().setChunkMaxTokens(10);
+        geminiApiClient = client();
+        when(httpClient.sendAsync(any(), any())).thenAnswer(invocation -> response(200, SUMMARY_BODY));
+        final String content = String.join("\n", "가".repeat(8), "나".repeat(8), "다".repeat(8));
+
+        final SummaryResult result = geminiApiClient.summarizeAsync("제목", content, GeminiPriority.INTERACTIVE).join();
+
+        assertThat(result.summary()).containsExactly("요약1", "요약2");
+        // 조각 3개를 요약하고 한 번 더 합친다.
+        verify(httpClient, times(4)).sendAsync(any(), any());
+    }
+
+    @Test
+    void summarizeAsync_짧은_기사들은_한번의_호출로_묶어_기사별로_나눠_받는다() {
+        properties.getBatching().setMaxBatchSize(2);
+        geminiApiClient = client();
+        final CompletableFuture<HttpResponse<Object>> ok = response(200, """
+            {"candidates":[{"content":{"parts":[{"text":"{\\"summaries\\":[{\\"id\\":1,\\"summary\\":[\\"첫째\\"]},{\\"id\\":2,\\"summary\\":[\\"둘째\\"]}]}"}]}}]}
+            """);
+        when(httpClient.sendAsync(any(), any())).thenReturn(ok);
+
+        final CompletableFuture<SummaryResult> first = geminiApiClient.summarizeAsync("제목1", "본문1",
+            GeminiPriority.BACKGROUND);
+        final CompletableFuture<SummaryResult> second = geminiApiClient.summarizeAsync("제목2", "본문2",
+            GeminiPriority.BACKGROUND);
+
+        assertThat(first.join().summary()).containsExactly("첫째");
+        assertThat(second.join().summary()).containsExactly("둘째");
+        verify(httpClient, times(1)).sendAsync(any(), any());
+    }
+
+    @Test
+    void summarizeAsync_묶음_응답을_해석하지_못하면_기사별로_다시_요청한다() {
+        properties.getBatching().setMaxBatchSize(2);
+        geminiApiClient = client();
+        when(httpClient.sendAsync(any(), any())).thenAnswer(invocation -> response(200, SUMMARY_BODY));
+
+        final CompletableFuture<SummaryResult> first = geminiApiClient.summarizeAsync("제목1", "본문1",
+            GeminiPriority.BACKGROUND);
+        final CompletableFuture<SummaryResult> second = geminiApiClient.summarizeAsync("제목2", "본문2",
+            GeminiPriority.BACKGROUND);
+
+        assertThat(first.join().summary()).containsExactly("요약1", "요약2");
+        assertThat(second.join().summary()).containsExactly("요약1", "요약2");
+        verify(httpClient, times(3)).sendAsync(any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void summarizeAsync_스트리밍으로_요청하면_항목을_도착하는_대로_넘기고_전체_요약으로_완료된다() {
+        final String events = """
+            data: {"candidates":[{"content":{"parts":[{"text":"- 요약1\\n- 요"}],"role":"model"}}]}
+
+            data: {"candidates":[{"content":{"parts":[{"text":"약2"}],"role":"model"},"finishReason":"STOP"}]}
+
+            """;
+        when(httpClient.sendAsync(any(), any())).thenAnswer(invocation -> {
+            final HttpResponse.BodyHandler<Object> handler = invocation.getArgument(1);
+            final HttpResponse.ResponseInfo info = mock(HttpResponse.ResponseInfo.class);
+            when(info.statusCode()).thenReturn(200);
+            final HttpResponse.BodySubscriber<Object> subscriber = handler.apply(info);
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(final long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onNext(List.of(ByteBuffer.wrap(events.getBytes(StandardCharsets.UTF_8))));
+            subscriber.onComplete();
+            return response(200, "");
+        });
+        final List<String> progress = new ArrayList<>();
+
+        final SummaryResult result = geminiApiClient.summarizeAsync("제목", "본문", GeminiPriority.INTERACTIVE,
+            (index, bullet) -> progress.add(index + ":" + bullet)).join();
+
+        assertThat(result.summary()).containsExactly("요약1", "요약2");
+        assertThat(progress).containsExactly("0:요약1", "1:요약2");
+        final ArgumentCaptor<HttpRequest> sent = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(httpClient).sendAsync(sent.capture(), any());
+        assertThat(sent.getValue().uri().toString()).contains(":streamGenerateContent").contains("alt=sse");
+    }
+
+    @Test
+    void parseRetryAfter_초와_HTTP_날짜를_모두_해석한다() {
+        assertThat(GeminiApiClient.parseRetryAfter("7")).isEqualTo(Duration.ofSeconds(7));
+        assertThat(GeminiApiClient.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT")).isEqualTo(Duration.ZERO);
+        assertThat(GeminiApiClient.parseRetryAfter("soon")).isNull();
+    }
+
+    private GeminiApiClient client() {
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        return new GeminiApiClient(properties, new GeminiHttpTransport(properties, () -> httpClient, registry),
+            new ObjectMapper(), new GeminiRequestScheduler(properties, registry),
+            new GeminiCircuitBreaker(properties, registry), registry);
+    }
+
+    private static CompletableFuture<HttpResponse<Object>> response(final int status, final String body) {
+        return response(status, body, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<HttpResponse<Object>> response(final int status, final String body,
+        final String retryAfter) {
+        final HttpResponse<Object> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(status);
+        when(response.body()).thenReturn(body.getBytes(StandardCharsets.UTF_8));
+        when(response.headers()).thenReturn(HttpHeaders.of(
+            retryAfter == null ? Map.of() : Map.of("Retry-After", List.of(retryAfter)), (name, value) -> true));
+        return CompletableFuture.completedFuture(response);
+    }
+}
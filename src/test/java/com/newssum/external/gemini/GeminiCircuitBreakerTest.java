@@ -0,0 +1,73 @@
+package com.newssum.external.gemini;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GeminiCircuitBreakerTest {
+
+    private GeminiProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GeminiProperties();
+        properties.getCircuitBreaker().setSlidingWindowSize(4);
+        properties.getCircuitBreaker().setMinimumCalls(4);
+        properties.getCircuitBreaker().setPermittedCallsInHalfOpenState(1);
+    }
+
+    @Test
+    void onFailure_장애_비율이_한도를_넘으면_회로를_열고_호출을_막는다() {
+        final GeminiCircuitBreaker breaker = breaker();
+
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(GeminiCircuitBreaker.State.CLOSED);
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(GeminiCircuitBreaker.State.OPEN);
+        assertThat(breaker.isCallPermitted()).isFalse();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void tryAcquirePermission_열린_시간이_지나면_시험_호출만_보내고_성공하면_닫는다() {
+        properties.getCircuitBreaker().setOpenDuration(Duration.ZERO);
+        final GeminiCircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure();
+        }
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(GeminiCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void onFailure_시험_호출이_실패하면_다시_연다() {
+        properties.getCircuitBreaker().setOpenDuration(Duration.ZERO);
+        final GeminiCircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure();
+        }
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        properties.getCircuitBreaker().setOpenDuration(Duration.ofMinutes(1));
+
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(GeminiCircuitBreaker.State.OPEN);
+        assertThat(breaker.isCallPermitted()).isFalse();
+    }
+
+    private GeminiCircuitBreaker breaker() {
+        return new GeminiCircuitBreaker(properties, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,130 @@
+package com.newssum.external.gemini;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GeminiHttpTransportTest {
+
+    private final GeminiProperties properties = new GeminiProperties();
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final HttpClient httpClient = mock(HttpClient.class);
+
+    @Test
+    void send_동시_요청_수_한도를_넘으면_앞선_요청이_끝날_때까지_보내지_않는다() {
+        properties.getHttp().setMaxConcurrentRequests(1);
+        final CompletableFuture<HttpResponse<Object>> first = new CompletableFuture<>();
+        final CompletableFuture<HttpResponse<Object>> second = response("{}".getBytes(StandardCharsets.UTF_8), null);
+        when(httpClient.sendAsync(any(), any())).thenReturn(first).thenReturn(second);
+        final GeminiHttpTransport transport = new GeminiHttpTransport(properties, () -> httpClient, registry);
+
+        transport.send(request());
+        final CompletableFuture<GeminiHttpTransport.Response> queued = transport.send(request());
+
+        verify(httpClient, times(1)).sendAsync(any(), any());
+        assertThat(registry.get("gemini.http.pool.pending").gauge().value()).isEqualTo(1.0);
+
+        first.complete(second.join());
+
+        assertThat(queued.join().statusCode()).isEqualTo(200);
+        verify(httpClient, times(2)).sendAsync(any(), any());
+        assertThat(registry.get("gemini.http.pool.active").gauge().value()).isZero();
+        assertThat(registry.get("gemini.http.client.requests").tag("status", "200").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void send_gzip_응답을_요청하고_압축을_풀어_돌려준다() throws IOException {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write("{\"ok\":true}".getBytes(StandardCharsets.UTF_8));
+        }
+        final CompletableFuture<HttpResponse<Object>> gzipped = response(compressed.toByteArray(), "gzip");
+        when(httpClient.sendAsync(any(), any())).thenReturn(gzipped);
+        final GeminiHttpTransport transport = new GeminiHttpTransport(properties, () -> httpClient, registry);
+
+        final GeminiHttpTransport.Response response = transport.send(request()).join();
+
+        assertThat(new String(response.body(), StandardCharsets.UTF_8)).isEqualTo("{\"ok\":true}");
+        final ArgumentCaptor<HttpRequest> sent = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(httpClient).sendAsync(sent.capture(), any());
+        assertThat(sent.getValue().headers().firstValue("Accept-Encoding")).hasValue("gzip");
+    }
+
+    @Test
+    void send_연결_수명이_지나면_클라이언트를_새로_만든다() {
+        properties.getHttp().setConnectionTtl(Duration.ZERO);
+        final CompletableFuture<HttpResponse<Object>> ok = response("{}".getBytes(StandardCharsets.UTF_8), null);
+        when(httpClient.sendAsync(any(), any())).thenReturn(ok);
+        final AtomicInteger created = new AtomicInteger();
+        final GeminiHttpTransport transport = new GeminiHttpTransport(properties, () -> {
+            created.incrementAndGet();
+            return httpClient;
+        }, registry);
+
+        transport.send(request()).join();
+        transport.send(request()).join();
+
+        assertThat(created).hasValue(3);
+        assertThat(registry.get("gemini.http.client.recycled").tag("reason", "ttl").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void send_새로_만들면_이전_클라이언트를_정리하고_종료할_때_현재_클라이언트를_정리한다() {
+        properties.getHttp().setConnectionTtl(Duration.ZERO);
+        final HttpClient first = mock(HttpClient.class);
+        final HttpClient second = mock(HttpClient.class);
+        final CompletableFuture<HttpResponse<Object>> ok = response("{}".getBytes(StandardCharsets.UTF_8), null);
+        when(second.sendAsync(any(), any())).thenReturn(ok);
+        final GeminiHttpTransport transport = new GeminiHttpTransport(properties,
+            new ArrayDeque<>(List.of(first, second))::poll, registry);
+
+        transport.send(request()).join();
+
+        verify(first).shutdown();
+        verify(second, never()).shutdown();
+        transport.shutdown();
+        verify(second).shutdown();
+    }
+
+    private static HttpRequest request() {
+        return HttpRequest.newBuilder(URI.create("https://gemini.test/models/gemini-pro:generateContent"))
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<HttpResponse<Object>> response(final byte[] body, final String encoding) {
+        final HttpResponse<Object> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        when(response.body()).thenReturn(body);
+        when(response.headers()).thenReturn(HttpHeaders.of(
+            encoding == null ? Map.of() : Map.of("Content-Encoding", List.of(encoding)), (name, value) -> true));
+        return CompletableFuture.completedFuture(response);
+    }
+}
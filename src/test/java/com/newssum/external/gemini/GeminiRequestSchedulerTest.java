@@ -0,0 +1,107 @@
+package com.newssum.external.gemini;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.newssum.exception.ErrorCode;
+import com.newssum.exception.GeminiApiException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GeminiRequestSchedulerTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void submit_분당_요청_한도를_넘으면_호출하지_않고_대기열에_둔다() {
+        final GeminiRequestScheduler scheduler = scheduler(1, 1_000);
+        final List<String> started = new CopyOnWriteArrayList<>();
+
+        scheduler.submit(GeminiPriority.INTERACTIVE, 10, record(started, "first"));
+        scheduler.submit(GeminiPriority.INTERACTIVE, 10, record(started, "second"));
+
+        assertThat(started).containsExactly("first");
+        assertThat(registry.get("gemini.scheduler.queue.depth").tag("priority", "interactive").gauge().value())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void submit_한도가_다시_차면_대화형_요청을_백그라운드_요청보다_먼저_보낸다() {
+        final GeminiRequestScheduler scheduler = scheduler(120, 1_000_000);
+        for (int i = 0; i < 120; i++) {
+            scheduler.submit(GeminiPriority.INTERACTIVE, 1, CompletableFuture::new);
+        }
+        final List<String> started = new CopyOnWriteArrayList<>();
+
+        final CompletableFuture<String> background = scheduler.submit(GeminiPriority.BACKGROUND, 1,
+            record(started, "background"));
+        final CompletableFuture<String> interactive = scheduler.submit(GeminiPriority.INTERACTIVE, 1,
+            record(started, "interactive"));
+
+        CompletableFuture.allOf(background, interactive).orTimeout(5, TimeUnit.SECONDS).join();
+        assertThat(started).containsExactly("interactive", "background");
+        assertThat(registry.get("gemini.scheduler.wait").tag("priority", "background").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void submit_대기열이_가득_차면_바로_실패한다() {
+        final GeminiProperties properties = new GeminiProperties();
+        properties.getRateLimit().setRequestsPerMinute(1);
+        properties.getRateLimit().setMaxQueued(1);
+        final GeminiRequestScheduler scheduler = new GeminiRequestScheduler(properties, registry);
+        scheduler.submit(GeminiPriority.INTERACTIVE, 1, CompletableFuture::new);
+        scheduler.submit(GeminiPriority.INTERACTIVE, 1, CompletableFuture::new);
+
+        assertThatThrownBy(() -> scheduler.submit(GeminiPriority.BACKGROUND, 1, CompletableFuture::new).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(GeminiApiException.class)
+            .satisfies(ex -> assertThat(((GeminiApiException) ex.getCause()).getErrorCode())
+                .isEqualTo(ErrorCode.GEMINI_BUSY));
+    }
+
+    @Test
+    void shutdown_대기열에_남은_호출은_보내지_않고_실패시킨다() {
+        final GeminiRequestScheduler scheduler = scheduler(1, 1_000);
+        final List<String> started = new CopyOnWriteArrayList<>();
+        scheduler.submit(GeminiPriority.INTERACTIVE, 10, record(started, "first"));
+        final CompletableFuture<String> waiting = scheduler.submit(GeminiPriority.BACKGROUND, 10,
+            record(started, "waiting"));
+
+        scheduler.shutdown();
+
+        assertThat(started).containsExactly("first");
+        assertThat(scheduler.depth(GeminiPriority.BACKGROUND)).isZero();
+        assertThatThrownBy(waiting::join)
+            .hasCauseInstanceOf(GeminiApiException.class)
+            .satisfies(ex -> assertThat(((GeminiApiException) ex.getCause()).getErrorCode())
+                .isEqualTo(ErrorCode.GEMINI_UNAVAILABLE));
+        assertThatThrownBy(() -> scheduler.submit(GeminiPriority.INTERACTIVE, 1, record(started, "late")).join())
+            .hasCauseInstanceOf(GeminiApiException.class);
+        assertThat(started).containsExactly("first");
+    }
+
+    private GeminiRequestScheduler scheduler(final long requestsPerMinute, final long tokensPerMinute) {
+        final GeminiProperties properties = new GeminiProperties();
+        properties.getRateLimit().setRequestsPerMinute(requestsPerMinute);
+        properties.getRateLimit().setTokensPerMinute(tokensPerMinute);
+        return new GeminiRequestScheduler(properties, registry);
+    }
+
+    private static Supplier<CompletableFuture<String>> record(final List<String> started, final String name) {
+        return () -> {
+            started.add(name);
+            return CompletableFuture.completedFuture(name);
+        };
+    }
+}
@@ -0,0 +1,186 @@
+package com.newssum.external.gemini;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.newssum.domain.GeminiCacheEntry;
+import com.newssum.external.gemini.GeminiApiClient.SummaryResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class GeminiResultCacheTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GeminiResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new GeminiResultCache(mongoTemplate, 100, meterRegistry, Runnable::run);
+    }
+
+    @Test
+    void get_MongoDB에만_있는_결과는_로컬로_올리고_다음부터는_로컬에서_찾는다() {
+        final SummaryResult summary = new SummaryResult(List.of("요약"));
+        when(mongoTemplate.findById("summarize:abc", GeminiCacheEntry.class))
+            .thenReturn(GeminiCacheEntry.builder().id("summarize:abc").value(summary).build());
+
+        assertThat(cache.get("summarize:abc", SummaryResult.class)).isEqualTo(summary);
+        assertThat(cache.get("summarize:abc", SummaryResult.class)).isEqualTo(summary);
+
+        verify(mongoTemplate, times(1)).findById("summarize:abc", GeminiCacheEntry.class);
+        assertThat(requests("mongo", "hit")).isEqualTo(1);
+        assertThat(requests("local", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    void get_MongoDB_조회가_실패하면_미스로_보고_값을_새로_구한다() {
+        when(mongoTemplate.findById(eq("translate:abc"), eq(GeminiCacheEntry.class)))
+            .thenThrow(new DataAccessResourceFailureException("down"));
+        when(mongoTemplate.save(any(GeminiCacheEntry.class)))
+            .thenThrow(new DataAccessResourceFailureException("down"));
+
+        final SummaryResult loaded = cache.get("translate:abc", () -> new SummaryResult(List.of("새 요약")));
+
+        assertThat(loaded.summary()).containsExactly("새 요약");
+        assertThat(requests("all", "miss")).isEqualTo(1);
+        assertThat(cache.get("translate:abc", SummaryResult.class)).isEqualTo(loaded);
+    }
+
+    @Test
+    void retrieve_결과를_먼저_돌려주고_MongoDB_쓰기는_별도_실행기에서_한다() {
+        final List<Runnable> writes = new ArrayList<>();
+        final GeminiResultCache deferred = new GeminiResultCache(mongoTemplate, 100, meterRegistry, writes::add);
+        final SummaryResult summary = new SummaryResult(List.of("요약"));
+
+        final CompletableFuture<SummaryResult> loaded = deferred.retrieve("summarize:def",
+            () -> CompletableFuture.completedFuture(summary));
+
+        assertThat(loaded).isCompletedWithValue(summary);
+        assertThat(deferred.get("summarize:def", SummaryResult.class)).isEqualTo(summary);
+        verify(mongoTemplate, never()).save(any(GeminiCacheEntry.class));
+        assertThat(writes).hasSize(1);
+
+        writes.forEach(Runnable::run);
+
+        verify(mongoTemplate).save(any(GeminiCacheEntry.class));
+    }
+
+    @Test
+    void key_입력이나_모델이_다르면_다른_키가_된다() {
+        final GeminiProperties properties = new GeminiProperties();
+        final GeminiCacheKeyGenerator generator = new GeminiCacheKeyGenerator(properties);
+
+        final Object key = generator.key("summarize", "제목", "본문");
+
+        assertThat(generator.key("summarize", "제목", "본문")).isEqualTo(key);
+        assertThat(generator.key("translate", "제목", "본문")).isNotEqualTo(key);
+        assertThat(generator.key("summarize", "제목본", "문")).isNotEqualTo(key);
+        properties.setModel("gemini-1.5-flash");
+        assertThat(generator.key("summarize", "제목", "본문")).isNotEqualTo(key);
+    }
+
+    @Test
+    void key_출력_모양을_바꾸는_설정이_다르면_다른_키가_된다() {
+        final GeminiProperties properties = new GeminiProperties();
+        final GeminiCacheKeyGenerator generator = new GeminiCacheKeyGenerator(properties);
+        final Object key = generator.key("translate", "제목", "본문");
+
+        properties.setMaxOutputTokens(2_000);
+        final Object longerOutput = generator.key("translate", "제목", "본문");
+        properties.getChunking().setTranslationMaxTokens(1_600);
+        final Object longerTranslation = generator.key("translate", "제목", "본문");
+        properties.getBatching().setEnabled(false);
+
+        assertThat(longerOutput).isNotEqualTo(key);
+        assertThat(longerTranslation).isNotEqualTo(longerOutput);
+        assertThat(generator.key("translate", "제목", "본문")).isNotEqualTo(longerTranslation);
+    }
+
+    @Test
+    void cacheable_CompletableFuture_를_반환하는_메서드도_완료된_결과를_캐시에서_돌려준다() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.registerBean(MongoTemplate.class, () -> mongoTemplate);
+            context.registerBean(GeminiProperties.class);
+            context.register(CachingConfig.class);
+            context.refresh();
+            final CountingSummarizer summarizer = context.getBean(CountingSummarizer.class);
+
+            final SummaryResult first = summarizer.summarizeAsync("제목", "본문", GeminiPriority.BACKGROUND).join();
+            final SummaryResult second = summarizer.summarizeAsync("제목", "본문", GeminiPriority.INTERACTIVE).join();
+            summarizer.summarizeAsync("제목", "다른 본문", GeminiPriority.BACKGROUND).join();
+
+            assertThat(second).isEqualTo(first);
+            assertThat(summarizer.calls()).isEqualTo(2);
+            verify(mongoTemplate, times(2)).save(any(GeminiCacheEntry.class));
+        }
+    }
+
+    @Configuration
+    @EnableCaching
+    @Import({GeminiCacheKeyGenerator.class, CountingSummarizer.class})
+    static class CachingConfig {
+
+        @Bean
+        GeminiResultCache geminiResultCache(final MongoTemplate mongoTemplate) {
+            return new GeminiResultCache(mongoTemplate, 100, new SimpleMeterRegistry(), Runnable::run);
+        }
+
+        @Bean
+        CacheManager cacheManager(final GeminiResultCache geminiResultCache) {
+            final SimpleCacheManager cacheManager = new SimpleCacheManager();
+            cacheManager.setCaches(List.of(geminiResultCache));
+            return cacheManager;
+        }
+    }
+
+    static class CountingSummarizer {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Cacheable(cacheNames = GeminiResultCache.NAME, keyGenerator = GeminiCacheKeyGenerator.BEAN_NAME)
+        public CompletableFuture<SummaryResult> summarizeAsync(final String title, final String content,
+            final GeminiPriority priority) {
+            final int call = calls.incrementAndGet();
+            return CompletableFuture.supplyAsync(() -> new SummaryResult(List.of("요약 " + call)));
+        }
+
+        public int calls() {
+            return calls.get();
+        }
+    }
+
+    private double requests(final String tier, final String result) {
+        return meterRegistry.get("gemini.cache.requests").tag("tier", tier).tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,81 @@
+package com.newssum.external.gemini;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.newssum.external.gemini.GeminiApiClient.SummaryResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SummaryBatcherTest {
+
+    private final GeminiProperties.Batching config = new GeminiProperties().getBatching();
+    private final List<List<String>> flushed = new CopyOnWriteArrayList<>();
+
+    @Test
+    void submit_최대_기사_수에_닿으면_linger_시간을_기다리지_않고_보낸다() {
+        config.setMaxBatchSize(2);
+        config.setLinger(Duration.ofMinutes(1));
+        final SummaryBatcher batcher = batcher();
+
+        final CompletableFuture<SummaryResult> first = batcher.submit(GeminiPriority.INTERACTIVE, "제목1", "본문1");
+        final CompletableFuture<SummaryResult> second = batcher.submit(GeminiPriority.INTERACTIVE, "제목2", "본문2");
+
+        assertThat(flushed).containsExactly(List.of("제목1", "제목2"));
+        assertThat(first.join().summary()).containsExactly("제목1");
+        assertThat(second.join().summary()).containsExactly("제목2");
+    }
+
+    @Test
+    void submit_토큰_합이_한도를_넘으면_먼저_모인_기사들을_보내고_새_묶음을_연다() {
+        config.setMaxBatchTokens(10);
+        config.setLinger(Duration.ofMinutes(1));
+        final SummaryBatcher batcher = batcher();
+
+        batcher.submit(GeminiPriority.BACKGROUND, "가", "나".repeat(5));
+        batcher.submit(GeminiPriority.BACKGROUND, "다", "라".repeat(5));
+
+        assertThat(flushed).containsExactly(List.of("가"));
+    }
+
+    @Test
+    void submit_한도에_닿지_않으면_linger_시간이_지난_뒤_우선순위별로_보낸다() {
+        config.setLinger(Duration.ofMillis(20));
+        final SummaryBatcher batcher = batcher();
+
+        final CompletableFuture<SummaryResult> interactive = batcher.submit(GeminiPriority.INTERACTIVE, "대화형", "본문");
+        final CompletableFuture<SummaryResult> background = batcher.submit(GeminiPriority.BACKGROUND, "백그라운드", "본문");
+
+        CompletableFuture.allOf(interactive, background).orTimeout(5, TimeUnit.SECONDS).join();
+        assertThat(flushed).containsExactlyInAnyOrder(List.of("대화형"), List.of("백그라운드"));
+    }
+
+    @Test
+    void submit_묶음_처리_중_예외가_나면_기다리는_기사들을_실패시킨다() {
+        config.setMaxBatchSize(1);
+        final SummaryBatcher batcher = new SummaryBatcher(config, (priority, items) -> {
+            throw new IllegalStateException("boom");
+        }, new SimpleMeterRegistry());
+
+        assertThatThrownBy(() -> batcher.submit(GeminiPriority.INTERACTIVE, "제목", "본문").join())
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * 묶인 기사의 제목을 기록하고, 각 기사를 제목 하나짜리 요약으로 완료하는 배처를 만든다.
+     */
+    private SummaryBatcher batcher() {
+        return new SummaryBatcher(config, (priority, items) -> {
+            flushed.add(items.stream().map(SummaryBatcher.Item::title).toList());
+            items.forEach(item -> item.result().complete(new SummaryResult(List.of(item.title()))));
+        }, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,56 @@
+package com.newssum.external.gemini;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newssum.exception.GeminiApiException;
+
+class SummaryStreamParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> progress = new ArrayList<>();
+    private final SummaryStreamParser parser = new SummaryStreamParser(objectMapper,
+        (index, bullet) -> progress.add(index + ":" + bullet));
+
+    @Test
+    void accept_줄바꿈이_도착할_때마다_완성된_항목을_넘기고_마지막_줄은_끝난_뒤_넘긴다() {
+        parser.accept(data("- 첫째 "));
+        assertThat(progress).isEmpty();
+
+        parser.accept(data("항목\\n- 둘"));
+        assertThat(progress).containsExactly("0:첫째 항목");
+
+        parser.accept("");
+        parser.accept(data("째 항목"));
+
+        assertThat(parser.finish().summary()).containsExactly("첫째 항목", "둘째 항목");
+        assertThat(progress).containsExactly("0:첫째 항목", "1:둘째 항목");
+    }
+
+    @Test
+    void accept_해석할_수_없는_조각과_data가_아닌_줄은_무시한다() {
+        parser.accept("event: message");
+        parser.accept("data: {broken");
+        parser.accept("data: {\"candidates\":[{\"finishReason\":\"STOP\"}]}");
+        parser.accept(data("• 요약"));
+
+        assertThat(parser.finish().summary()).containsExactly("요약");
+    }
+
+    @Test
+    void finish_항목이_하나도_없으면_GeminiApiException을_던진다() {
+        parser.accept(data("\\n\\n"));
+
+        assertThatThrownBy(parser::finish).isInstanceOf(GeminiApiException.class);
+    }
+
+    private static String data(final String text) {
+        return "data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + text + "\"}]}}]}";
+    }
+}
@@ -0,0 +1,58 @@
+package com.newssum.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.client.result.UpdateResult;
+import com.newssum.domain.CrawlJob;
+
+class CrawlJobRepositoryImplTest {
+
+    private MongoTemplate mongoTemplate;
+    private CrawlJobRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        repository = new CrawlJobRepositoryImpl(mongoTemplate);
+    }
+
+    @Test
+    void markCompleted_맡은_인스턴스의_미완료_작업만_완료로_바꾼다() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(CrawlJob.class)))
+            .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        assertThat(repository.markCompleted("job-1", "owner-a", 2, 1)).isTrue();
+
+        final ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateFirst(query.capture(), any(Update.class), eq(CrawlJob.class));
+        assertThat(query.getValue().getQueryObject())
+            .containsEntry("id", "job-1")
+            .containsEntry("owner", "owner-a")
+            .containsEntry("status", new Document("$in", List.of(CrawlJob.Status.QUEUED, CrawlJob.Status.RUNNING)));
+    }
+
+    @Test
+    void markCompleted_기록이_끊겨_실패로_바뀐_작업이면_바꾸지_않는다() {
+        // 실패로 바뀐 작업은 상태 조건에 맞지 않아 아무 문서도 바뀌지 않는다.
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(CrawlJob.class)))
+            .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        assertThat(repository.markCompleted("job-1", "owner-a", 2, 1)).isFalse();
+        assertThat(repository.markFailed("job-1", "owner-a", "INTERNAL_ERROR", "오류")).isFalse();
+    }
+}
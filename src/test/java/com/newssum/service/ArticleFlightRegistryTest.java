@@ -0,0 +1,57 @@
+package com.newssum.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.newssum.dto.news.CrawledArticleResponse;
+
+class ArticleFlightRegistryTest {
+
+    private final ArticleFlightRegistry registry = new ArticleFlightRegistry();
+
+    @Test
+    void join_처음_참여하면_leader_이고_이후_참여자는_결과를_나눠받는다() {
+        final ArticleFlightRegistry.Ticket leader = registry.join("a");
+        final ArticleFlightRegistry.Ticket follower = registry.join("a");
+        final CrawledArticleResponse response = CrawledArticleResponse.builder().id("news-1").build();
+
+        registry.complete(leader.flight(), response, null);
+
+        assertThat(leader.leader()).isTrue();
+        assertThat(follower.leader()).isFalse();
+        assertThat(follower.flight().result().join()).contains(response);
+        assertThat(registry.size()).isZero();
+        assertThat(registry.join("a").leader()).isTrue();
+    }
+
+    @Test
+    void alias_처리_단계의_flight_만_합류시키고_해제하면_별칭도_지운다() {
+        final ArticleFlightRegistry.Flight first = registry.join("a").flight();
+        final ArticleFlightRegistry.Flight second = registry.join("b").flight();
+
+        assertThat(registry.alias(second, "a")).isEmpty();
+        registry.markProcessing(first);
+        assertThat(registry.alias(second, "a")).contains(first);
+        assertThat(registry.alias(first, "c")).isEmpty();
+
+        registry.complete(first, null, null);
+        registry.complete(second, null, null);
+
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    void alias_이미_해제된_flight_의_별칭은_남기지_않는다() {
+        final ArticleFlightRegistry.Flight flight = registry.join("a").flight();
+        registry.complete(flight, null, null);
+
+        assertThat(registry.alias(flight, "b")).isEmpty();
+
+        assertThat(registry.size()).isZero();
+        assertThat(registry.join("b").leader()).isTrue();
+        assertThat(flight.result().join()).isEqualTo(Optional.empty());
+    }
+}
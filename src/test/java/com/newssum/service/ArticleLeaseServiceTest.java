@@ -0,0 +1,80 @@
+package com.newssum.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.client.result.UpdateResult;
+import com.newssum.domain.ArticleLease;
+
+class ArticleLeaseServiceTest {
+
+    private MongoTemplate mongoTemplate;
+    private ArticleLeaseService leaseService;
+
+    @BeforeEach
+    void setUp() {
+        final NewsProperties properties = new NewsProperties();
+        properties.getSingleFlight().setLeaseEnabled(true);
+        properties.getSingleFlight().setLeaseDuration(Duration.ofMillis(30));
+        properties.getSingleFlight().setLeasePollInterval(Duration.ofMillis(10));
+        mongoTemplate = mock(MongoTemplate.class);
+        leaseService = new ArticleLeaseService(mongoTemplate, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        leaseService.shutdown();
+    }
+
+    @Test
+    void tryAcquire_얻은_임대는_반납할_때까지_연장한다() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(ArticleLease.class)))
+            .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        assertThat(leaseService.tryAcquire("hash")).isTrue();
+
+        verify(mongoTemplate, timeout(1000).atLeast(2))
+            .updateFirst(any(Query.class), any(Update.class), eq(ArticleLease.class));
+        leaseService.release("hash");
+        assertThat(leaseService.heldCount()).isZero();
+        verify(mongoTemplate).remove(any(Query.class), eq(ArticleLease.class));
+    }
+
+    @Test
+    void tryAcquire_다른_인스턴스의_유효한_임대가_있으면_실패하고_연장하지_않는다() {
+        when(mongoTemplate.insert(any(ArticleLease.class))).thenThrow(new DuplicateKeyException("dup"));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(ArticleLease.class)))
+            .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        assertThat(leaseService.tryAcquire("hash")).isFalse();
+        assertThat(leaseService.heldCount()).isZero();
+    }
+
+    @Test
+    void awaitRelease_스레드를_잡지_않고_임대가_풀리면_완료된다() throws Exception {
+        when(mongoTemplate.exists(any(Query.class), eq(ArticleLease.class))).thenReturn(true, true, false);
+
+        final CompletableFuture<Void> released = leaseService.awaitRelease("hash");
+
+        released.get(1, TimeUnit.SECONDS);
+        verify(mongoTemplate, atLeastOnce()).exists(any(Query.class), eq(ArticleLease.class));
+    }
+}
@@ -0,0 +1,230 @@
+package com.newssum.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.newssum.crawler.BoundedCrawlExecutor;
+import com.newssum.domain.CrawlJob;
+import com.newssum.dto.news.CrawlJobResponse;
+import com.newssum.dto.news.CrawlNewsRequest;
+import com.newssum.dto.news.CrawlNewsResponse;
+import com.newssum.dto.news.CrawledArticleResponse;
+import com.newssum.exception.BusinessException;
+import com.newssum.exception.CrawlingException;
+import com.newssum.exception.ErrorCode;
+import com.newssum.external.gemini.GeminiPriority;
+import com.newssum.repository.CrawlJobRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CrawlJobServiceTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    @Mock
+    private NewsCrawlingService newsCrawlingService;
+
+    @Mock
+    private CrawlJobRepository crawlJobRepository;
+
+    private CrawlJobService crawlJobService;
+
+    private CrawlNewsRequest request;
+
+    @BeforeEach
+    void setUp() {
+        crawlJobService = new CrawlJobService(newsCrawlingService, crawlJobRepository,
+            new BoundedCrawlExecutor("test", Runnable::run, 1, 10), new NewsProperties());
+        request = CrawlNewsRequest.builder()
+            .sourceUrl("https://example.com")
+            .articleCount(2)
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        crawlJobService.shutdown();
+    }
+
+    @Test
+    void submit_작업을_저장하고_진행상황과_완료를_기록한다() {
+        when(crawlJobRepository.markRunning(eq("job-1"), anyString())).thenReturn(true);
+        when(crawlJobRepository.save(any(CrawlJob.class))).thenAnswer(invocation -> {
+            final CrawlJob job = invocation.getArgument(0);
+            assertThat(job.getStatus()).isEqualTo(CrawlJob.Status.QUEUED);
+            assertThat(job.getOwner()).isNotBlank();
+            assertThat(job.getHeartbeatAt()).isNotNull();
+            return CrawlJob.builder()
+                .id("job-1")
+                .requestedBy(job.getRequestedBy())
+                .sourceUrl(job.getSourceUrl())
+                .requestedCount(job.getRequestedCount())
+                .build();
+        });
+        final CrawledArticleResponse article = CrawledArticleResponse.builder()
+            .id("news-1")
+            .url("https://example.com/article-1")
+            .newlyCreated(true)
+            .build();
+        when(newsCrawlingService.crawlNews(eq(request), eq(EMAIL), any(CrawlProgressListener.class),
+            eq(GeminiPriority.BACKGROUND)))
+            .thenAnswer(invocation -> {
+                final CrawlProgressListener listener = invocation.getArgument(2);
+                listener.onStarted(2);
+                listener.onArticleSkipped();
+                listener.onArticleProcessed();
+                listener.onArticleCompleted(article);
+                return CrawlNewsResponse.builder()
+                    .requestedCount(2)
+                    .processedCount(1)
+                    .skippedCount(1)
+                    .articles(List.of(article))
+                    .build();
+            });
+
+        final CrawlJobResponse response = crawlJobService.submit(request, EMAIL);
+
+        assertThat(response.getJobId()).isEqualTo("job-1");
+        assertThat(response.getRequestedCount()).isEqualTo(2);
+        final ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        verify(crawlJobRepository).markRunning(eq("job-1"), owner.capture());
+        verify(crawlJobRepository).updateTotalCount("job-1", 2);
+        verify(crawlJobRepository).incrementSkipped("job-1");
+        verify(crawlJobRepository).incrementSummarized("job-1");
+        final ArgumentCaptor<CrawlJob.Article> captor = ArgumentCaptor.forClass(CrawlJob.Article.class);
+        verify(crawlJobRepository).appendArticle(eq("job-1"), captor.capture());
+        assertThat(captor.getValue().getArticleId()).isEqualTo("news-1");
+        assertThat(captor.getValue().isNewlyCreated()).isTrue();
+        verify(crawlJobRepository).markCompleted("job-1", owner.getValue(), 1, 1);
+        crawlJobService.heartbeat();
+        verify(crawlJobRepository, never()).heartbeat(anyString(), anyCollection());
+    }
+
+    @Test
+    void heartbeat_실행을_기다리거나_실행_중인_작업의_기록을_갱신한다() {
+        crawlJobService.shutdown();
+        crawlJobService = new CrawlJobService(newsCrawlingService, crawlJobRepository,
+            new BoundedCrawlExecutor("test", task -> { }, 1, 10), new NewsProperties());
+        when(crawlJobRepository.save(any(CrawlJob.class))).thenReturn(CrawlJob.builder().id("job-4").build());
+
+        crawlJobService.submit(request, EMAIL);
+        crawlJobService.heartbeat();
+
+        verify(crawlJobRepository).heartbeat(anyString(), eq(List.of("job-4")));
+    }
+
+    @Test
+    void getJob_기록이_끊긴_미완료_작업은_실패로_바꿔_돌려준다() {
+        final CrawlJob running = CrawlJob.builder()
+            .id("job-5")
+            .status(CrawlJob.Status.RUNNING)
+            .heartbeatAt(LocalDateTime.now().minusHours(1))
+            .build();
+        final CrawlJob failed = CrawlJob.builder()
+            .id("job-5")
+            .status(CrawlJob.Status.FAILED)
+            .errorCode(ErrorCode.CRAWL_JOB_ABANDONED.name())
+            .build();
+        when(crawlJobRepository.findByIdAndRequestedBy("job-5", EMAIL))
+            .thenReturn(Optional.of(running))
+            .thenReturn(Optional.of(failed));
+
+        final CrawlJobResponse response = crawlJobService.getJob("job-5", EMAIL);
+
+        assertThat(response.getStatus()).isEqualTo("FAILED");
+        assertThat(response.getErrorCode()).isEqualTo(ErrorCode.CRAWL_JOB_ABANDONED.name());
+        verify(crawlJobRepository).markAbandoned(eq("job-5"), any(LocalDateTime.class),
+            eq(ErrorCode.CRAWL_JOB_ABANDONED.name()), anyString());
+    }
+
+    @Test
+    void getJob_기록이_최근인_작업은_그대로_돌려준다() {
+        when(crawlJobRepository.findByIdAndRequestedBy("job-6", EMAIL)).thenReturn(Optional.of(CrawlJob.builder()
+            .id("job-6")
+            .status(CrawlJob.Status.RUNNING)
+            .heartbeatAt(LocalDateTime.now())
+            .build()));
+
+        assertThat(crawlJobService.getJob("job-6", EMAIL).getStatus()).isEqualTo("RUNNING");
+        verify(crawlJobRepository, never()).markAbandoned(anyString(), any(LocalDateTime.class), anyString(),
+            anyString());
+    }
+
+    @Test
+    void failAbandonedJobs_기동할_때_기록이_끊긴_작업을_실패로_바꾼다() {
+        when(crawlJobRepository.markAbandoned(any(LocalDateTime.class), eq(ErrorCode.CRAWL_JOB_ABANDONED.name()),
+            anyString())).thenReturn(2L);
+
+        crawlJobService.failAbandonedJobs();
+
+        verify(crawlJobRepository).markAbandoned(any(LocalDateTime.class), eq(ErrorCode.CRAWL_JOB_ABANDONED.name()),
+            anyString());
+    }
+
+    @Test
+    void run_크롤링이_실패하면_오류코드와_함께_실패로_기록한다() {
+        when(crawlJobRepository.markRunning(eq("job-2"), anyString())).thenReturn(true);
+        when(newsCrawlingService.crawlNews(eq(request), eq(EMAIL), any(CrawlProgressListener.class),
+            eq(GeminiPriority.BACKGROUND)))
+            .thenThrow(new CrawlingException(ErrorCode.CRAWLING_NO_ARTICLE));
+
+        crawlJobService.run("job-2", request, EMAIL);
+
+        verify(crawlJobRepository).markFailed(eq("job-2"), anyString(), eq(ErrorCode.CRAWLING_NO_ARTICLE.name()),
+            eq(ErrorCode.CRAWLING_NO_ARTICLE.getMessage()));
+        verify(crawlJobRepository, never()).markCompleted(eq("job-2"), anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void run_실행_전에_실패로_바뀐_작업은_크롤링하지_않는다() {
+        when(crawlJobRepository.markRunning(eq("job-7"), anyString())).thenReturn(false);
+
+        crawlJobService.run("job-7", request, EMAIL);
+
+        verify(newsCrawlingService, never()).crawlNews(any(), anyString(), any(), any());
+        verify(crawlJobRepository, never()).markCompleted(anyString(), anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void run_실행_중에_실패로_바뀐_작업은_완료로_되돌리지_않는다() {
+        when(crawlJobRepository.markRunning(eq("job-8"), anyString())).thenReturn(true);
+        when(newsCrawlingService.crawlNews(eq(request), eq(EMAIL), any(CrawlProgressListener.class),
+            eq(GeminiPriority.BACKGROUND)))
+            .thenReturn(CrawlNewsResponse.builder().processedCount(1).articles(List.of()).build());
+        when(crawlJobRepository.markCompleted(eq("job-8"), anyString(), eq(1), eq(0))).thenReturn(false);
+
+        crawlJobService.run("job-8", request, EMAIL);
+
+        verify(crawlJobRepository).markCompleted(eq("job-8"), anyString(), eq(1), eq(0));
+        verify(crawlJobRepository, never()).markFailed(anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void getJob_다른_사용자의_작업이면_예외를_던진다() {
+        when(crawlJobRepository.findByIdAndRequestedBy("job-3", EMAIL)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> crawlJobService.getJob("job-3", EMAIL))
+            .isInstanceOf(BusinessException.class)
+            .extracting(ex -> ((BusinessException) ex).getErrorCode())
+            .isEqualTo(ErrorCode.CRAWL_JOB_NOT_FOUND);
+    }
+}
@@ -0,0 +1,30 @@
+package com.newssum.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class KoreanNgramTokenizerTest {
+
+    @Test
+    void tokenize_한글은_두_글자씩_겹쳐_자르고_라틴_문자는_단어로_자른다() {
+        assertThat(KoreanNgramTokenizer.tokenize("OpenAI의 인공지능, GPT-5 공개"))
+            .containsExactly("openai", "의", "인공", "공지", "지능", "gpt", "5", "공개");
+    }
+
+    @Test
+    void tokenize_전각_문자를_정규화하고_한_글자_라틴_단어와_기호는_버린다() {
+        assertThat(KoreanNgramTokenizer.tokenize("ＡＩ a 뉴스!! ")).containsExactly("ai", "뉴스");
+        assertThat(KoreanNgramTokenizer.tokenize("  ")).isEmpty();
+        assertThat(KoreanNgramTokenizer.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void bm25_드문_용어와_짧은_기사에_높은_점수를_준다() {
+        assertThat(NewsSearchIndex.idf(1000, 5)).isGreaterThan(NewsSearchIndex.idf(1000, 500));
+        assertThat(NewsSearchIndex.termFrequencyScore(3, 50, 100))
+            .isGreaterThan(NewsSearchIndex.termFrequencyScore(3, 300, 100));
+        // 출현 횟수가 늘어도 점수는 K1 + 1 에 수렴한다.
+        assertThat(NewsSearchIndex.termFrequencyScore(1000, 100, 100)).isLessThan(NewsSearchIndex.K1 + 1);
+    }
+}
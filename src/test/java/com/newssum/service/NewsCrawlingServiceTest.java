@@ -3,14 +3,20 @@ package com.newssum.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -19,20 +25,34 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
+import com.mongodb.client.result.UpdateResult;
+import com.newssum.crawler.BoundedCrawlExecutor;
 import com.newssum.crawler.CrawledArticle;
 import com.newssum.crawler.NewsCrawler;
+import com.newssum.crawler.UrlCanonicalizer;
+import com.newssum.domain.ArticleLease;
 import com.newssum.domain.NewsArticle;
 import com.newssum.dto.news.CrawlNewsRequest;
 import com.newssum.dto.news.CrawlNewsResponse;
+import com.newssum.dto.news.CrawledArticleResponse;
 import com.newssum.exception.CrawlingException;
+import com.newssum.exception.ErrorCode;
+import com.newssum.exception.GeminiApiException;
 import com.newssum.external.gemini.GeminiApiClient;
+import com.newssum.external.gemini.GeminiApiClient.ArticleDigest;
 import com.newssum.external.gemini.GeminiApiClient.SummaryResult;
 import com.newssum.external.gemini.GeminiApiClient.TranslationResult;
+import com.newssum.external.gemini.GeminiPriority;
+import com.newssum.external.gemini.SummaryProgressListener;
 import com.newssum.repository.NewsArticleRepository;
+import com.newssum.repository.NewsArticleRepositoryCustom.BulkInsertResult;
 
 @ExtendWith(MockitoExtension.class)
 class NewsCrawlingServiceTest {
@@ -46,13 +66,32 @@ class NewsCrawlingServiceTest {
     @Mock
     private GeminiApiClient geminiApiClient;
 
-    @InjectMocks
+    @Mock
+    private UrlHashBloomFilter urlHashBloomFilter;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private NewsSearchIndex newsSearchIndex;
+
+    @Mock
+    private NewsTrendService newsTrendService;
+
+    private ArticleFlightRegistry flightRegistry;
+
     private NewsCrawlingService newsCrawlingService;
 
     private CrawlNewsRequest request;
 
     @BeforeEach
     void setUp() {
+        final NewsProperties properties = new NewsProperties();
+        flightRegistry = new ArticleFlightRegistry();
+        newsCrawlingService = new NewsCrawlingService(newsCrawler, newsArticleRepository, geminiApiClient,
+            urlHashBloomFilter, new BoundedCrawlExecutor("test", Runnable::run, 4, 100), properties,
+            flightRegistry, new ArticleLeaseService(mongoTemplate, properties), newsSearchIndex,
+            newsTrendService);
         request = CrawlNewsRequest.builder()
             .sourceUrl("https://example.com")
             .articleCount(1)
@@ -71,30 +110,19 @@ class NewsCrawlingServiceTest {
             .build();
 
         when(newsCrawler.extractArticleLinks(request.getSourceUrl(), 1)).thenReturn(List.of(crawledArticle.getUrl()));
-        when(newsCrawler.fetchArticleAsync(crawledArticle.getUrl()))
-            .thenReturn(CompletableFuture.completedFuture(Optional.of(crawledArticle)));
-        when(newsArticleRepository.findByUrlHash(anyString())).thenReturn(Optional.empty());
-        when(geminiApiClient.translate(crawledArticle.getTitle(), crawledArticle.getContent()))
-            .thenReturn(new TranslationResult("번역 제목", "번역 본문"));
-        when(geminiApiClient.summarize("번역 제목", "번역 본문"))
-            .thenReturn(new SummaryResult(List.of("요약1", "요약2")));
-        when(newsArticleRepository.save(any(NewsArticle.class))).thenAnswer(invocation -> {
-            final NewsArticle article = invocation.getArgument(0);
-            return NewsArticle.builder()
-                .id("news-id-1")
-                .url(article.getUrl())
-                .urlHash(article.getUrlHash())
-                .sourceOutlet(article.getSourceOutlet())
-                .originalTitle(article.getOriginalTitle())
-                .originalContent(article.getOriginalContent())
-                .language(article.getLanguage())
-                .translatedTitle(article.getTranslatedTitle())
-                .translatedContent(article.getTranslatedContent())
-                .summary(article.getSummary())
-                .publishedAt(article.getPublishedAt())
-                .crawledBy(article.getCrawledBy())
-                .crawledAt(article.getCrawledAt())
-                .build();
+        when(newsCrawler.fetchArticlesAsync(List.of(crawledArticle.getUrl())))
+            .thenReturn(List.of(CompletableFuture.completedFuture(Optional.of(crawledArticle))));
+        when(geminiApiClient.fitsTranslation(crawledArticle.getContent())).thenReturn(true);
+        when(geminiApiClient.translateAsync(crawledArticle.getTitle(), crawledArticle.getContent(),
+            GeminiPriority.INTERACTIVE))
+            .thenReturn(CompletableFuture.completedFuture(new TranslationResult("번역 제목", "번역 본문")));
+        when(geminiApiClient.summarizeAsync("번역 제목", "번역 본문", GeminiPriority.INTERACTIVE))
+            .thenReturn(CompletableFuture.completedFuture(new SummaryResult(List.of("요약1", "요약2"))));
+        when(newsArticleRepository.insertAllUnordered(anyList())).thenAnswer(invocation -> {
+            final List<NewsArticle> articles = invocation.getArgument(0);
+            return new BulkInsertResult(articles.stream()
+                .map(article -> article.toBuilder().id("news-id-1").build())
+                .toList(), List.of());
         });
 
         final CrawlNewsResponse response = newsCrawlingService.crawlNews(request, "user@example.com");
@@ -104,13 +132,22 @@ class NewsCrawlingServiceTest {
         assertThat(response.getArticles()).hasSize(1);
         assertThat(response.getArticles().getFirst().isNewlyCreated()).isTrue();
         assertThat(response.getArticles().getFirst().getId()).isEqualTo("news-id-1");
-        final ArgumentCaptor<NewsArticle> captor = ArgumentCaptor.forClass(NewsArticle.class);
-        verify(newsArticleRepository).save(captor.capture());
-        assertThat(captor.getValue().getTranslatedTitle()).isEqualTo("번역 제목");
-        assertThat(captor.getValue().getSummary()).containsExactly("요약1", "요약2");
-        verify(geminiApiClient).translate(crawledArticle.getTitle(), crawledArticle.getContent());
-        verify(geminiApiClient).summarize("번역 제목", "번역 본문");
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<NewsArticle>> captor = ArgumentCaptor.forClass(List.class);
+        verify(newsArticleRepository).insertAllUnordered(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        assertThat(captor.getValue().getFirst().getTranslatedTitle()).isEqualTo("번역 제목");
+        assertThat(captor.getValue().getFirst().getSummary()).containsExactly("요약1", "요약2");
+        verify(geminiApiClient).translateAsync(crawledArticle.getTitle(), crawledArticle.getContent(),
+            GeminiPriority.INTERACTIVE);
+        verify(geminiApiClient).fitsTranslation(crawledArticle.getContent());
+        verify(geminiApiClient).isFusedModeEnabled();
+        verify(geminiApiClient).summarizeAsync("번역 제목", "번역 본문", GeminiPriority.INTERACTIVE);
         verifyNoMoreInteractions(geminiApiClient);
+        verify(newsArticleRepository, never()).findByUrlHashIn(anyCollection());
+        verify(urlHashBloomFilter).put(captor.getValue().getFirst().getUrlHash());
+        verify(newsSearchIndex).index(argThat(saved -> saved.size() == 1
+            && "news-id-1".equals(saved.iterator().next().getId())));
     }
 
     @Test
@@ -126,7 +163,7 @@ class NewsCrawlingServiceTest {
         final NewsArticle existing = NewsArticle.builder()
             .id("existing-id")
             .url(crawledArticle.getUrl())
-            .urlHash("hash")
+            .urlHash(UrlCanonicalizer.urlHash(crawledArticle.getUrl()))
             .sourceOutlet(crawledArticle.getSourceOutlet())
             .originalTitle(crawledArticle.getTitle())
             .originalContent(crawledArticle.getContent())
@@ -137,19 +174,59 @@ class NewsCrawlingServiceTest {
             .build();
 
         when(newsCrawler.extractArticleLinks(request.getSourceUrl(), 1)).thenReturn(List.of(crawledArticle.getUrl()));
-        when(newsCrawler.fetchArticleAsync(crawledArticle.getUrl()))
-            .thenReturn(CompletableFuture.completedFuture(Optional.of(crawledArticle)));
-        when(newsArticleRepository.findByUrlHash(anyString())).thenReturn(Optional.of(existing));
+        when(urlHashBloomFilter.mightContain(anyString())).thenReturn(true);
+        when(newsArticleRepository.findByUrlHashIn(anyCollection())).thenReturn(List.of(existing));
+
+        final CrawlNewsResponse response = newsCrawlingService.crawlNews(request, "user@example.com");
+
+        assertThat(response.getProcessedCount()).isZero();
+        assertThat(response.getSkippedCount()).isEqualTo(1);
+        assertThat(response.getArticles()).hasSize(1);
+        assertThat(response.getArticles().getFirst().isNewlyCreated()).isFalse();
+        verify(newsCrawler, never()).fetchArticlesAsync(anyList());
+        verify(newsArticleRepository, never()).insertAllUnordered(anyList());
+        verify(geminiApiClient, never()).translateAsync(anyString(), anyString(), any());
+        verify(geminiApiClient, never()).summarizeAsync(anyString(), anyString(), any());
+    }
+
+    @Test
+    void crawlNews_동시_크롤링으로_중복키가_발생하면_기존_기사로_응답한다() {
+        final CrawledArticle crawledArticle = CrawledArticle.builder()
+            .url("https://example.com/article-4")
+            .sourceOutlet("Example")
+            .title("경쟁 제목")
+            .content("경쟁 본문")
+            .language("ko")
+            .publishedAt(LocalDateTime.now())
+            .build();
+        final NewsArticle winner = NewsArticle.builder()
+            .id("winner-id")
+            .url(crawledArticle.getUrl())
+            .urlHash(UrlCanonicalizer.urlHash(crawledArticle.getUrl()))
+            .sourceOutlet(crawledArticle.getSourceOutlet())
+            .originalTitle(crawledArticle.getTitle())
+            .language(crawledArticle.getLanguage())
+            .crawledBy("other@example.com")
+            .build();
+
+        when(newsCrawler.extractArticleLinks(request.getSourceUrl(), 1)).thenReturn(List.of(crawledArticle.getUrl()));
+        when(newsCrawler.fetchArticlesAsync(List.of(crawledArticle.getUrl())))
+            .thenReturn(List.of(CompletableFuture.completedFuture(Optional.of(crawledArticle))));
+        when(newsArticleRepository.findByUrlHashIn(anyCollection())).thenReturn(List.of(winner));
+        when(geminiApiClient.summarizeAsync("경쟁 제목", "경쟁 본문", GeminiPriority.INTERACTIVE))
+            .thenReturn(CompletableFuture.completedFuture(new SummaryResult(List.of("요약1"))));
+        when(newsArticleRepository.insertAllUnordered(anyList()))
+            .thenAnswer(invocation -> new BulkInsertResult(List.of(), invocation.getArgument(0)));
 
         final CrawlNewsResponse response = newsCrawlingService.crawlNews(request, "user@example.com");
 
         assertThat(response.getProcessedCount()).isZero();
         assertThat(response.getSkippedCount()).isEqualTo(1);
         assertThat(response.getArticles()).hasSize(1);
+        assertThat(response.getArticles().getFirst().getId()).isEqualTo("winner-id");
         assertThat(response.getArticles().getFirst().isNewlyCreated()).isFalse();
-        verify(newsArticleRepository, times(0)).save(any(NewsArticle.class));
-        verify(geminiApiClient, never()).translate(anyString(), anyString());
-        verify(geminiApiClient, never()).summarize(anyString(), anyString());
+        verify(newsArticleRepository, times(1)).findByUrlHashIn(anyCollection());
+        verify(urlHashBloomFilter).put(winner.getUrlHash());
     }
 
     @Test
@@ -172,34 +249,349 @@ class NewsCrawlingServiceTest {
             .build();
 
         when(newsCrawler.extractArticleLinks(request.getSourceUrl(), 1)).thenReturn(List.of(crawledArticle.getUrl()));
-        when(newsCrawler.fetchArticleAsync(crawledArticle.getUrl()))
-            .thenReturn(CompletableFuture.completedFuture(Optional.of(crawledArticle)));
-        when(newsArticleRepository.findByUrlHash(anyString())).thenReturn(Optional.empty());
-        when(geminiApiClient.summarize("한국어 제목", "한국어 본문"))
-            .thenReturn(new SummaryResult(List.of("요약1")));
-        when(newsArticleRepository.save(any(NewsArticle.class))).thenAnswer(invocation -> {
-            final NewsArticle article = invocation.getArgument(0);
-            return NewsArticle.builder()
-                .id("news-id-2")
-                .url(article.getUrl())
-                .urlHash(article.getUrlHash())
-                .sourceOutlet(article.getSourceOutlet())
-                .originalTitle(article.getOriginalTitle())
-                .originalContent(article.getOriginalContent())
-                .language(article.getLanguage())
-                .translatedTitle(article.getTranslatedTitle())
-                .translatedContent(article.getTranslatedContent())
-                .summary(article.getSummary())
-                .publishedAt(article.getPublishedAt())
-                .crawledBy(article.getCrawledBy())
-                .crawledAt(article.getCrawledAt())
-                .build();
+        when(newsCrawler.fetchArticlesAsync(List.of(crawledArticle.getUrl())))
+            .thenReturn(List.of(CompletableFuture.completedFuture(Optional.of(crawledArticle))));
+        when(geminiApiClient.summarizeAsync("한국어 제목", "한국어 본문", GeminiPriority.INTERACTIVE))
+            .thenReturn(CompletableFuture.completedFuture(new SummaryResult(List.of("요약1"))));
+        when(newsArticleRepository.insertAllUnordered(anyList())).thenAnswer(invocation -> {
+            final List<NewsArticle> articles = invocation.getArgument(0);
+            return new BulkInsertResult(articles.stream()
+                .map(article -> article.toBuilder().id("news-id-2").build())
+                .toList(), List.of());
+        });
+
+        final CrawlNewsResponse response = newsCrawlingService.crawlNews(request, "user@example.com");
+
+        assertThat(response.getProcessedCount()).isEqualTo(1);
+        verify(geminiApiClient, never()).translateAsync(anyString(), anyString(), any());
+        verify(geminiApiClient).summarizeAsync("한국어 제목", "한국어 본문", GeminiPriority.INTERACTIVE);
+    }
+
+    @Test
+    void crawlNews_AI_처리가_실패하면_저장하지_않고_예외를_그대로_던진다() {
+        final CrawledArticle crawledArticle = CrawledArticle.builder()
+            .url("https://example.com/article-4")
+            .sourceOutlet("Example")
+            .title("한국어 제목")
+            .content("한국어 본문")
+            .language("ko")
+            .build();
+
+        when(newsCrawler.extractArticleLinks(request.getSourceUrl(), 1)).thenReturn(List.of(crawledArticle.getUrl()));
+        when(newsCrawler.fetchArticlesAsync(List.of(crawledArticle.getUrl())))
+            .thenReturn(List.of(CompletableFuture.completedFuture(Optional.of(crawledArticle))));
+        when(geminiApiClient.summarizeAsync(anyString(), anyString(), any()))
+            .thenReturn(CompletableFuture.failedFuture(new GeminiApiException(ErrorCode.GEMINI_API_FAILURE)));
+
+        assertThatThrownBy(() -> newsCrawlingService.crawlNews(request, "user@example.com"))
+            .isInstanceOf(GeminiApiException.class);
+        verify(newsArticleRepository, never()).insertAllUnordered(anyList());
+    }
+
+    @Test
+    void streamNews_저장된_기사를_요약과_함께_바로_전달하고_목록은_모으지_않는다() {
+        final CrawledArticle crawledArticle = CrawledArticle.builder()
+            .url("https://example.com/article-5")
+            .sourceOutlet("Example")
+            .title("한국어 제목")
+            .content("한국어 본문")
+            .language("ko")
+            .build();
+
+        when(newsCrawler.extractArticleLinks(request.getSourceUrl(), 1)).thenReturn(List.of(crawledArticle.getUrl()));
+        when(newsCrawler.fetchArticlesAsync(List.of(crawledArticle.getUrl())))
+            .thenReturn(List.of(CompletableFuture.completedFuture(Optional.of(crawledArticle))));
+        when(geminiApiClient.summarizeAsync("한국어 제목", "한국어 본문", GeminiPriority.INTERACTIVE))
+            .thenReturn(CompletableFuture.completedFuture(new SummaryResult(List.of("요약1"))));
+        when(newsArticleRepository.insertAllUnordered(anyList())).thenAnswer(invocation -> {
+            final List<NewsArticle> articles = invocation.getArgument(0);
+            return new BulkInsertResult(articles.stream()
+                .map(article -> article.toBuilder().id("news-id-5").build())
+                .toList(), List.of());
+        });
+        final List<CrawledArticleResponse> streamed = new ArrayList<>();
+
+        final CrawlNewsResponse response = newsCrawlingService.streamNews(request, "user@example.com",
+            new CrawlProgressListener() {
+                @Override
+                public void onArticleCompleted(final CrawledArticleResponse article) {
+                    streamed.add(article);
+                }
+            });
+
+        assertThat(response.getProcessedCount()).isEqualTo(1);
+        assertThat(response.getArticles()).isEmpty();
+        assertThat(streamed).singleElement().satisfies(article -> {
+            assertThat(article.getId()).isEqualTo("news-id-5");
+            assertThat(article.getSummary()).containsExactly("요약1");
+            assertThat(article.isNewlyCreated()).isTrue();
+        });
+    }
+
+    @Test
+    void streamNews_요약_항목을_받으려는_리스너에는_생성되는_항목을_먼저_전달한다() {
+        final CrawledArticle crawledArticle = CrawledArticle.builder()
+            .url("https://example.com/article-7")
+            .sourceOutlet("Example")
+            .title("한국어 제목")
+            .content("한국어 본문")
+            .language("ko")
+            .build();
+
+        when(newsCrawler.extractArticleLinks(request.getSourceUrl(), 1)).thenReturn(List.of(crawledArticle.getUrl()));
+        when(newsCrawler.fetchArticlesAsync(List.of(crawledArticle.getUrl())))
+            .thenReturn(List.of(CompletableFuture.completedFuture(Optional.of(crawledArticle))));
+        when(geminiApiClient.summarizeAsync(eq("한국어 제목"), eq("한국어 본문"), eq(GeminiPriority.INTERACTIVE),
+            any(SummaryProgressListener.class))).thenAnswer(invocation -> {
+                final SummaryProgressListener progress = invocation.getArgument(3);
+                progress.onBullet(0, "요약1");
+                return CompletableFuture.completedFuture(new SummaryResult(List.of("요약1")));
+            });
+        when(newsArticleRepository.insertAllUnordered(anyList())).thenAnswer(invocation -> {
+            final List<NewsArticle> articles = invocation.getArgument(0);
+            return new BulkInsertResult(articles.stream()
+                .map(article -> article.toBuilder().id("news-id-7").build())
+                .toList(), List.of());
+        });
+        final List<String> events = new ArrayList<>();
+
+        newsCrawlingService.streamNews(request, "user@example.com", new CrawlProgressListener() {
+            @Override
+            public boolean wantsSummaryProgress() {
+                return true;
+            }
+
+            @Override
+            public void onSummaryProgress(final String url, final int index, final String bullet) {
+                events.add("summary:" + url + ":" + index + ":" + bullet);
+            }
+
+            @Override
+            public void onArticleCompleted(final CrawledArticleResponse article) {
+                events.add("article:" + article.getId());
+            }
+        });
+
+        assertThat(events).containsExactly("summary:https://example.com/article-7:0:요약1", "article:news-id-7");
+    }
+
+    @Test
+    void crawlNews_다른_요청이_처리중인_기사는_내려받지_않고_결과를_나눠받는다() {
+        final String link = "https://example.com/article-6";
+        final ArticleFlightRegistry.Ticket inFlight = flightRegistry.join(UrlCanonicalizer.urlHash(link));
+        inFlight.flight().result().complete(Optional.of(CrawledArticleResponse.builder()
+            .id("news-id-6")
+            .url(link)
+            .summary(List.of("요약"))
+            .newlyCreated(true)
+            .build()));
+        when(newsCrawler.extractArticleLinks(request.getSourceUrl(), 1)).thenReturn(List.of(link));
+
+        final CrawlNewsResponse response = newsCrawlingService.crawlNews(request, "user@example.com");
+
+        assertThat(response.getProcessedCount()).isZero();
+        assertThat(response.getSkippedCount()).isEqualTo(1);
+        assertThat(response.getArticles()).singleElement().satisfies(article -> {
+            assertThat(article.getId()).isEqualTo("news-id-6");
+            assertThat(article.isNewlyCreated()).isFalse();
         });
+        verify(newsCrawler, never()).fetchArticlesAsync(anyList());
+        verifyNoMoreInteractions(geminiApiClient);
+        verify(newsArticleRepository, never()).insertAllUnordered(anyList());
+    }
+
+    @Test
+    void crawlNews_함께_처리하던_요청이_실패하면_요청을_실패시키지_않고_기사를_건너뛴다() {
+        final String link = "https://example.com/article-6";
+        final ArticleFlightRegistry.Ticket inFlight = flightRegistry.join(UrlCanonicalizer.urlHash(link));
+        when(newsCrawler.extractArticleLinks(request.getSourceUrl(), 1)).thenReturn(List.of(link));
+        inFlight.flight().result().completeExceptionally(new CrawlingException(ErrorCode.CRAWLER_BUSY));
+
+        final CrawlNewsResponse response = newsCrawlingService.crawlNews(request, "user@example.com");
+
+        assertThat(response.getSkippedCount()).isEqualTo(1);
+        assertThat(response.getArticles()).isEmpty();
+        verify(newsCrawler, never()).fetchArticlesAsync(anyList());
+    }
+
+    @Test
+    void crawlNews_처리가_끝나면_진행중_등록을_해제한다() {
+        final CrawledArticle crawledArticle = CrawledArticle.builder()
+            .url("https://example.com/article-7")
+            .title("한국어 제목")
+            .content("한국어 본문")
+            .language("ko")
+            .build();
+        when(newsCrawler.extractArticleLinks(request.getSourceUrl(), 1)).thenReturn(List.of(crawledArticle.getUrl()));
+        when(newsCrawler.fetchArticlesAsync(List.of(crawledArticle.getUrl())))
+            .thenReturn(List.of(CompletableFuture.completedFuture(Optional.of(crawledArticle))));
+        when(geminiApiClient.summarizeAsync(anyString(), anyString(), any()))
+            .thenReturn(CompletableFuture.failedFuture(new GeminiApiException(ErrorCode.GEMINI_API_FAILURE)));
+
+        assertThatThrownBy(() -> newsCrawlingService.crawlNews(request, "user@example.com"))
+            .isInstanceOf(GeminiApiException.class);
+        assertThat(flightRegistry.size()).isZero();
+    }
+
+    @Test
+    void crawlNews_통합_모드면_번역과_요약을_한번에_요청한다() {
+        final CrawledArticle crawledArticle = englishArticle("https://example.com/article-8");
+        stubSingleFetch(crawledArticle);
+        when(geminiApiClient.fitsTranslation(crawledArticle.getContent())).thenReturn(true);
+        when(geminiApiClient.isFusedModeEnabled()).thenReturn(true);
+        when(geminiApiClient.translateAndSummarizeAsync(crawledArticle.getTitle(), crawledArticle.getContent(),
+            GeminiPriority.INTERACTIVE))
+            .thenReturn(CompletableFuture.completedFuture(
+                new ArticleDigest("번역 제목", "번역 본문", List.of("요약1", "요약2"))));
+        stubInsertAssigningId("news-id-8");
+
+        final CrawlNewsResponse response = newsCrawlingService.crawlNews(request, "user@example.com");
+
+        assertThat(response.getArticles()).singleElement()
+            .satisfies(article -> assertThat(article.getSummary()).containsExactly("요약1", "요약2"));
+        verify(geminiApiClient, never()).translateAsync(anyString(), anyString(), any());
+        verify(geminiApiClient, never()).summarizeAsync(anyString(), anyString(), any());
+    }
+
+    @Test
+    void crawlNews_통합_응답을_해석하지_못하면_번역과_요약을_나눠_요청한다() {
+        final CrawledArticle crawledArticle = englishArticle("https://example.com/article-9");
+        stubSingleFetch(crawledArticle);
+        when(geminiApiClient.fitsTranslation(crawledArticle.getContent())).thenReturn(true);
+        when(geminiApiClient.isFusedModeEnabled()).thenReturn(true);
+        when(geminiApiClient.translateAndSummarizeAsync(crawledArticle.getTitle(), crawledArticle.getContent(),
+            GeminiPriority.INTERACTIVE))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        when(geminiApiClient.translateAsync(crawledArticle.getTitle(), crawledArticle.getContent(),
+            GeminiPriority.INTERACTIVE))
+            .thenReturn(CompletableFuture.completedFuture(new TranslationResult("번역 제목", "번역 본문")));
+        when(geminiApiClient.summarizeAsync("번역 제목", "번역 본문", GeminiPriority.INTERACTIVE))
+            .thenReturn(CompletableFuture.completedFuture(new SummaryResult(List.of("요약1"))));
+        stubInsertAssigningId("news-id-9");
 
         final CrawlNewsResponse response = newsCrawlingService.crawlNews(request, "user@example.com");
 
         assertThat(response.getProcessedCount()).isEqualTo(1);
-        verify(geminiApiClient, never()).translate(anyString(), anyString());
-        verify(geminiApiClient).summarize("한국어 제목", "한국어 본문");
+        assertThat(response.getArticles().getFirst().getSummary()).containsExactly("요약1");
+    }
+
+    @Test
+    void crawlNews_번역_한도를_넘는_기사는_원문_전체로_요약하고_앞부분만_번역한다() {
+        final CrawledArticle crawledArticle = englishArticle("https://example.com/article-10");
+        stubSingleFetch(crawledArticle);
+        when(geminiApiClient.fitsTranslation(crawledArticle.getContent())).thenReturn(false);
+        when(geminiApiClient.translateAsync(crawledArticle.getTitle(), crawledArticle.getContent(),
+            GeminiPriority.INTERACTIVE))
+            .thenReturn(CompletableFuture.completedFuture(new TranslationResult("번역 제목", "번역 앞부분")));
+        when(geminiApiClient.summarizeAsync(crawledArticle.getTitle(), crawledArticle.getContent(),
+            GeminiPriority.INTERACTIVE))
+            .thenReturn(CompletableFuture.completedFuture(new SummaryResult(List.of("전체 요약"))));
+        stubInsertAssigningId("news-id-10");
+
+        final CrawlNewsResponse response = newsCrawlingService.crawlNews(request, "user@example.com");
+
+        assertThat(response.getArticles().getFirst().getSummary()).containsExactly("전체 요약");
+        verify(geminiApiClient, never()).isFusedModeEnabled();
+        verify(geminiApiClient, never()).translateAndSummarizeAsync(anyString(), anyString(), any());
+    }
+
+    @Test
+    void crawlNews_처리하던_인스턴스가_실패한_뒤_임대를_다시_얻은_대기자만_기사를_처리한다() {
+        final NewsCrawlingService leased = leasedService();
+        final CrawledArticle crawledArticle = CrawledArticle.builder()
+            .url("https://example.com/article-11")
+            .title("한국어 제목")
+            .content("한국어 본문")
+            .language("ko")
+            .build();
+        stubSingleFetch(crawledArticle);
+        // 처리하던 인스턴스가 임대를 갖고 있다가 실패하고 반납해, 두 번째 시도에서 이 대기자가 임대를 얻는다.
+        when(mongoTemplate.insert(any(ArticleLease.class)))
+            .thenThrow(new DuplicateKeyException("leader"))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(ArticleLease.class)))
+            .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+        when(geminiApiClient.summarizeAsync("한국어 제목", "한국어 본문", GeminiPriority.INTERACTIVE))
+            .thenReturn(CompletableFuture.completedFuture(new SummaryResult(List.of("요약"))));
+        stubInsertAssigningId("news-id-11");
+
+        final CrawlNewsResponse response = leased.crawlNews(request, "user@example.com");
+
+        assertThat(response.getProcessedCount()).isEqualTo(1);
+        assertThat(response.getArticles().getFirst().getId()).isEqualTo("news-id-11");
+        verify(newsArticleRepository).findByUrlHashIn(anyCollection());
+        verify(mongoTemplate).remove(any(Query.class), eq(ArticleLease.class));
+    }
+
+    @Test
+    void crawlNews_처리하던_인스턴스가_실패한_뒤_다른_대기자가_임대를_얻으면_다시_기다렸다가_저장된_기사를_사용한다() {
+        final NewsCrawlingService leased = leasedService();
+        final CrawledArticle crawledArticle = CrawledArticle.builder()
+            .url("https://example.com/article-12")
+            .title("한국어 제목")
+            .content("한국어 본문")
+            .language("ko")
+            .build();
+        final NewsArticle stored = NewsArticle.builder()
+            .id("other-waiter-id")
+            .url(crawledArticle.getUrl())
+            .urlHash(UrlCanonicalizer.urlHash(crawledArticle.getUrl()))
+            .originalTitle(crawledArticle.getTitle())
+            .language(crawledArticle.getLanguage())
+            .crawledBy("other@example.com")
+            .build();
+        stubSingleFetch(crawledArticle);
+        // 처리하던 인스턴스가 실패해 임대가 풀렸지만 다른 대기자가 먼저 얻고, 그 대기자가 저장한 뒤에야 이 대기자가 얻는다.
+        when(mongoTemplate.insert(any(ArticleLease.class)))
+            .thenThrow(new DuplicateKeyException("leader"))
+            .thenThrow(new DuplicateKeyException("other waiter"))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(ArticleLease.class)))
+            .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+        when(newsArticleRepository.findByUrlHashIn(anyCollection())).thenReturn(List.of(stored));
+
+        final CrawlNewsResponse response = leased.crawlNews(request, "user@example.com");
+
+        assertThat(response.getProcessedCount()).isZero();
+        assertThat(response.getArticles()).hasSize(1);
+        assertThat(response.getArticles().getFirst().getId()).isEqualTo("other-waiter-id");
+        verify(mongoTemplate, times(3)).insert(any(ArticleLease.class));
+        verify(mongoTemplate).remove(any(Query.class), eq(ArticleLease.class));
+        verify(geminiApiClient, never()).summarizeAsync(anyString(), anyString(), any());
+        verify(newsArticleRepository, never()).insertAllUnordered(anyList());
+    }
+
+    private NewsCrawlingService leasedService() {
+        final NewsProperties properties = new NewsProperties();
+        properties.getSingleFlight().setLeaseEnabled(true);
+        properties.getSingleFlight().setLeasePollInterval(Duration.ofMillis(10));
+        return new NewsCrawlingService(newsCrawler, newsArticleRepository, geminiApiClient, urlHashBloomFilter,
+            new BoundedCrawlExecutor("test", Runnable::run, 4, 100), properties, new ArticleFlightRegistry(),
+            new ArticleLeaseService(mongoTemplate, properties), newsSearchIndex, newsTrendService);
+    }
+
+    private CrawledArticle englishArticle(final String url) {
+        return CrawledArticle.builder()
+            .url(url)
+            .sourceOutlet("Example")
+            .title("Sample Title")
+            .content("Sample content")
+            .language("en")
+            .build();
+    }
+
+    private void stubSingleFetch(final CrawledArticle crawledArticle) {
+        when(newsCrawler.extractArticleLinks(request.getSourceUrl(), 1)).thenReturn(List.of(crawledArticle.getUrl()));
+        when(newsCrawler.fetchArticlesAsync(List.of(crawledArticle.getUrl())))
+            .thenReturn(List.of(CompletableFuture.completedFuture(Optional.of(crawledArticle))));
+    }
+
+    private void stubInsertAssigningId(final String id) {
+        when(newsArticleRepository.insertAllUnordered(anyList())).thenAnswer(invocation -> {
+            final List<NewsArticle> articles = invocation.getArgument(0);
+            return new BulkInsertResult(articles.stream()
+                .map(article -> article.toBuilder().id(id).build())
+                .toList(), List.of());
+        });
     }
 }
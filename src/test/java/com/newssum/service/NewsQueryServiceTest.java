@@ -3,31 +3,46 @@ package com.newssum.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import com.newssum.domain.NewsArticle;
 import com.newssum.dto.news.NewsArticleDetailResponse;
+import com.newssum.dto.news.NewsHistoryCursorResponse;
 import com.newssum.dto.news.NewsHistoryResponse;
+import com.newssum.dto.news.NewsSearchResponse;
 import com.newssum.exception.BusinessException;
 import com.newssum.exception.ErrorCode;
 import com.newssum.repository.NewsArticleRepository;
+import com.newssum.repository.NewsHistoryView;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class NewsQueryServiceTest {
@@ -35,9 +50,17 @@ class NewsQueryServiceTest {
     @Mock
     private NewsArticleRepository newsArticleRepository;
 
-    @InjectMocks
+    @Mock
+    private NewsSearchIndex newsSearchIndex;
+
     private NewsQueryService newsQueryService;
 
+    @BeforeEach
+    void setUp() {
+        newsQueryService = new NewsQueryService(newsArticleRepository,
+            new NewsDetailCache(new NewsProperties(), new SimpleMeterRegistry()), newsSearchIndex);
+    }
+
     @Test
     void getHistory_요청한_페이지와_크기가_정상화되어_기사목록을_반환한다() {
         final String userEmail = "user@example.com";
@@ -52,21 +75,24 @@ class NewsQueryServiceTest {
             .crawledAt(LocalDateTime.parse("2025-11-02T09:00:00"))
             .build();
 
-        when(newsArticleRepository.findByCrawledBy(anyString(), any(Pageable.class)))
+        final NewsHistoryView view = new SpelAwareProxyProjectionFactory().createProjection(NewsHistoryView.class,
+            article);
+        when(newsArticleRepository.findHistoryByCrawledBy(anyString(), any(Pageable.class)))
             .thenAnswer(invocation -> {
                 final Pageable pageable = invocation.getArgument(1);
-                return new PageImpl<>(List.of(article), pageable, 87);
+                return new PageImpl<>(List.of(view), pageable, 87);
             });
 
         final NewsHistoryResponse response = newsQueryService.getHistory(userEmail, 2, 50);
 
         final ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        verify(newsArticleRepository).findByCrawledBy(eq(userEmail), pageableCaptor.capture());
+        verify(newsArticleRepository).findHistoryByCrawledBy(eq(userEmail), pageableCaptor.capture());
         final Pageable pageable = pageableCaptor.getValue();
         assertThat(pageable.getPageNumber()).isEqualTo(2);
         assertThat(pageable.getPageSize()).isEqualTo(20);
         assertThat(pageable.getSort().getOrderFor("crawledAt")).isNotNull();
         assertThat(pageable.getSort().getOrderFor("crawledAt").getDirection()).isEqualTo(Sort.Direction.DESC);
+        assertThat(pageable.getSort().getOrderFor("id")).isNotNull();
 
         assertThat(response.getItems()).hasSize(1);
         assertThat(response.getItems().getFirst().getId()).isEqualTo("article-1");
@@ -75,6 +101,63 @@ class NewsQueryServiceTest {
         assertThat(response.getSize()).isEqualTo(20);
     }
 
+    @Test
+    void getHistoryAfter_한건을_더_읽어_다음_페이지가_있으면_마지막_기사로_커서를_만든다() {
+        final String userEmail = "user@example.com";
+        final List<NewsHistoryView> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            rows.add(historyView("65a1b2c3d4e5f6a7b8c9d0e" + i,
+                LocalDateTime.parse("2025-11-02T09:00:00").minusHours(i)));
+        }
+        when(newsArticleRepository.findHistoryBefore(eq(userEmail), isNull(), isNull(), eq(3))).thenReturn(rows);
+
+        final NewsHistoryCursorResponse first = newsQueryService.getHistoryAfter(userEmail, null, 2);
+
+        assertThat(first.getItems()).extracting("id")
+            .containsExactly("65a1b2c3d4e5f6a7b8c9d0e0", "65a1b2c3d4e5f6a7b8c9d0e1");
+        assertThat(first.isHasNext()).isTrue();
+
+        when(newsArticleRepository.findHistoryBefore(userEmail, LocalDateTime.parse("2025-11-02T08:00:00"),
+            "65a1b2c3d4e5f6a7b8c9d0e1", 3)).thenReturn(List.of(rows.get(2)));
+
+        final NewsHistoryCursorResponse second = newsQueryService.getHistoryAfter(userEmail, first.getNextCursor(), 2);
+
+        assertThat(second.getItems()).extracting("id").containsExactly("65a1b2c3d4e5f6a7b8c9d0e2");
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getHistoryAfter_해석할_수_없는_커서면_조회하지_않고_BusinessException을_던진다() {
+        final String forged = Base64.getUrlEncoder().encodeToString("2025-11-02T09:00:00|$ne".getBytes(StandardCharsets.UTF_8));
+
+        for (final String cursor : List.of("!!!", forged)) {
+            assertThatThrownBy(() -> newsQueryService.getHistoryAfter("user@example.com", cursor, 10))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+        }
+        verify(newsArticleRepository, never()).findHistoryBefore(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void search_색인의_관련도_순서대로_기사를_반환하고_지워진_기사는_건너뛴다() {
+        final String userEmail = "user@example.com";
+        when(newsSearchIndex.search(userEmail, "인공지능", 10)).thenReturn(List.of(
+            new NewsSearchIndex.SearchHit("65a1b2c3d4e5f6a7b8c9d0e2", 3.1),
+            new NewsSearchIndex.SearchHit("65a1b2c3d4e5f6a7b8c9d0e9", 2.0),
+            new NewsSearchIndex.SearchHit("65a1b2c3d4e5f6a7b8c9d0e1", 1.4)));
+        when(newsArticleRepository.findHistoryByIdInAndCrawledBy(List.of("65a1b2c3d4e5f6a7b8c9d0e2",
+            "65a1b2c3d4e5f6a7b8c9d0e9", "65a1b2c3d4e5f6a7b8c9d0e1"), userEmail)).thenReturn(List.of(
+            historyView("65a1b2c3d4e5f6a7b8c9d0e1", LocalDateTime.parse("2025-11-02T09:00:00")),
+            historyView("65a1b2c3d4e5f6a7b8c9d0e2", LocalDateTime.parse("2025-11-01T09:00:00"))));
+
+        final NewsSearchResponse response = newsQueryService.search(userEmail, "인공지능", 0);
+
+        assertThat(response.getItems()).extracting("id")
+            .containsExactly("65a1b2c3d4e5f6a7b8c9d0e2", "65a1b2c3d4e5f6a7b8c9d0e1");
+    }
+
     @Test
     void getDetail_본인기사면_상세정보를_반환한다() {
         final String userEmail = "user@example.com";
@@ -102,6 +185,50 @@ class NewsQueryServiceTest {
         assertThat(detail.getOriginalContent()).isEqualTo("Original content");
     }
 
+    @Test
+    void getDetail_한번_읽은_기사는_캐시에서_반환하고_다른_사용자에게는_조회없이_숨긴다() {
+        final String userEmail = "user@example.com";
+        final NewsArticle article = NewsArticle.builder()
+            .id("article-7")
+            .url("https://example.com/news/7")
+            .translatedTitle("제목")
+            .summary(List.of("요약"))
+            .crawledBy(userEmail)
+            .build();
+        when(newsArticleRepository.findByIdAndCrawledBy("article-7", userEmail)).thenReturn(Optional.of(article));
+
+        final NewsArticleDetailResponse first = newsQueryService.getDetail("article-7", userEmail);
+        final NewsArticleDetailResponse second = newsQueryService.getDetail("article-7", userEmail);
+
+        assertThat(second).isSameAs(first);
+        assertThatThrownBy(() -> newsQueryService.getDetail("article-7", "other@example.com"))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.NEWS_NOT_FOUND);
+        verify(newsArticleRepository, times(1)).findByIdAndCrawledBy(anyString(), anyString());
+    }
+
+    @Test
+    void getDetail_캐시에서_지운_기사는_다시_조회한다() {
+        final String userEmail = "user@example.com";
+        final NewsDetailCache cache = new NewsDetailCache(new NewsProperties(), new SimpleMeterRegistry());
+        newsQueryService = new NewsQueryService(newsArticleRepository, cache, newsSearchIndex);
+        final NewsArticle article = NewsArticle.builder()
+            .id("article-8")
+            .translatedTitle("이전 제목")
+            .crawledBy(userEmail)
+            .build();
+        when(newsArticleRepository.findByIdAndCrawledBy("article-8", userEmail)).thenReturn(Optional.of(article));
+        newsQueryService.getDetail("article-8", userEmail);
+
+        article.updateTranslation("새 제목", "새 본문");
+        new NewsArticleCacheEvictionListener(cache).onAfterSave(
+            new AfterSaveEvent<>(article, new Document("_id", "article-8"), "news_articles"));
+
+        assertThat(newsQueryService.getDetail("article-8", userEmail).getTranslatedTitle()).isEqualTo("새 제목");
+        verify(newsArticleRepository, times(2)).findByIdAndCrawledBy("article-8", userEmail);
+    }
+
     @Test
     void getDetail_존재하지_않으면_BusinessException을_던진다() {
         when(newsArticleRepository.findByIdAndCrawledBy("missing", "user@example.com")).thenReturn(Optional.empty());
@@ -111,4 +238,14 @@ class NewsQueryServiceTest {
             .extracting("errorCode")
             .isEqualTo(ErrorCode.NEWS_NOT_FOUND);
     }
+
+    private static NewsHistoryView historyView(final String id, final LocalDateTime crawledAt) {
+        final NewsArticle article = NewsArticle.builder()
+            .id(id)
+            .url("https://example.com/news/" + id)
+            .summary(List.of("요약"))
+            .crawledAt(crawledAt)
+            .build();
+        return new SpelAwareProxyProjectionFactory().createProjection(NewsHistoryView.class, article);
+    }
 }
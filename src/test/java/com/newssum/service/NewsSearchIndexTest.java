@@ -0,0 +1,171 @@
+package com.newssum.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.client.result.UpdateResult;
+import com.newssum.domain.NewsArticle;
+import com.newssum.domain.SearchCorpusStats;
+import com.newssum.domain.SearchPosting;
+import com.newssum.domain.SearchTermStats;
+
+class NewsSearchIndexTest {
+
+    private MongoTemplate mongoTemplate;
+    private BulkOperations postings;
+    private BulkOperations termStats;
+    private NewsSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        postings = mock(BulkOperations.class);
+        termStats = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkMode.UNORDERED, SearchPosting.class)).thenReturn(postings);
+        when(mongoTemplate.bulkOps(BulkMode.UNORDERED, SearchTermStats.class)).thenReturn(termStats);
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(NewsArticle.class)))
+            .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        searchIndex = new NewsSearchIndex(mongoTemplate, new NewsProperties(), Runnable::run);
+    }
+
+    @Test
+    void termFrequencyScore_같은_출현_횟수면_짧은_기사가_높고_출현이_늘수록_포화된다() {
+        final double shortDoc = NewsSearchIndex.termFrequencyScore(3, 50, 100);
+        final double longDoc = NewsSearchIndex.termFrequencyScore(3, 200, 100);
+        final double many = NewsSearchIndex.termFrequencyScore(1_000, 100, 100);
+
+        assertThat(shortDoc).isGreaterThan(longDoc);
+        assertThat(NewsSearchIndex.termFrequencyScore(1, 100, 100)).isCloseTo(1.0, within(1e-9));
+        assertThat(many).isLessThan(NewsSearchIndex.K1 + 1);
+        assertThat(NewsSearchIndex.idf(10, 1)).isGreaterThan(NewsSearchIndex.idf(10, 9));
+    }
+
+    @Test
+    void search_BM25_점수가_높은_기사부터_반환한다() {
+        when(mongoTemplate.findById("user@example.com", SearchCorpusStats.class))
+            .thenReturn(SearchCorpusStats.builder().id("user@example.com").docCount(10).totalLength(1_000).build());
+        when(mongoTemplate.find(any(Query.class), eq(SearchTermStats.class)))
+            .thenReturn(List.of(SearchTermStats.builder().term("chip").df(2).build()));
+        when(mongoTemplate.find(any(Query.class), eq(SearchPosting.class))).thenReturn(List.of(
+            SearchPosting.builder().articleId("long").tf(3).docLength(200).build(),
+            SearchPosting.builder().articleId("short").tf(3).docLength(50).build()));
+
+        final List<NewsSearchIndex.SearchHit> hits = searchIndex.search("user@example.com", "Chip", 10);
+
+        assertThat(hits).extracting(NewsSearchIndex.SearchHit::articleId).containsExactly("short", "long");
+        assertThat(hits.get(0).score()).isCloseTo(
+            NewsSearchIndex.idf(10, 2) * NewsSearchIndex.termFrequencyScore(3, 50, 100), within(1e-9));
+    }
+
+    @Test
+    void index_통계를_먼저_늘린_뒤_포스팅을_쓴다() {
+        searchIndex.index(List.of(article()));
+
+        final InOrder order = inOrder(termStats, mongoTemplate, postings);
+        order.verify(termStats).execute();
+        order.verify(mongoTemplate).upsert(any(Query.class), any(Update.class), eq(SearchCorpusStats.class));
+        order.verify(postings).execute();
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(SearchPosting.class));
+    }
+
+    @Test
+    void index_포스팅_쓰기가_실패하면_일부_들어간_포스팅과_통계를_되돌린다() {
+        when(postings.execute()).thenThrow(new DataAccessResourceFailureException("down"));
+
+        searchIndex.index(List.of(article()));
+
+        verify(mongoTemplate).remove(any(Query.class), eq(SearchPosting.class));
+        final ArgumentCaptor<Update> corpus = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2))
+            .upsert(any(Query.class), corpus.capture(), eq(SearchCorpusStats.class));
+        assertThat(corpus.getAllValues().get(1).getUpdateObject().toJson()).contains("\"docCount\": -1");
+    }
+
+    @Test
+    void index_색인을_마치면_기사에_색인_기록을_남긴다() {
+        searchIndex.index(List.of(article()));
+
+        final ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateFirst(any(Query.class), updates.capture(), eq(NewsArticle.class));
+        assertThat(updates.getAllValues().get(0).modifies(NewsSearchIndex.CLAIMED_UNTIL_FIELD)).isTrue();
+        assertThat(updates.getAllValues().get(1).modifies(NewsSearchIndex.INDEXED_AT_FIELD)).isTrue();
+    }
+
+    @Test
+    void index_포스팅_쓰기가_실패하면_색인_기록을_남기지_않아_다시_색인하게_한다() {
+        when(postings.execute()).thenThrow(new DataAccessResourceFailureException("down"));
+
+        searchIndex.index(List.of(article()));
+
+        verify(mongoTemplate, times(1)).updateFirst(any(Query.class), any(Update.class), eq(NewsArticle.class));
+    }
+
+    @Test
+    void index_다른_곳에서_맡았거나_이미_색인한_기사는_건너뛴다() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(NewsArticle.class)))
+            .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        searchIndex.index(List.of(article()));
+
+        verify(postings, never()).execute();
+        verify(termStats, never()).execute();
+    }
+
+    @Test
+    void index_이전_시도가_남긴_포스팅을_지운_뒤_다시_더한다() {
+        when(mongoTemplate.findAllAndRemove(any(Query.class), eq(SearchPosting.class))).thenReturn(List.of(
+            SearchPosting.builder().term("chip").articleId("a1").crawledBy("user@example.com").docLength(7).build()));
+
+        searchIndex.index(List.of(article()));
+
+        final ArgumentCaptor<Update> corpus = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).upsert(any(Query.class), corpus.capture(), eq(SearchCorpusStats.class));
+        assertThat(corpus.getAllValues().get(0).getUpdateObject().toJson()).contains("\"docCount\": -1");
+        assertThat(corpus.getAllValues().get(1).getUpdateObject().toJson()).contains("\"docCount\": 1");
+    }
+
+    @Test
+    void remove_지운_포스팅만큼_통계를_줄인다() {
+        when(mongoTemplate.findAllAndRemove(any(Query.class), eq(SearchPosting.class))).thenReturn(List.of(
+            SearchPosting.builder().term("chip").articleId("a1").crawledBy("user@example.com").docLength(7).build(),
+            SearchPosting.builder().term("maker").articleId("a1").crawledBy("user@example.com").docLength(7).build()));
+
+        searchIndex.remove("a1");
+
+        final ArgumentCaptor<Update> corpus = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).upsert(any(Query.class), corpus.capture(), eq(SearchCorpusStats.class));
+        assertThat(corpus.getValue().getUpdateObject().toJson())
+            .contains("\"docCount\": -1").contains("\"totalLength\": -7");
+        verify(termStats).execute();
+    }
+
+    private NewsArticle article() {
+        return NewsArticle.builder()
+            .id("a1")
+            .crawledBy("user@example.com")
+            .translatedTitle("Chip maker")
+            .translatedContent("chip demand grows")
+            .build();
+    }
+}
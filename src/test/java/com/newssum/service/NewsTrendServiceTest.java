@@ -0,0 +1,71 @@
+package com.newssum.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.newssum.domain.NewsArticle;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NewsTrendServiceTest {
+
+    @Test
+    void warmUp_기동_이후_저장된_기사는_다시_읽지_않도록_상한을_둔다() {
+        final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.stream(any(Query.class), eq(NewsArticle.class))).thenReturn(Stream.empty());
+        final NewsTrendService service = new NewsTrendService(mongoTemplate, new NewsProperties(),
+            new SimpleMeterRegistry());
+
+        service.warmUp();
+
+        final ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(query.capture(), eq(NewsArticle.class));
+        final Document range = (Document) query.getValue().getQueryObject().get("crawledAt");
+        assertThat(range).containsKeys("$gte", "$lt");
+    }
+
+    @Test
+    void record_언론사_자리가_차면_한_주_동안_기사가_없던_언론사를_비우고_새_언론사를_집계한다() {
+        final NewsProperties properties = new NewsProperties();
+        properties.getTrends().setMaxOutlets(1);
+        final NewsTrendService service = new NewsTrendService(mock(MongoTemplate.class), properties,
+            new SimpleMeterRegistry());
+        final Instant start = Instant.parse("2026-10-01T00:00:00Z");
+
+        service.record(article("Old Outlet"), start);
+        service.record(article("New Outlet"), start.plus(Duration.ofDays(1)));
+
+        assertThat(service.getTrends(TrendWindow.WEEK, "New Outlet", 10, start.plus(Duration.ofDays(1)))
+            .getKeywords()).isEmpty();
+
+        final Instant later = start.plus(Duration.ofDays(8));
+        service.record(article("New Outlet"), later);
+
+        assertThat(service.getTrends(TrendWindow.WEEK, "New Outlet", 10, later).getKeywords()).isNotEmpty();
+        assertThat(service.getTrends(TrendWindow.WEEK, "Old Outlet", 10, later).getKeywords()).isEmpty();
+        assertThat(service.getTrends(TrendWindow.WEEK, null, 10, later).getKeywords()).isNotEmpty();
+    }
+
+    private NewsArticle article(final String outlet) {
+        return NewsArticle.builder()
+            .sourceOutlet(outlet)
+            .translatedTitle("반도체 수출 증가")
+            .summary(List.of("반도체 수출이 늘었다"))
+            .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.newssum.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.newssum.domain.NewsArticle;
+
+class SearchIndexBackfillTest {
+
+    private MongoTemplate mongoTemplate;
+    private NewsSearchIndex newsSearchIndex;
+    private SearchIndexBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        newsSearchIndex = mock(NewsSearchIndex.class);
+        final NewsProperties properties = new NewsProperties();
+        properties.getSearch().setBackfillBatchSize(2);
+        backfill = new SearchIndexBackfill(mongoTemplate, newsSearchIndex, properties);
+    }
+
+    @Test
+    void backfill_색인_기록이_없는_기사를_id_순으로_나눠_읽어_모두_색인한다() {
+        final NewsArticle first = article();
+        final NewsArticle second = article();
+        final NewsArticle third = article();
+        when(mongoTemplate.find(any(Query.class), eq(NewsArticle.class)))
+            .thenReturn(List.of(first, second))
+            .thenReturn(List.of(third));
+
+        backfill.backfill();
+
+        verify(newsSearchIndex).indexPending(first);
+        verify(newsSearchIndex).indexPending(second);
+        verify(newsSearchIndex).indexPending(third);
+        final ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).find(queries.capture(), eq(NewsArticle.class));
+        assertThat(queries.getAllValues().get(0).getQueryObject()).containsKey(NewsSearchIndex.INDEXED_AT_FIELD)
+            .doesNotContainKey("id");
+        assertThat(queries.getAllValues().get(1).getQueryObject().get("id", Document.class))
+            .containsEntry("$gt", second.getId());
+    }
+
+    @Test
+    void backfill_조회에_실패해도_예외를_던지지_않고_다음_주기로_넘긴다() {
+        when(mongoTemplate.find(any(Query.class), eq(NewsArticle.class)))
+            .thenThrow(new DataAccessResourceFailureException("down"));
+
+        backfill.backfill();
+
+        verify(newsSearchIndex, times(0)).indexPending(any());
+    }
+
+    private NewsArticle article() {
+        return NewsArticle.builder()
+            .id(new ObjectId().toHexString())
+            .crawledBy("user@example.com")
+            .translatedTitle("제목")
+            .build();
+    }
+}
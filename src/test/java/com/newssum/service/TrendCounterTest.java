@@ -0,0 +1,50 @@
+package com.newssum.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class TrendCounterTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-03T12:00:00Z");
+
+    private final TrendCounter counter = new TrendCounter(1024, 4, 10);
+
+    @Test
+    void top_범위_안에서_많이_나온_키워드_순으로_반환한다() {
+        counter.add(Set.of("반도체", "수출"), NOW.minus(Duration.ofMinutes(50)));
+        counter.add(Set.of("반도체"), NOW.minus(Duration.ofMinutes(20)));
+        counter.add(Set.of("반도체", "금리"), NOW);
+
+        assertThat(counter.top(TrendWindow.HOUR, NOW, 2)).containsExactly(
+            new TrendCounter.KeywordCount("반도체", 3),
+            new TrendCounter.KeywordCount("금리", 1));
+    }
+
+    @Test
+    void top_범위를_벗어난_구간은_세지_않고_긴_범위에는_남는다() {
+        counter.add(Set.of("선거"), NOW.minus(Duration.ofHours(3)));
+        counter.add(Set.of("태풍"), NOW.minus(Duration.ofMinutes(5)));
+
+        assertThat(counter.top(TrendWindow.HOUR, NOW, 10)).extracting(TrendCounter.KeywordCount::keyword)
+            .containsExactly("태풍");
+        assertThat(counter.top(TrendWindow.DAY, NOW, 10)).extracting(TrendCounter.KeywordCount::keyword)
+            .containsExactlyInAnyOrder("선거", "태풍");
+        // 고리에서 밀려난 시각의 기사는 무시한다.
+        counter.add(Set.of("지진"), NOW.minus(Duration.ofDays(8)));
+        assertThat(counter.top(TrendWindow.WEEK, NOW, 10)).extracting(TrendCounter.KeywordCount::keyword)
+            .doesNotContain("지진");
+    }
+
+    @Test
+    void extract_조사를_떼고_불용어와_짧은_단어는_버린다() {
+        assertThat(TrendKeywordExtractor.extract("삼성전자가 반도체 투자를 늘린다",
+            List.of("정부는 AI 반도체 지원 확대", "2025년 a 기자")))
+            .containsExactly("삼성전자", "반도체", "투자", "늘린다", "정부", "ai", "지원", "확대", "2025년");
+    }
+}
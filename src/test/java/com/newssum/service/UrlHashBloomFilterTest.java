@@ -0,0 +1,93 @@
+package com.newssum.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.newssum.domain.NewsArticle;
+
+class UrlHashBloomFilterTest {
+
+    private MongoTemplate mongoTemplate;
+    private UrlHashBloomFilter bloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.getCollectionName(NewsArticle.class)).thenReturn("news_articles");
+        bloomFilter = new UrlHashBloomFilter(mongoTemplate, new NewsProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        bloomFilter.shutdown();
+    }
+
+    @Test
+    void mightContain_초기화_전에는_항상_DB_조회로_넘긴다() {
+        assertThat(bloomFilter.mightContain("unknown")).isTrue();
+    }
+
+    @Test
+    void warmUp_url_hash_인덱스만_읽어_저장된_해시를_채운다() {
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("news_articles")))
+            .thenReturn(Stream.of(new Document("url_hash", "a"), new Document("url_hash", "b")));
+
+        bloomFilter.warmUp();
+
+        assertThat(bloomFilter.mightContain("a")).isTrue();
+        assertThat(bloomFilter.mightContain("b")).isTrue();
+        assertThat(bloomFilter.mightContain("c")).isFalse();
+        final ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(query.capture(), eq(Document.class), eq("news_articles"));
+        assertThat(query.getValue().getHint()).isEqualTo("url_hash");
+        assertThat(query.getValue().getQueryObject()).isEmpty();
+    }
+
+    @Test
+    void refresh_초기화_뒤에는_다른_인스턴스가_저장한_해시를_이어서_반영한다() {
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("news_articles")))
+            .thenReturn(Stream.of(new Document("url_hash", "a")))
+            .thenReturn(Stream.of(new Document("url_hash", "c")));
+
+        bloomFilter.refresh();
+        assertThat(bloomFilter.mightContain("c")).isFalse();
+        bloomFilter.refresh();
+
+        assertThat(bloomFilter.mightContain("c")).isTrue();
+        final ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).stream(query.capture(), eq(Document.class), eq("news_articles"));
+        final List<Query> queries = query.getAllValues();
+        assertThat(queries.get(1).getQueryObject()).containsKey("_id");
+        assertThat(queries.get(1).getHint()).isEqualTo("_id_");
+    }
+
+    @Test
+    void refresh_초기화에_실패하면_다음_주기에_다시_시도한다() {
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("news_articles")))
+            .thenThrow(new IllegalStateException("down"))
+            .thenReturn(Stream.of(new Document("url_hash", "a")));
+
+        bloomFilter.refresh();
+        assertThat(bloomFilter.mightContain("z")).isTrue();
+        bloomFilter.refresh();
+
+        assertThat(bloomFilter.mightContain("a")).isTrue();
+        assertThat(bloomFilter.mightContain("z")).isFalse();
+    }
+}
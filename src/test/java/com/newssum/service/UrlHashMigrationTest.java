@@ -0,0 +1,68 @@
+package com.newssum.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.newssum.crawler.UrlCanonicalizer;
+import com.newssum.domain.NewsArticle;
+
+class UrlHashMigrationTest {
+
+    private MongoTemplate mongoTemplate;
+    private UrlHashBloomFilter bloomFilter;
+    private UrlHashMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        bloomFilter = mock(UrlHashBloomFilter.class);
+        when(mongoTemplate.getCollectionName(NewsArticle.class)).thenReturn("news_articles");
+        migration = new UrlHashMigration(mongoTemplate, bloomFilter);
+    }
+
+    @Test
+    void migrate_예전_해시로_저장된_기사만_정규화한_해시로_바꾸고_완료를_기록한다() {
+        final String legacyUrl = "https://example.com/a?utm_source=x";
+        final String canonicalUrl = "https://example.com/b";
+        final String duplicateUrl = "https://example.com/c?utm_medium=y";
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("news_articles"))).thenReturn(Stream.of(
+            new Document("_id", "1").append("url", legacyUrl).append("url_hash", "legacy"),
+            new Document("_id", "2").append("url", canonicalUrl)
+                .append("url_hash", UrlCanonicalizer.urlHash(canonicalUrl)),
+            new Document("_id", "3").append("url", duplicateUrl).append("url_hash", "legacy-dup")));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq("news_articles")))
+            .thenReturn(null)
+            .thenThrow(new DuplicateKeyException("dup"));
+
+        migration.migrate();
+
+        verify(mongoTemplate, times(2)).updateFirst(any(Query.class), any(Update.class), eq("news_articles"));
+        verify(bloomFilter).put(UrlCanonicalizer.urlHash(legacyUrl));
+        verify(bloomFilter, never()).put(UrlCanonicalizer.urlHash(duplicateUrl));
+        verify(mongoTemplate).insert(any(Document.class), eq("migrations"));
+    }
+
+    @Test
+    void migrate_이미_끝낸_재계산은_다시_읽지_않는다() {
+        when(mongoTemplate.exists(any(Query.class), eq("migrations"))).thenReturn(true);
+
+        migration.migrate();
+
+        verify(mongoTemplate, never()).stream(any(Query.class), eq(Document.class), any(String.class));
+    }
+}